@@ -0,0 +1,39 @@
+#!/usr/bin/env bash
+# Builds Amadeus and generates an AppCDS archive from a short training run,
+# then launches Amadeus with the archive for a faster start.
+#
+# Usage: scripts/fast-start.sh [--train-only]
+
+set -e
+
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+BIN="$ROOT/bin"
+JAR="$BIN/amadeus.jar"
+ARCHIVE="$BIN/amadeus.jsa"
+TRAINING="$ROOT/scripts/training-input.txt"
+
+# compile the code and package it, since AppCDS only archives classes loaded from jar files
+rm -rf "$BIN/classes"
+mkdir -p "$BIN/classes"
+javac -encoding UTF-8 -Xlint:none -d "$BIN/classes" $(find "$ROOT/src/main/java" -name "*.java")
+cp "$ROOT"/src/main/java/amadeus/personality/*.txt "$BIN/classes/amadeus/personality/"
+if [ ! -f "$JAR" ] || [ -n "$(find "$BIN/classes" -newer "$JAR" -type f | head -n 1)" ]; then
+    rm -f "$JAR" "$ARCHIVE" # a stale archive is rejected by the JVM anyway
+    jar --create --file "$JAR" --main-class amadeus.Amadeus -C "$BIN/classes" .
+fi
+
+# training run: exercise the common commands in a scratch directory and dump the loaded classes
+if [ ! -f "$ARCHIVE" ]; then
+    SCRATCH="$(mktemp -d)"
+    (cd "$SCRATCH" && java -XX:ArchiveClassesAtExit="$ARCHIVE" -Damadeus.instant=true \
+        -Dfile.encoding=UTF-8 -jar "$JAR" < "$TRAINING" > /dev/null)
+    rm -rf "$SCRATCH"
+    echo "AppCDS archive written to $ARCHIVE"
+fi
+
+if [ "$1" = "--train-only" ]; then
+    exit 0
+fi
+
+# launch with the shared class archive
+exec java -XX:SharedArchiveFile="$ARCHIVE" -Dfile.encoding=UTF-8 -jar "$JAR"
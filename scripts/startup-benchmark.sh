@@ -0,0 +1,50 @@
+#!/usr/bin/env bash
+# Measures the time from launch to exit of Amadeus for an immediate "bye",
+# comparing a cold start (no class archive, text shards only) with a warm start
+# (AppCDS archive and preparsed snapshot).
+#
+# Usage: scripts/startup-benchmark.sh [tasks] [runs]
+
+set -e
+
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+JAR="$ROOT/bin/amadeus.jar"
+ARCHIVE="$ROOT/bin/amadeus.jsa"
+TASKS="${1:-10000}"
+RUNS="${2:-5}"
+
+"$ROOT/scripts/fast-start.sh" --train-only
+
+# generate a legacy task file of the requested size in a scratch directory
+WORK="$(mktemp -d)"
+trap 'rm -rf "$WORK"' EXIT
+for ((i = 1; i <= TASKS; i++)); do
+    case $((i % 3)) in
+    0) echo "T | 0 | Task $i" ;;
+    1) echo "D | 0 | Task $i | $((i % 28 + 1))/$((i % 12 + 1))/2026 0900" ;;
+    2) echo "E | 0 | Task $i | $((i % 28 + 1))/$((i % 12 + 1))/2026 | $((i % 28 + 1))/$((i % 12 + 1))/2027" ;;
+    esac
+done > "$WORK/Memory.txt"
+
+# migrate the legacy file into shards once
+(cd "$WORK" && echo bye | java -Damadeus.instant=true -jar "$JAR" > /dev/null)
+
+# run Amadeus RUNS times and print the average launch-to-exit time in milliseconds
+measure() {
+    local total=0
+    for ((r = 0; r < RUNS; r++)); do
+        [ "$1" = "cold" ] && rm -f "$WORK/memory/snapshot.bin"
+        local start end
+        start=$(date +%s%N)
+        (cd "$WORK" && echo bye | java "${@:2}" -Damadeus.instant=true -jar "$JAR" > /dev/null)
+        end=$(date +%s%N)
+        total=$((total + (end - start) / 1000000))
+        [ "$1" = "cold" ] && rm -f "$WORK/memory/snapshot.bin"
+    done
+    echo "$1 start: $((total / RUNS)) ms (average of $RUNS runs, $TASKS tasks)"
+}
+
+measure cold -Xshare:off
+# run once to leave a fresh snapshot behind for the warm runs
+(cd "$WORK" && echo bye | java -Damadeus.instant=true -jar "$JAR" > /dev/null)
+measure warm -XX:SharedArchiveFile="$ARCHIVE"
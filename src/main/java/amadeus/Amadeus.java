@@ -1,9 +1,17 @@
 package amadeus;
 
 import amadeus.brain.AmadeusException;
+import amadeus.brain.Database;
+import amadeus.brain.Flight;
+import amadeus.brain.Metrics;
+import amadeus.brain.StoreGuard;
 import amadeus.cognition.Command;
 import amadeus.perception.Parser;
 import amadeus.personality.Speech;
+import amadeus.workspace.Changes;
+import amadeus.workspace.Reminders;
+import amadeus.workspace.TaskList;
+import amadeus.workspace.Workspaces;
 
 import java.util.Scanner;
 
@@ -48,11 +56,27 @@ public class Amadeus {
      *   <li>Execute the command.</li>
      *   <li>Check if the command is an exit command.</li>
      * </ol>
+     * Reminders of tasks that are due soon are delivered by {@link amadeus.workspace.Reminders} in the background,
+     * between commands.
+     * Every change to the list is published on the {@link amadeus.workspace.Changes} feed, read on its own threads.
+     * Every command holds the lock of the current list from before it is parsed, after picking up any changes
+     * other processes saved to it.
+     * The parse and execute time of every command is recorded in {@link amadeus.brain.Metrics}
+     * and emitted as {@link amadeus.brain.Flight} events.
+     * Once the loop ends, a preparsed snapshot of the task list is stored to speed up the next start,
+     * and the metrics are dumped if requested.
      */
+    @SuppressWarnings("try") // The lock and the hold are only held, never used, in the command loop
     public static void awaken() {
         // Display Amadeus Login Sequence
         Speech.sayWelcome();
 
+        // Remind the user of tasks that are due soon in the background
+        Reminders.start();
+
+        // Follow the changes to the list on the threads of the change feed
+        Changes.start();
+
         // Keep running until the exit command is given
         while (!isExit) {
             try // Start the command loop
@@ -61,10 +85,32 @@ public class Amadeus {
                 String input = scanner.nextLine();
                 // Print a separating line for clarity
                 Speech.sayLine();
-                // Parse the input into a Command object
-                Command c = Parser.parse(input);
-                // Execute the command
-                c.execute();
+                // Hold the list's lock from before parsing, as some commands compute their results while parsed,
+                // so another process cannot change it between reads and saves, and hold the reminders, so none
+                // is delivered in the middle of the command
+                Command c;
+                long parsed;
+                try (StoreGuard.Lock lock = Database.lock(); Reminders.Hold hold = Reminders.hold()) {
+                    TaskList.refresh();
+
+                    // Parse the input into a Command object
+                    Flight.ParseEvent parseEvent = new Flight.ParseEvent();
+                    parseEvent.begin();
+                    long start = System.nanoTime();
+                    c = Parser.parse(input);
+                    parsed = System.nanoTime();
+                    Metrics.recordParse(parsed - start);
+                    parseEvent.command = c.getClass().getSimpleName();
+                    parseEvent.commit();
+
+                    // Execute the command
+                    Flight.CommandEvent commandEvent = new Flight.CommandEvent();
+                    commandEvent.begin();
+                    c.execute();
+                    commandEvent.command = c.getClass().getSimpleName();
+                    commandEvent.commit();
+                }
+                Metrics.recordExecute(c.getClass().getSimpleName(), System.nanoTime() - parsed);
                 // Check if the user wants to exit
                 isExit = c.isBye();
 
@@ -79,6 +125,17 @@ public class Amadeus {
                 }
             }
         }
+
+        // Let the subscribers of the change feed catch up before the metrics are dumped
+        Changes.stop();
+
+        // Store a preparsed snapshot of every loaded task list for a faster next start
+        try {
+            Workspaces.saveAll();
+            Metrics.dump();
+        } catch (AmadeusException e) {
+            System.out.println(e.getMessage());
+        }
     }
 
     /**
@@ -96,6 +96,21 @@ public class AmadeusException extends Exception {
                 Time travel isn't possible... yet.""");
     }
 
+    /**
+     * Creates an exception indicating an invalid repetition rule.
+     * <p>
+     * This exception is thrown when the user enters an unknown frequency after {@code /every}.
+     * </p>
+     *
+     * @return An {@code AmadeusException} indicating the correct repetition rule format.
+     */
+    public static AmadeusException invalidRecurrence() {
+        return new AmadeusException("""
+                ⚠️ \033[31;1mInvalid Repetition!\033[0m
+                The correct format is: \033[1m/every <day/week/month> (Optional: /until <date>)\033[0m.
+                For example: "\033[3;32mevent Standup /from 1/1/2026 9am /to 1/1/2026 9:15am /every day\033[0m".""");
+    }
+
     /**
      * Creates an exception indicating an invalid check command format.
      * <p>
@@ -111,6 +126,162 @@ public class AmadeusException extends Exception {
                 For example: "\033[3;32mcheck before 31/12/2025\033[0m".""");
     }
 
+    /**
+     * Creates an exception indicating an invalid sort key.
+     * <p>
+     * This exception is thrown when the user lists or checks tasks sorted by a key that does not exist.
+     * </p>
+     *
+     * @return An {@code AmadeusException} indicating the sort keys available.
+     */
+    public static AmadeusException invalidSort() {
+        return new AmadeusException("""
+                ⚠️ \033[31;1mInvalid SORT Format!\033[0m
+                The correct format is: \033[1mlist sort:<due/name/status>\033[0m, also at the end of a check.
+                For example: "\033[3;32mlist sort:due\033[0m" or "\033[3;32mcheck after 1/1/2026 sort:name\033[0m".""");
+    }
+
+    /**
+     * Creates an exception indicating an invalid calendar command format.
+     * <p>
+     * This exception is thrown when the user asks for the calendar of a month that cannot be parsed.
+     * </p>
+     *
+     * @return An {@code AmadeusException} indicating the correct calendar command format.
+     */
+    public static AmadeusException invalidCalendar() {
+        return new AmadeusException("""
+                ⚠️ \033[31;1mInvalid CALENDAR Format!\033[0m
+                The correct format is: \033[1mcalendar <month>\033[0m, or just \033[1mcalendar\033[0m for this month.
+                For example: "\033[3;32mcalendar 12/2026\033[0m" or "\033[3;32mcalendar Dec 2026\033[0m".""");
+    }
+
+    /**
+     * Creates an exception indicating an invalid {@code as of} format.
+     * <p>
+     * This exception is thrown when the user asks for the archive as of a past time, or gives no date.
+     * </p>
+     *
+     * @return An {@code AmadeusException} indicating the correct {@code as of} format.
+     */
+    public static AmadeusException invalidHistory() {
+        return new AmadeusException("""
+                ⚠️ \033[31;1mInvalid AS OF Format!\033[0m
+                The correct format is: \033[1mlist as of <date>\033[0m or \033[1mfind <keyword> as of <date>\033[0m.
+                For example: "\033[3;32mlist as of 1/1/2026\033[0m", "\033[3;32mfind report as of 1/1/2026\033[0m".""");
+    }
+
+    /**
+     * Creates an exception indicating that no history is kept for the time asked for.
+     * <p>
+     * This exception is thrown when the user asks for the list as of a time before its history starts.
+     * </p>
+     *
+     * @param earliest the date the history starts, or {@code null} if there is no history yet.
+     * @return An {@code AmadeusException} indicating when the history starts.
+     */
+    public static AmadeusException noHistory(String earliest) {
+        return new AmadeusException(String.format("""
+                ⚠️ \033[31;1mNo History Kept Then!\033[0m
+                The history of this list starts from \033[1m%s\033[0m. Please pick a later date.""",
+                earliest == null ? "its next change" : earliest));
+    }
+
+    /**
+     * Creates an exception indicating an invalid free command format.
+     * <p>
+     * This exception is thrown when the user enters a free command without a valid slot length.
+     * </p>
+     *
+     * @return An {@code AmadeusException} indicating the correct free command format.
+     */
+    public static AmadeusException invalidFree() {
+        return new AmadeusException("""
+                ⚠️ \033[31;1mInvalid FREE Format!\033[0m
+                The correct format is: \033[1mfree <length> (Optional: /until <date/time>)\033[0m.
+                For example: "\033[3;32mfree 1h30m /until 31/12/2025\033[0m".""");
+    }
+
+    /**
+     * Creates an exception indicating an invalid upcoming command format.
+     * <p>
+     * This exception is thrown when the number of tasks to show is not a positive number.
+     * </p>
+     *
+     * @return An {@code AmadeusException} indicating the correct upcoming command format.
+     */
+    public static AmadeusException invalidUpcoming() {
+        return new AmadeusException("""
+                ⚠️ \033[31;1mInvalid UPCOMING Format!\033[0m
+                The correct format is: \033[1mupcoming (Optional: <number of tasks>)\033[0m.
+                For example: "\033[3;32mupcoming 10\033[0m".""");
+    }
+
+    /**
+     * Creates an exception indicating an invalid import or export command.
+     * <p>
+     * This exception is thrown when no file is given, or the file is neither a CSV nor a JSON Lines file.
+     * </p>
+     *
+     * @return An {@code AmadeusException} indicating the correct import and export command format.
+     */
+    public static AmadeusException invalidTransfer() {
+        return new AmadeusException("""
+                ⚠️ \033[31;1mInvalid IMPORT/EXPORT Format!\033[0m
+                The correct format is: \033[1mimport <file>\033[0m or \033[1mexport <file>\033[0m (.csv or .jsonl).
+                For example: "\033[3;32mexport tasks.csv\033[0m".""");
+    }
+
+    /**
+     * Creates an exception indicating an invalid list name.
+     * <p>
+     * This exception is thrown when the user switches lists without a name, or with a name that is not
+     * made of up to 32 lower-case letters, digits, hyphens and underscores.
+     * </p>
+     *
+     * @return An {@code AmadeusException} indicating the correct use command format.
+     */
+    public static AmadeusException invalidListName() {
+        return new AmadeusException("""
+                ⚠️ \033[31;1mInvalid USE Format!\033[0m
+                The correct format is: \033[1muse <list name>\033[0m (letters, digits, - and _).
+                For example: "\033[3;32muse work\033[0m".""");
+    }
+
+    /**
+     * Creates an exception indicating an invalid query.
+     * <p>
+     * This exception is thrown when the user enters a query without conditions, with an unknown key,
+     * or with a value its key does not accept.
+     * </p>
+     *
+     * @return An {@code AmadeusException} indicating the correct query command format.
+     */
+    public static AmadeusException invalidQuery() {
+        return new AmadeusException("""
+                ⚠️ \033[31;1mInvalid QUERY Format!\033[0m
+                The correct format is: \033[1mquery (Optional: explain) <key:value> ...\033[0m, with the keys
+                type:deadline/event/todo, done:yes/no, name:<keyword>, before:<date/time> and after:<date/time>.
+                For example: "\033[3;32mquery type:deadline done:no name:report before:1/1/2026\033[0m".""");
+    }
+
+    /**
+     * Creates an exception indicating an invalid profile command.
+     * <p>
+     * This exception is thrown when the user enters a profile command with an incorrect format,
+     * or tries to start or stop a recording in the wrong state.
+     * </p>
+     *
+     * @param reason A short explanation of what went wrong.
+     * @return An {@code AmadeusException} indicating the correct profile command format.
+     */
+    public static AmadeusException invalidProfile(String reason) {
+        return new AmadeusException(String.format("""
+                ⚠️ \033[31;1mInvalid PROFILE Command!\033[0m
+                %s
+                The correct format is: \033[1mprofile start\033[0m or \033[1mprofile stop\033[0m.""", reason));
+    }
+
     //endregion
 
     //region Index & Date Number Exceptions
@@ -160,6 +331,38 @@ public class AmadeusException extends Exception {
                 Perhaps it does in another timeline.""");
     }
 
+    /**
+     * Creates an exception indicating an unknown task ID.
+     * <p>
+     * This exception is thrown when the user selects a task by an ID that no task in the current list has.
+     * </p>
+     *
+     * @param id the ID provided by the user.
+     * @return An {@code AmadeusException} indicating that the task ID was not found.
+     */
+    public static AmadeusException invalidId(long id) {
+        return new AmadeusException(String.format("""
+                ⚠️ \033[31;1mUnknown Task ID!\033[0m
+                No task in this list has the ID #%d. It may have been deleted.
+                The ID of a task is shown when it is saved.""", id));
+    }
+
+    /**
+     * Creates an exception indicating that a bulk selection matched no tasks.
+     * <p>
+     * This exception is thrown when a selection such as {@code done} or {@code find <keyword>}
+     * is given to `mark`, `unmark` or `delete` but no task satisfies it.
+     * </p>
+     *
+     * @return An {@code AmadeusException} indicating that no tasks were selected.
+     */
+    public static AmadeusException emptySelection() {
+        return new AmadeusException("""
+                ⚠️ \033[31;1mNo Tasks Selected!\033[0m
+                None of your tasks match that selection.
+                Nothing to do here... which is rare for you.""");
+    }
+
     /**
      * Creates an exception indicating an invalid date format.
      * <p>
@@ -208,6 +411,48 @@ public class AmadeusException extends Exception {
                 Please check the file and try again.""", file));
     }
 
+    /**
+     * Creates an exception for errors while reading or writing the task archive.
+     * This is thrown when an IOException occurs while accessing the compressed archive file.
+     *
+     * @param file The error message from the IOException.
+     * @return An AmadeusException with a message indicating the error while accessing the archive.
+     */
+    public static AmadeusException errorArchivingTask(String file) {
+        return new AmadeusException(String.format("""
+                ⚠️ \033[31;1mError Accessing Archive!\033[0m
+                Something went wrong while accessing the task archive: %s
+                Your active tasks are safe. Please check the file and try again.""", file));
+    }
+
+    /**
+     * Creates an exception for errors while recording the history of a task list.
+     * This is reported rather than thrown, as the tasks themselves were already saved.
+     *
+     * @param file The error message from the IOException.
+     * @return An AmadeusException with a message indicating the error while recording the history.
+     */
+    public static AmadeusException errorSavingHistory(String file) {
+        return new AmadeusException(String.format("""
+                ⚠️ \033[31;1mError Recording History!\033[0m
+                Something went wrong while recording the history of your tasks: %s
+                Your tasks are saved, but may be missing when seen as of this time.""", file));
+    }
+
+    /**
+     * Creates an exception for errors while importing or exporting tasks.
+     * This is thrown when an IOException occurs while reading or writing the CSV or JSON Lines file.
+     *
+     * @param file The error message from the IOException.
+     * @return An AmadeusException with a message indicating the error while transferring tasks.
+     */
+    public static AmadeusException errorTransferringTasks(String file) {
+        return new AmadeusException(String.format("""
+                ⚠️ \033[31;1mError Transferring Tasks!\033[0m
+                Something went wrong while importing or exporting tasks: %s
+                Your task list is unchanged. Please check the file and try again.""", file));
+    }
+
     /**
      * Creates an exception for an unrecognized task type found in the saved file.
      *
@@ -231,6 +476,20 @@ public class AmadeusException extends Exception {
                 String.format("⚠️ \033[31;1mError parsing task\033[0m from line: '%s'. Skipping.", line));
     }
 
+    /**
+     * Creates an exception for errors while writing a diagnostic report, such as metrics or a recording.
+     * This is thrown when an IOException occurs while writing the report file.
+     *
+     * @param file The error message from the IOException.
+     * @return An AmadeusException with a message indicating the error while writing the report.
+     */
+    public static AmadeusException errorWritingReport(String file) {
+        return new AmadeusException(String.format("""
+                ⚠️ \033[31;1mError Writing Report!\033[0m
+                Something went wrong while writing the report to the file: %s
+                Your tasks are unaffected. Please check the file and try again.""", file));
+    }
+
     /**
      * Creates an exception for errors while loading the logo.
      * This is thrown when an IOException occurs during the logo load operation.
@@ -0,0 +1,311 @@
+package amadeus.brain;
+
+import amadeus.perception.DateConverter;
+import amadeus.workspace.Deadline;
+import amadeus.workspace.Event;
+import amadeus.workspace.Recurrence;
+import amadeus.workspace.Task;
+import amadeus.workspace.ToDo;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Scanner;
+import java.util.function.Predicate;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Manages the cold storage of completed tasks in the Amadeus application.
+ * <p>
+ * Completed {@link Deadline} and {@link Event} tasks whose date lies more than
+ * {@link #ARCHIVE_AFTER_DAYS} days in the past are moved out of the active task list into
+ * a compressed, append-only archive file. Each archiving run appends a new GZIP member to
+ * {@link #ARCHIVE_NAME}, so existing archived data is never rewritten. If the list cannot be saved
+ * without the archived tasks, the new member is cut off again with {@link #rollback(ArrayList, ArrayList)},
+ * so the tasks are never both in the list and in the archive.
+ * </p>
+ * <p>
+ * Only a compact summary (the number of archived tasks of each type) is kept in memory.
+ * The archive itself is read lazily, one line at a time, when the user queries it with
+ * {@code find --archive} or {@code check --archive}.
+ * </p>
+ * <p>
+ * Every task list has its own archive in the directory of its store, and all methods work on the
+ * archive of the current store, so each list only ever finds its own archived tasks.
+ * </p>
+ */
+public class Archive {
+    /**
+     * The name of the compressed archive inside the directory of every store.
+     */
+    public static final String ARCHIVE_NAME = "archive.gz";
+
+    /**
+     * The name of the archive summary inside the directory of every store, holding the archived task counts.
+     */
+    public static final String SUMMARY_NAME = "archive.summary";
+
+    /**
+     * The number of days after its date that a completed task is moved to the archive.
+     */
+    public static final int ARCHIVE_AFTER_DAYS = 30;
+
+    /**
+     * Command-line style flag selecting the archive in {@code find} and {@code check}.
+     */
+    public static final String ARCHIVE_FLAG = "--archive";
+
+    /**
+     * Number of archived tasks of each type, by store path, read from the summary on first use.
+     * Index 0: Deadlines, Index 1: Events, Index 2: ToDos.
+     */
+    private static final Map<String, int[]> archivedCounts = new HashMap<>();
+
+    /**
+     * The length of the archive before the latest archiving run, or -1 if there is no run to roll back.
+     */
+    private static long rollbackLength = -1;
+
+
+    /**
+     * Returns the total number of tasks in the archive of the current list.
+     *
+     * @return the number of archived tasks.
+     */
+    public static int getArchivedCount() {
+        int[] counts = countsOf(Database.getStorePath());
+        return counts[0] + counts[1] + counts[2];
+    }
+
+
+    /**
+     * Moves stale completed tasks from the given list into the archive.
+     * <p>
+     * A task is stale if it is complete and its due date (for a {@link Deadline}) or end date
+     * (for an {@link Event}) is more than {@link #ARCHIVE_AFTER_DAYS} days before {@code now}.
+     * {@link ToDo} tasks carry no date and always stay in the active list.
+     * The stale tasks are appended to the archive before being removed from the list, so a
+     * failed write leaves the list untouched. The caller must then save the list, and roll the run
+     * back if the save fails.
+     * </p>
+     *
+     * @param tasks the active task list; must not be {@code null}.
+     * @param now   the current date-time used to decide which tasks are stale.
+     * @return the tasks moved into the archive; never {@code null}.
+     * @throws AmadeusException if an error occurs while writing to the archive.
+     */
+    public static ArrayList<Task> archiveStale(ArrayList<Task> tasks, LocalDateTime now) throws AmadeusException {
+        LocalDateTime cutoff = now.minusDays(ARCHIVE_AFTER_DAYS);
+
+        // Collect the stale tasks
+        ArrayList<Task> stale = new ArrayList<>();
+        for (Task task : tasks) {
+            if (isStale(task, cutoff)) {
+                stale.add(task);
+            }
+        }
+        if (stale.isEmpty()) {
+            return stale;
+        }
+
+        // Append them to the archive as a new compressed member
+        rollbackLength = archiveFile().length(); // 0 if there is no archive yet
+        append(stale);
+
+        // Only remove them from the active list once they are safely archived
+        stale.forEach(Database::markDirty);
+        tasks.removeIf(task -> isStale(task, cutoff));
+        return stale;
+    }
+
+
+    /**
+     * Takes back the latest archiving run, after the list could not be saved without its tasks.
+     * <p>
+     * The archive is cut back to its length before the run and the summary counts are restored, and
+     * the tasks are put back into the list in list order, so they stay in the shards that still hold
+     * them and are archived exactly once by a later run.
+     * </p>
+     *
+     * @param tasks the active task list; must not be {@code null}.
+     * @param stale the tasks moved into the archive by the run; must not be {@code null}.
+     * @throws AmadeusException if an error occurs while cutting back the archive.
+     */
+    public static void rollback(ArrayList<Task> tasks, ArrayList<Task> stale) throws AmadeusException {
+        if (stale.isEmpty() || rollbackLength < 0) {
+            return;
+        }
+
+        // Put the tasks back first, so they are never lost even if the archive cannot be cut back
+        tasks.addAll(stale);
+        tasks.sort(Comparator.comparingInt(Database::sectionOf).thenComparingLong(Task::getId));
+
+        try (FileChannel channel = FileChannel.open(archiveFile().toPath(), StandardOpenOption.WRITE)) {
+            channel.truncate(rollbackLength);
+        } catch (IOException e) {
+            // Error Writing Archive
+            throw AmadeusException.errorArchivingTask(e.getMessage());
+        } finally {
+            rollbackLength = -1;
+        }
+        int[] counts = countsOf(Database.getStorePath());
+        for (Task task : stale) {
+            counts[Database.sectionOf(task)]--;
+        }
+        writeSummary();
+    }
+
+
+    /**
+     * Scans the archive and returns every archived task matching the given filter.
+     * <p>
+     * The archive is decompressed and parsed one line at a time, so only the matching
+     * tasks are held in memory. Lines that cannot be parsed are skipped.
+     * </p>
+     *
+     * @param filter the condition archived tasks must satisfy; must not be {@code null}.
+     * @return the matching archived tasks, in archive order; never {@code null}.
+     * @throws AmadeusException if an error occurs while reading the archive.
+     */
+    public static ArrayList<Task> search(Predicate<Task> filter) throws AmadeusException {
+        ArrayList<Task> matches = new ArrayList<>();
+        File file = archiveFile();
+        if (!file.exists()) {
+            return matches; // Nothing archived yet
+        }
+
+        // GZIPInputStream reads every appended member in turn
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(new FileInputStream(file)), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                try {
+                    Task task = Database.parseSave(line);
+                    if (filter.test(task)) {
+                        matches.add(task);
+                    }
+                } catch (AmadeusException e) {
+                    // Skip lines that cannot be parsed
+                }
+            }
+        } catch (IOException e) {
+            // Error Reading Archive
+            throw AmadeusException.errorArchivingTask(e.getMessage());
+        }
+        return matches;
+    }
+
+
+    /**
+     * Checks whether a task is complete and dated before the archive cutoff.
+     *
+     * @param task   the task to check.
+     * @param cutoff the date-time before which completed tasks are archived.
+     * @return {@code true} if the task should be archived.
+     */
+    private static boolean isStale(Task task, LocalDateTime cutoff) {
+        if (!task.getDone()) {
+            return false;
+        }
+
+        LocalDateTime date = null;
+        if (task.isRecurring()) {
+            date = Recurrence.seriesEnd(task); // Only once the whole series is over
+        } else if (task instanceof Deadline) {
+            date = DateConverter.toDateTime(((Deadline) task).getBy());
+        } else if (task instanceof Event) {
+            date = DateConverter.toDateTime(((Event) task).getTo());
+        }
+        return date != null && date.isBefore(cutoff);
+    }
+
+
+    /**
+     * Appends the given tasks to the archive as a new GZIP member and updates the summary.
+     *
+     * @param tasks the tasks to append; must not be {@code null}.
+     * @throws AmadeusException if an error occurs while writing to the archive.
+     */
+    private static void append(ArrayList<Task> tasks) throws AmadeusException {
+        File file = archiveFile();
+        int[] counts = countsOf(Database.getStorePath());
+        if (!file.getParentFile().exists() && !file.getParentFile().mkdirs()) {
+            // A legacy list is archived before its first save creates the directory of its store
+            throw AmadeusException.errorArchivingTask(file.getParent());
+        }
+        try (Writer writer = new OutputStreamWriter(
+                new GZIPOutputStream(new FileOutputStream(file, true)), StandardCharsets.UTF_8)) {
+            for (Task task : tasks) {
+                writer.write(task.toFileFormat() + "\n");
+                counts[Database.sectionOf(task)]++;
+            }
+        } catch (IOException e) {
+            // Error Writing Archive
+            throw AmadeusException.errorArchivingTask(e.getMessage());
+        }
+
+        // Persist the compact summary alongside the archive
+        writeSummary();
+    }
+
+
+    /**
+     * Writes the archived task counts of the current list to its summary file.
+     *
+     * @throws AmadeusException if an error occurs while writing the summary.
+     */
+    private static void writeSummary() throws AmadeusException {
+        int[] counts = countsOf(Database.getStorePath());
+        try (FileWriter writer = new FileWriter(new File(Database.getStorePath(), SUMMARY_NAME))) {
+            writer.write(counts[0] + " " + counts[1] + " " + counts[2] + "\n");
+        } catch (IOException e) {
+            throw AmadeusException.errorArchivingTask(e.getMessage());
+        }
+    }
+
+
+    /**
+     * Returns the archive of the current list.
+     *
+     * @return the archive file inside the directory of the current store.
+     */
+    private static File archiveFile() {
+        return new File(Database.getStorePath(), ARCHIVE_NAME);
+    }
+
+
+    /**
+     * Returns the archived task counts of a store, reading its summary on first use.
+     *
+     * @param path the directory of the store.
+     * @return the counts of archived Deadlines, Events and ToDos, updated in place.
+     */
+    private static int[] countsOf(String path) {
+        return archivedCounts.computeIfAbsent(path, key -> {
+            int[] counts = new int[3];
+            try (Scanner scanner = new Scanner(new File(key, SUMMARY_NAME))) {
+                for (int i = 0; i < counts.length && scanner.hasNextInt(); i++) {
+                    counts[i] = scanner.nextInt();
+                }
+            } catch (IOException e) {
+                // No archive yet, all counts stay at zero
+            }
+            return counts;
+        });
+    }
+}
@@ -3,61 +3,458 @@ package amadeus.brain;
 import amadeus.perception.DateConverter;
 import amadeus.workspace.Deadline;
 import amadeus.workspace.Event;
+import amadeus.workspace.Recurrence;
 import amadeus.workspace.Task;
 import amadeus.workspace.ToDo;
 
 import java.io.File;
 import java.io.FileNotFoundException;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.WatchKey;
+import java.time.YearMonth;
+import java.time.temporal.TemporalAccessor;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Scanner;
+import java.util.Set;
+import java.util.TreeMap;
 
 /**
  * Manages the storage and retrieval of tasks in the Amadeus application.
  * <p>
- * This class handles saving tasks to a file and loading tasks from a file,
+ * This class handles saving tasks to files and loading tasks from files,
  * ensuring data persistence across application sessions. It supports three types of tasks:
  * {@link ToDo}, {@link Deadline}, and {@link Event}.
  * </p>
+ * <p>
+ * Tasks are stored in shards inside a directory: one shard for all ToDos, and one shard
+ * per month for Deadlines (by due date) and Events (by start date). A small manifest lists the
+ * shards and their sizes. Callers record which tasks changed with {@link #markDirty(Task)}, so
+ * {@link #save(ArrayList)} only rewrites the shards containing those tasks, while
+ * {@link #load()} reads all shards in parallel, or a preparsed {@link Snapshot} when it is up to date.
+ * </p>
+ * <p>
+ * Every shard and the manifest are written to a temporary file and renamed into place, so a crash
+ * in the middle of a save leaves each file with either its old or its new contents, never a torn one.
+ * </p>
+ * <p>
+ * A legacy single-file store at {@link #FILE_PATH} is loaded and migrated into shards
+ * automatically when no manifest exists yet, and renamed to {@link #LEGACY_BACKUP_PATH} once the
+ * migration is saved.
+ * </p>
+ * <p>
+ * Every task list is kept in its own directory, described by a {@link Store}. All methods work on the
+ * current store, which {@link amadeus.workspace.Workspaces} switches when the user changes lists.
+ * </p>
+ * <p>
+ * Several processes may share a store. Loads and saves hold the store's lock from {@link StoreGuard},
+ * and every save bumps a generation counter kept in the manifest, which also records the generation
+ * each shard was last written in. {@link #reload()} compares them with the generations last seen by
+ * this process and reads back only the shards another process rewrote. The manifest also keeps the
+ * identifier of the next task, so the identifiers of deleted tasks are never handed out again.
+ * </p>
+ * <p>
+ * Every save also records the tasks it changed in the {@link History} of the store, so the list can
+ * be seen as it was at any time since.
+ * </p>
  */
 public class Database {
     /**
-     * The file path where tasks are saved and loaded from.
+     * The legacy file path where tasks were saved before sharding.
      * <p>
      * The default file path is {@code "Memory.txt"}.
      * </p>
      */
     public static final String FILE_PATH = "Memory.txt";
 
+    /**
+     * The name the legacy file is renamed to once its tasks are saved in shards.
+     */
+    public static final String LEGACY_BACKUP_PATH = "Memory.txt.migrated";
+
+    /**
+     * The directory holding the task shards and their manifest for the default list.
+     */
+    public static final String STORE_PATH = "memory";
+
+    /**
+     * The name of the manifest file listing every shard and its task count.
+     */
+    public static final String MANIFEST_NAME = "manifest.txt";
+
+    /**
+     * The shard key shared by all {@link ToDo} tasks.
+     */
+    private static final String TODO_SHARD = "todo";
+
+    /**
+     * The prefix of the manifest line holding the generation of the store.
+     */
+    private static final String GENERATION_PREFIX = "#generation ";
+
+    /**
+     * The prefix of the manifest line holding the identifier of the next task of the store.
+     */
+    private static final String NEXT_ID_PREFIX = "#next-id ";
+
+    /**
+     * The store that {@link #load()} and {@link #save(ArrayList)} currently work on.
+     */
+    private static Store store = new Store(STORE_PATH);
+
+    /**
+     * The directory of one task list, with the state of its shards.
+     */
+    public static class Store {
+        private final String path;
+
+        /**
+         * Shards currently present on disk, mapped to the number of tasks they hold.
+         */
+        private final Map<String, Integer> shards = new TreeMap<>();
+
+        /**
+         * Shards that changed since the last save and must be rewritten.
+         */
+        private final Set<String> dirtyShards = new HashSet<>();
+
+        /**
+         * Tasks that changed since the last save, by identifier, for the {@link History} of the store.
+         */
+        private final Map<Long, Task> changedTasks = new HashMap<>();
+
+        /**
+         * Whether every shard must be rewritten on the next save.
+         */
+        private boolean isAllDirty = false;
+
+        /**
+         * Whether the tasks were loaded from the legacy file, which is retired by the next save.
+         */
+        private boolean isMigrating = false;
+
+        /**
+         * The generation each shard was last written in, as last seen by this process.
+         */
+        private final Map<String, Long> versions = new HashMap<>();
+
+        /**
+         * The generation of the store as last seen by this process; every save increments it.
+         */
+        private long generation;
+
+        /**
+         * The identifier of the next task of the store, so identifiers of deleted tasks are never handed out again.
+         */
+        private long nextId = 1;
+
+        /**
+         * Whether a file of the store may have changed since the manifest was last read.
+         */
+        volatile boolean isChanged = true;
+
+        /**
+         * The key watching the directory of the store, or {@code null} if it is not watched.
+         */
+        WatchKey watchKey;
+
+        /**
+         * Constructs a store for a directory, which is created on the first save.
+         *
+         * @param path the directory holding the shards and their manifest; must not be {@code null}.
+         */
+        public Store(String path) {
+            this.path = path;
+        }
+
+        /**
+         * Returns the directory of the store.
+         *
+         * @return the directory holding the shards and their manifest.
+         */
+        public String getPath() {
+            return path;
+        }
+    }
+
+
+    //region Stores
+
+    /**
+     * Returns the store that loads and saves currently work on.
+     *
+     * @return the current store.
+     */
+    public static Store getStore() {
+        return store;
+    }
+
+
+    /**
+     * Makes the given store the one that loads and saves work on.
+     *
+     * @param store the store to use; must not be {@code null}.
+     */
+    public static void setStore(Store store) {
+        Database.store = store;
+    }
+
+
+    /**
+     * Returns the directory of the current store.
+     *
+     * @return the directory holding the current shards and their manifest.
+     */
+    public static String getStorePath() {
+        return store.path;
+    }
+
 
     /**
-     * Saves the current list of tasks to a file.
+     * Takes the lock of the current store, so no other process reads or writes it until it is closed.
+     * The loads and saves of the store take the lock themselves; commands hold it to make a read and the
+     * following write atomic.
+     *
+     * @return the lock, to be closed when done.
+     */
+    public static StoreGuard.Lock lock() {
+        return StoreGuard.lock(store.path);
+    }
+
+
+    /**
+     * Returns the identifier of the next task of the current store, as last loaded, read or reserved.
+     *
+     * @return the identifier to assign to the next task.
+     */
+    public static long getNextId() {
+        return store.nextId;
+    }
+
+
+    /**
+     * Records that every identifier below the given one was handed out in the current store, to be
+     * kept in the manifest by the next save.
+     *
+     * @param nextId the identifier to assign to the next task.
+     */
+    public static void reserveIds(long nextId) {
+        store.nextId = Math.max(store.nextId, nextId);
+    }
+
+
+    /**
+     * Counts the tasks stored in a directory from its manifest alone, without loading any shard.
+     *
+     * @param path the directory of the store.
+     * @return the number of tasks in the store, or 0 if it has no manifest.
+     */
+    public static int countTasks(String path) {
+        int count = 0;
+        try (Scanner scanner = new Scanner(new File(path, MANIFEST_NAME), StandardCharsets.UTF_8)) {
+            while (scanner.hasNextLine()) {
+                String[] entry = scanner.nextLine().trim().split(" ");
+                if (!entry[0].startsWith("#")) {
+                    count += Integer.parseInt(entry[1]);
+                }
+            }
+        } catch (IOException | NumberFormatException | IndexOutOfBoundsException e) {
+            // A missing or damaged manifest counts as empty
+        }
+        return count;
+    }
+    //endregion
+
+
+    //region Dirty Tracking
+
+    /**
+     * Records that the given task was added, updated or removed, so that its shard
+     * is rewritten on the next {@link #save(ArrayList)}.
+     *
+     * @param task the changed task; must not be {@code null}.
+     */
+    public static void markDirty(Task task) {
+        store.dirtyShards.add(shardKey(task));
+        store.changedTasks.put(task.getId(), task);
+    }
+
+
+    /**
+     * Records that every shard must be rewritten on the next {@link #save(ArrayList)},
+     * for example after the whole task list has been cleared.
+     */
+    public static void markAllDirty() {
+        store.isAllDirty = true;
+    }
+
+
+    /**
+     * Returns whether the store has changes that have not been written yet.
+     *
+     * @return {@code true} if the next {@link #save(ArrayList)} has pending shard writes.
+     */
+    public static boolean hasPendingChanges() {
+        return store.isAllDirty || !store.dirtyShards.isEmpty();
+    }
+
+
+    /**
+     * Returns the key of the shard a task is stored in.
+     * <p>
+     * ToDos share the {@code todo} shard, while Deadlines and Events are bucketed by the month
+     * of their due or start date, e.g. {@code deadline-2025-12} or {@code event-2026-01}.
+     * </p>
+     *
+     * @param task the task to locate; must not be {@code null}.
+     * @return the shard key of the task.
+     */
+    public static String shardKey(Task task) {
+        if (task instanceof Deadline) {
+            return "deadline-" + YearMonth.from((TemporalAccessor) ((Deadline) task).getBy());
+        } else if (task instanceof Event) {
+            return "event-" + YearMonth.from((TemporalAccessor) ((Event) task).getFrom());
+        }
+        return TODO_SHARD;
+    }
+    //endregion
+
+
+    /**
+     * Saves the changed parts of the current list of tasks to their shards.
      * <p>
-     * Each task is converted to a file-friendly format using the {@link Task#toFileFormat()} method
-     * and written to the file specified by {@link #FILE_PATH}.
+     * Only the shards recorded by {@link #markDirty(Task)} are rewritten; if no change was recorded,
+     * every shard is rewritten. Each task is written on its own line as its identifier followed by
+     * its {@link Task#toFileFormat()} representation. Shards left empty are deleted, and the
+     * manifest is rewritten whenever any shard changes.
      * </p>
      *
      * @param tasks the list of tasks to save; must not be {@code null}.
      * @throws AmadeusException if an error occurs while saving tasks to the file.
      */
+    @SuppressWarnings("try") // The lock is only held, never used
     public static void save(ArrayList<Task> tasks) throws AmadeusException {
-        try {
-            // Open the file for writing
-            FileWriter writer = new FileWriter(FILE_PATH);
+        Flight.SaveEvent event = new Flight.SaveEvent();
+        event.begin();
+        long start = System.nanoTime();
+        long bytesWritten = 0;
+        boolean isFullSave = store.isAllDirty || store.dirtyShards.isEmpty();
 
-            // Write each task to the file
-            for (Task task : tasks) {
-                writer.write(task.toFileFormat() + "\n");
+        // Gather the lines of every shard that needs rewriting, in list order
+        Map<String, StringBuilder> contents = new HashMap<>();
+        Map<String, Integer> counts = new HashMap<>();
+        for (Task task : tasks) {
+            String key = shardKey(task);
+            store.nextId = Math.max(store.nextId, task.getId() + 1);
+            if (isFullSave || store.dirtyShards.contains(key)) {
+                contents.computeIfAbsent(key, k -> new StringBuilder())
+                        .append(task.getId()).append(" | ").append(task.toFileFormat()).append('\n');
+                counts.merge(key, 1, Integer::sum);
             }
+        }
 
-            // Close the file
-            writer.close();
+        // Shards that must be rewritten, including those that are now empty
+        Set<String> targets = new HashSet<>(isFullSave ? store.shards.keySet() : store.dirtyShards);
+        targets.addAll(contents.keySet());
+
+        try (StoreGuard.Lock lock = lock()) {
+            File directory = new File(store.path);
+            if (!directory.exists() && !directory.mkdirs()) {
+                throw new IOException("Unable to create " + store.path);
+            }
+
+            // Start from the manifest on disk, so shards written meanwhile by another process are kept
+            File manifestFile = new File(store.path, MANIFEST_NAME);
+            Map<String, Integer> listed = new TreeMap<>(store.shards);
+            Map<String, Long> versions = new HashMap<>(store.versions);
+            long onDisk = store.generation;
+            if (manifestFile.exists()) {
+                listed.clear();
+                versions.clear();
+                onDisk = readManifest(manifestFile, listed, versions);
+            }
+            boolean isInSync = onDisk == store.generation;
+            long generation = Math.max(onDisk, store.generation) + 1;
+
+            for (String key : targets) {
+                File shard = shardFile(key);
+                StringBuilder content = contents.get(key);
+
+                if (content == null) {
+                    // Remove shards that no longer hold any task
+                    if (shard.exists() && !shard.delete()) {
+                        throw new IOException("Unable to delete " + shard.getPath());
+                    }
+                    store.shards.remove(key);
+                    store.versions.remove(key);
+                    listed.remove(key);
+                    continue;
+                }
+
+                // Rewrite the shard
+                byte[] bytes = content.toString().getBytes(StandardCharsets.UTF_8);
+                writeAtomically(shard, bytes);
+                bytesWritten += bytes.length;
+                store.shards.put(key, counts.get(key));
+                store.versions.put(key, generation);
+                listed.put(key, counts.get(key));
+                versions.put(key, generation);
+            }
+
+            // Rewrite the manifest to reflect the current shards
+            StringBuilder manifest = new StringBuilder(GENERATION_PREFIX).append(generation).append('\n')
+                    .append(NEXT_ID_PREFIX).append(store.nextId).append('\n');
+            for (Map.Entry<String, Integer> entry : listed.entrySet()) {
+                manifest.append(entry.getKey()).append(' ').append(entry.getValue())
+                        .append(' ').append(versions.get(entry.getKey())).append('\n');
+            }
+            byte[] bytes = manifest.toString().getBytes(StandardCharsets.UTF_8);
+            writeAtomically(manifestFile, bytes);
+            bytesWritten += bytes.length;
+
+            // The legacy file is no longer needed once its tasks are listed in the manifest
+            if (store.isMigrating) {
+                retireLegacy();
+            }
+
+            // Log the changes, or the whole list, for seeing the list as it was later on. The tasks are
+            // already saved by now, so a history that cannot be written is reported without failing the save
+            try {
+                History.record(tasks, store.changedTasks, isFullSave);
+            } catch (IOException e) {
+                System.out.println(AmadeusException.errorSavingHistory(e.getMessage()).getMessage());
+            }
+
+            // Only skip the next reload if no other process wrote since this one last looked
+            if (isInSync) {
+                store.generation = generation;
+            }
 
         } catch (IOException e) {
-            // Error Saving Task List to Memory.txt
+            // Error Saving Task List to the shards
             throw AmadeusException.errorSavingTask(e.getMessage());
         }
+
+        store.dirtyShards.clear();
+        store.changedTasks.clear();
+        store.isAllDirty = false;
+        StoreGuard.watch(store); // The directory may have just been created
+        Metrics.recordSave(System.nanoTime() - start, bytesWritten);
+        event.taskCount = tasks.size();
+        event.shardsWritten = targets.size();
+        event.bytes = bytesWritten;
+        event.commit();
     }
 
 
@@ -89,13 +486,21 @@ public class Database {
             case "D": // Deadline
                 // Parse the due date into a LocalDateTime object
                 Object by = DateConverter.parseDate(parts[3].trim());
-                return new Deadline(description, isDone, by);
+                Deadline deadline = new Deadline(description, isDone, by);
+                if (parts.length > 4) {
+                    deadline.setRecurrence(Recurrence.parseFileFormat(parts[4]));
+                }
+                return deadline;
 
             case "E": // Event
                 // Parse the start and end times into LocalDateTime objects
                 Object from = DateConverter.parseDate(parts[3].trim());
                 Object to = DateConverter.parseDate(parts[4].trim());
-                return new Event(description, isDone, from, to);
+                Event event = new Event(description, isDone, from, to);
+                if (parts.length > 5) {
+                    event.setRecurrence(Recurrence.parseFileFormat(parts[5]));
+                }
+                return event;
 
             case "T": // ToDo
                 return new ToDo(description, isDone);
@@ -111,16 +516,280 @@ public class Database {
 
 
     /**
-     * Loads tasks from the file and returns them as a list of {@link Task} objects.
+     * Parses a line from a shard into a {@link Task} object.
      * <p>
-     * If the file does not exist, an empty list is returned. If the file exists,
-     * each line is parsed into a {@link Task} object using the {@link #parseSave(String)} method.
+     * The line is expected to be the task identifier followed by the format accepted by
+     * {@link #parseSave(String)}, e.g. {@code 12 | T | 0 | Buy groceries}.
+     * </p>
+     *
+     * @param line the line from the shard to parse; must not be {@code null}.
+     * @return the {@link Task} object corresponding to the line, with its identifier restored.
+     * @throws AmadeusException if the line is invalid or cannot be parsed.
+     */
+    public static Task parseShardLine(String line) throws AmadeusException {
+        int separator = line.indexOf(" | ");
+        try {
+            long id = Long.parseLong(line.substring(0, separator));
+            Task task = parseSave(line.substring(separator + 3));
+            task.setId(id);
+            return task;
+
+        } catch (IndexOutOfBoundsException | NumberFormatException e) {
+            // Error parsing a Saved Task
+            throw AmadeusException.errorParsingTask(line);
+        }
+    }
+
+
+    /**
+     * Loads tasks from the shards and returns them as a list of {@link Task} objects.
+     * <p>
+     * The shards listed in the manifest are read in parallel and merged back into list order:
+     * Deadlines, then Events, then ToDos, each ordered by identifier. If the default list has no
+     * manifest, the legacy file at {@link #FILE_PATH} is loaded instead and migrated into shards.
+     * If neither exists, an empty list is returned.
      * </p>
      *
      * @return a list of tasks loaded from the file; never {@code null}.
      * @throws AmadeusException if an error occurs while loading tasks from the file.
      */
+    @SuppressWarnings("try") // The lock is only held, never used
     public static ArrayList<Task> load() throws AmadeusException {
+        Flight.LoadEvent event = new Flight.LoadEvent();
+        event.begin();
+        store.shards.clear();
+        store.versions.clear();
+        store.generation = 0;
+        store.nextId = 1;
+        store.dirtyShards.clear();
+        store.changedTasks.clear();
+        store.isAllDirty = false;
+        store.isMigrating = false;
+
+        try (StoreGuard.Lock lock = lock()) {
+            store.isChanged = false;
+            StoreGuard.watch(store);
+
+            File manifest = new File(store.path, MANIFEST_NAME);
+            if (!manifest.exists()) {
+                // Only the default list may have been saved before sharding
+                boolean isDefault = store.path.equals(STORE_PATH);
+                ArrayList<Task> tasks = isDefault ? loadLegacy() : new ArrayList<>();
+                commitLoad(event, tasks, isDefault ? "legacy" : "new");
+                return tasks;
+            }
+            return loadShards(event, manifest);
+        }
+    }
+
+
+    /**
+     * Loads the shards listed in a manifest, or the snapshot if it still matches them.
+     *
+     * @param event    the flight recorder event of the load.
+     * @param manifest the manifest of the current store.
+     * @return the tasks in list order.
+     * @throws AmadeusException if an error occurs while loading tasks from the shards.
+     */
+    private static ArrayList<Task> loadShards(Flight.LoadEvent event, File manifest) throws AmadeusException {
+        try {
+            // Read the list of shards from the manifest
+            store.generation = readManifest(manifest, store.shards, store.versions);
+
+            // Use the preparsed snapshot if it still matches the shards
+            ArrayList<Task> snapshot = Snapshot.load(store.shards.keySet());
+            if (snapshot != null) {
+                commitLoad(event, snapshot, "snapshot");
+                return snapshot;
+            }
+
+            // Load every shard in parallel
+            List<ArrayList<Task>> loaded = store.shards.keySet().parallelStream()
+                    .map(Database::loadShard)
+                    .toList();
+
+            // Merge the shards back into list order
+            ArrayList<Task> tasks = new ArrayList<>();
+            loaded.forEach(tasks::addAll);
+            tasks.sort(Comparator.comparingInt(Database::sectionOf).thenComparingLong(Task::getId));
+            commitLoad(event, tasks, "shards");
+            return tasks;
+
+        } catch (Exception e) {
+            // Error Loading Task List from the shards
+            throw AmadeusException.errorLoadingTask(e.getMessage());
+        }
+    }
+
+
+    /**
+     * Reads back the shards that another process changed since this one last loaded, saved or reloaded
+     * the current store.
+     * <p>
+     * Nothing is read unless the store was flagged as changed by {@link StoreGuard}, and then only the
+     * manifest, unless its generation moved on. Only the shards whose recorded generation differs from
+     * the one last seen are parsed again. Shards with unsaved changes of this process are left alone.
+     * </p>
+     *
+     * @return the tasks of every changed shard by shard key, with an empty list for removed shards,
+     *         or {@code null} if nothing changed.
+     * @throws AmadeusException if an error occurs while reading the changed shards.
+     */
+    @SuppressWarnings("try") // The lock is only held, never used
+    public static Map<String, ArrayList<Task>> reload() throws AmadeusException {
+        if (store.watchKey != null && !store.isChanged) {
+            return null; // No file of the store changed
+        }
+
+        try (StoreGuard.Lock lock = lock()) {
+            store.isChanged = false; // Cleared first, so changes made while reading flag the store again
+            StoreGuard.watch(store);
+            File manifest = new File(store.path, MANIFEST_NAME);
+            if (!manifest.exists()) {
+                return null;
+            }
+
+            Map<String, Integer> counts = new TreeMap<>();
+            Map<String, Long> versions = new HashMap<>();
+            long generation = readManifest(manifest, counts, versions);
+            if (generation == store.generation) {
+                return null; // Only this process wrote since
+            }
+
+            // Read the shards rewritten since, and drop the shards removed since
+            Map<String, ArrayList<Task>> changed = new HashMap<>();
+            for (Map.Entry<String, Long> entry : versions.entrySet()) {
+                String key = entry.getKey();
+                if (!entry.getValue().equals(store.versions.get(key)) && !store.dirtyShards.contains(key)) {
+                    changed.put(key, loadShard(key));
+                }
+            }
+            for (String key : store.shards.keySet()) {
+                if (!counts.containsKey(key) && !store.dirtyShards.contains(key)) {
+                    changed.put(key, new ArrayList<>());
+                }
+            }
+
+            store.shards.clear();
+            store.shards.putAll(counts);
+            store.versions.clear();
+            store.versions.putAll(versions);
+            store.generation = generation;
+            return changed;
+
+        } catch (IOException | IllegalStateException e) {
+            // Error Loading Task List from the shards
+            throw AmadeusException.errorLoadingTask(e.getMessage());
+        }
+    }
+
+
+    /**
+     * Reads a manifest: its generation, and the task count and generation of every shard it lists.
+     * The identifier of the next task of the current store is raised to the one the manifest holds.
+     *
+     * @param manifest the manifest file.
+     * @param counts   the map to put the task count of every shard in.
+     * @param versions the map to put the generation every shard was last written in.
+     * @return the generation of the store.
+     * @throws IOException if the manifest cannot be read or lacks any of its fields.
+     */
+    private static long readManifest(File manifest, Map<String, Integer> counts, Map<String, Long> versions)
+            throws IOException {
+        long generation = -1;
+        boolean hasNextId = false;
+        try (Scanner scanner = new Scanner(manifest, StandardCharsets.UTF_8)) {
+            while (scanner.hasNextLine()) {
+                String line = scanner.nextLine().trim();
+                if (line.startsWith(GENERATION_PREFIX)) {
+                    generation = Long.parseLong(line.substring(GENERATION_PREFIX.length()).trim());
+                    continue;
+                }
+                if (line.startsWith(NEXT_ID_PREFIX)) {
+                    long nextId = Long.parseLong(line.substring(NEXT_ID_PREFIX.length()).trim());
+                    store.nextId = Math.max(store.nextId, nextId);
+                    hasNextId = true;
+                    continue;
+                }
+                String[] entry = line.split(" ");
+                if (entry.length != 3) {
+                    throw new IOException("Invalid manifest " + manifest.getPath());
+                }
+                counts.put(entry[0], Integer.parseInt(entry[1]));
+                versions.put(entry[0], Long.parseLong(entry[2]));
+            }
+        } catch (NumberFormatException e) {
+            throw new IOException("Invalid manifest " + manifest.getPath(), e);
+        }
+        if (generation < 0 || !hasNextId) {
+            throw new IOException("Invalid manifest " + manifest.getPath());
+        }
+        return generation;
+    }
+
+
+    /**
+     * Completes and commits the flight recorder event of a load.
+     *
+     * @param event  the event started at the beginning of the load.
+     * @param tasks  the loaded tasks.
+     * @param source where the tasks were loaded from.
+     */
+    private static void commitLoad(Flight.LoadEvent event, ArrayList<Task> tasks, String source) {
+        event.taskCount = tasks.size();
+        event.source = source;
+        event.commit();
+    }
+
+
+    /**
+     * Stores a preparsed snapshot of the given task list for a faster next start.
+     * <p>
+     * The snapshot is only written when every change has already been saved to the shards,
+     * so that it always mirrors their contents.
+     * </p>
+     *
+     * @param tasks the current list of tasks; must not be {@code null}.
+     * @throws AmadeusException if an error occurs while writing the snapshot.
+     */
+    public static void saveSnapshot(ArrayList<Task> tasks) throws AmadeusException {
+        if (!hasPendingChanges()) {
+            Snapshot.save(tasks, store.shards.keySet());
+        }
+    }
+
+
+    /**
+     * Loads the tasks stored in a single shard.
+     *
+     * @param key the key of the shard to load.
+     * @return the tasks stored in the shard, in file order.
+     * @throws IllegalStateException if the shard cannot be read or contains an invalid line.
+     */
+    private static ArrayList<Task> loadShard(String key) {
+        ArrayList<Task> tasks = new ArrayList<>();
+        try (Scanner scanner = new Scanner(shardFile(key), StandardCharsets.UTF_8)) {
+            while (scanner.hasNextLine()) {
+                tasks.add(parseShardLine(scanner.nextLine()));
+            }
+        } catch (IOException | AmadeusException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+        return tasks;
+    }
+
+
+    /**
+     * Loads tasks from the legacy single-file store and schedules their migration into shards.
+     * <p>
+     * Tasks are assigned identifiers in file order, and every shard is marked dirty so that
+     * the next {@link #save(ArrayList)} writes the sharded layout.
+     * </p>
+     *
+     * @return a list of tasks loaded from the legacy file; never {@code null}.
+     * @throws AmadeusException if an error occurs while loading tasks from the file.
+     */
+    private static ArrayList<Task> loadLegacy() throws AmadeusException {
         ArrayList<Task> tasks = new ArrayList<>();
 
         try {
@@ -131,12 +800,17 @@ public class Database {
             while (scanner.hasNextLine()) {
                 String line = scanner.nextLine(); // Read each line
                 Task task = parseSave(line); // parse into Task object
+                task.setId(tasks.size() + 1); // Assign identifiers in file order
                 tasks.add(task); // Add to Task List
             }
 
             // Close the file
             scanner.close();
 
+            // Write the sharded layout on the next save, and retire the legacy file then
+            store.isAllDirty = true;
+            store.isMigrating = true;
+
         } catch (FileNotFoundException e) { // If the file is not found, start with an empty task list
             System.out.println("⚠️ No existing task file found. Starting with an empty task list.");
 
@@ -147,4 +821,75 @@ public class Database {
 
         return tasks;
     }
+
+
+    /**
+     * Renames the legacy file to {@link #LEGACY_BACKUP_PATH}, so it is kept but never loaded again.
+     * <p>
+     * A legacy file left in place is harmless, as it is only read while the store has no manifest,
+     * so a failed rename is tried again on the next save rather than failing this one.
+     * </p>
+     */
+    private static void retireLegacy() {
+        try {
+            Files.move(new File(FILE_PATH).toPath(), new File(LEGACY_BACKUP_PATH).toPath(),
+                    StandardCopyOption.REPLACE_EXISTING);
+            store.isMigrating = false;
+        } catch (IOException e) {
+            // Keep the legacy file until the next save
+        }
+    }
+
+
+    /**
+     * Replaces the contents of a file as a whole.
+     * <p>
+     * The bytes are written and flushed to a temporary file next to the file, which is then renamed
+     * over it, atomically where the file system supports it.
+     * </p>
+     *
+     * @param file  the file to write.
+     * @param bytes the new contents of the file.
+     * @throws IOException if the file cannot be written.
+     */
+    static void writeAtomically(File file, byte[] bytes) throws IOException {
+        File temp = new File(file.getPath() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp.toPath(), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true); // On disk before the rename makes it visible
+        }
+        try {
+            Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+
+    /**
+     * Returns the file backing the given shard.
+     *
+     * @param key the key of the shard.
+     * @return the shard file inside the current store.
+     */
+    private static File shardFile(String key) {
+        return new File(store.path, key + ".txt");
+    }
+
+
+    /**
+     * Returns the list section a task belongs to: 0 for Deadlines, 1 for Events and 2 for ToDos.
+     * Every part of the application ordering or counting tasks by type uses this one helper.
+     *
+     * @param task the task to classify.
+     * @return the section index of the task.
+     */
+    public static int sectionOf(Task task) {
+        return task instanceof Deadline ? 0 : task instanceof Event ? 1 : 2;
+    }
 }
@@ -0,0 +1,176 @@
+package amadeus.brain;
+
+import jdk.jfr.Category;
+import jdk.jfr.Configuration;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Recording;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Defines the Java Flight Recorder events emitted by the Amadeus application and controls recordings.
+ * <p>
+ * Events are emitted around command parsing and execution, task list saves and loads, and date parsing
+ * that needed to fall back through several formats. When no recording is active, emitting an event
+ * costs little more than a field check, so the events stay compiled in. A recording can be attached
+ * externally with {@code jcmd <pid> JFR.start}, or started and stopped from within Amadeus with the
+ * {@code profile start} and {@code profile stop} commands.
+ * </p>
+ */
+public class Flight {
+    /**
+     * The recording started by {@code profile start}, or {@code null} if none is active.
+     */
+    private static Recording recording;
+
+    /**
+     * The file the active recording is written to.
+     */
+    private static Path destination;
+
+
+    //region Events
+
+    /**
+     * Emitted for every line of user input parsed into a command.
+     */
+    @Name("amadeus.Parse")
+    @Label("Parse Input")
+    @Category("Amadeus")
+    @Description("Parsing of one line of user input into a command")
+    public static class ParseEvent extends Event {
+        @Label("Command")
+        public String command;
+    }
+
+    /**
+     * Emitted for every command executed.
+     */
+    @Name("amadeus.Command")
+    @Label("Execute Command")
+    @Category("Amadeus")
+    @Description("Execution of one command")
+    public static class CommandEvent extends Event {
+        @Label("Command")
+        public String command;
+    }
+
+    /**
+     * Emitted for every save of the task list.
+     */
+    @Name("amadeus.Save")
+    @Label("Save Tasks")
+    @Category("Amadeus")
+    @Description("Write of the changed task shards and manifest")
+    public static class SaveEvent extends Event {
+        @Label("Task Count")
+        public int taskCount;
+
+        @Label("Shards Written")
+        public int shardsWritten;
+
+        @Label("Bytes Written")
+        @DataAmount
+        public long bytes;
+    }
+
+    /**
+     * Emitted for every load of the task list.
+     */
+    @Name("amadeus.Load")
+    @Label("Load Tasks")
+    @Category("Amadeus")
+    @Description("Load of the task list from the snapshot, shards or legacy file")
+    public static class LoadEvent extends Event {
+        @Label("Task Count")
+        public int taskCount;
+
+        @Label("Source")
+        public String source;
+    }
+
+    /**
+     * Emitted when a date string did not match the first supported format.
+     */
+    @Name("amadeus.DateMiss")
+    @Label("Date Format Misses")
+    @Category("Amadeus")
+    @Description("Date parsing that fell back through one or more unmatched formats")
+    public static class DateMissEvent extends Event {
+        @Label("Input")
+        public String input;
+
+        @Label("Misses")
+        public int misses;
+
+        @Label("Parsed")
+        public boolean isParsed;
+    }
+    //endregion
+
+
+    /**
+     * Starts a recording of the Amadeus events and the JDK's default profiling events to a local file.
+     *
+     * @return the file the recording will be written to.
+     * @throws AmadeusException if a recording is already active or cannot be started.
+     */
+    public static Path startRecording() throws AmadeusException {
+        if (recording != null) {
+            throw AmadeusException.invalidProfile("A recording is already running: " + destination);
+        }
+
+        try {
+            String stamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+            destination = Path.of("amadeus-" + stamp + ".jfr");
+
+            recording = new Recording(Configuration.getConfiguration("profile"));
+            recording.enable(ParseEvent.class);
+            recording.enable(CommandEvent.class);
+            recording.enable(SaveEvent.class);
+            recording.enable(LoadEvent.class);
+            recording.enable(DateMissEvent.class);
+            recording.setDestination(destination);
+            recording.setDumpOnExit(true); // Keep the data even if the user exits without stopping
+            recording.start();
+            return destination;
+
+        } catch (IOException | ParseException | IllegalStateException e) {
+            recording = null;
+            throw AmadeusException.errorWritingReport(e.getMessage());
+        }
+    }
+
+
+    /**
+     * Stops the active recording and writes it to its file.
+     *
+     * @return the file the recording was written to.
+     * @throws AmadeusException if no recording is active or it cannot be written.
+     */
+    public static Path stopRecording() throws AmadeusException {
+        if (recording == null) {
+            throw AmadeusException.invalidProfile("No recording is running.");
+        }
+
+        try {
+            recording.stop(); // Writes the recording to its destination
+            return destination;
+
+        } catch (IllegalStateException e) {
+            throw AmadeusException.errorWritingReport(e.getMessage());
+
+        } finally {
+            recording.close();
+            recording = null;
+        }
+    }
+}
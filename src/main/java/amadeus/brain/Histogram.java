@@ -0,0 +1,151 @@
+package amadeus.brain;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock-free histogram of non-negative {@code long} values with bounded relative error.
+ * <p>
+ * Values are counted in log-linear buckets, in the style of an HDR histogram: each power of two
+ * is split into {@value #SUB_BUCKETS} equal sub-buckets, so every recorded value is kept to within
+ * 12.5% of its true magnitude while the whole {@code long} range fits in a few hundred counters.
+ * Recording a value is a handful of arithmetic operations and atomic increments, without locks
+ * or allocation, so histograms can stay enabled on the hot path.
+ * </p>
+ */
+public class Histogram {
+    /**
+     * Number of bits used to split each power of two into sub-buckets.
+     */
+    private static final int SUB_BITS = 3;
+
+    /**
+     * Number of sub-buckets within each power of two.
+     */
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+
+    /**
+     * Total number of buckets needed to cover every non-negative {@code long}.
+     */
+    private static final int BUCKET_COUNT = (64 - SUB_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong sum = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+
+    /**
+     * Records a single value.
+     *
+     * @param value the value to record; negative values are recorded as zero.
+     */
+    public void record(long value) {
+        long v = Math.max(0, value);
+        buckets.incrementAndGet(bucketOf(v));
+        count.incrementAndGet();
+        sum.addAndGet(v);
+        max.accumulateAndGet(v, Math::max);
+    }
+
+
+    /**
+     * Returns the number of recorded values.
+     *
+     * @return the number of recorded values.
+     */
+    public long getCount() {
+        return count.get();
+    }
+
+
+    /**
+     * Returns the sum of all recorded values.
+     *
+     * @return the sum of all recorded values.
+     */
+    public long getSum() {
+        return sum.get();
+    }
+
+
+    /**
+     * Returns the largest recorded value.
+     *
+     * @return the largest recorded value, or 0 if none was recorded.
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+
+    /**
+     * Returns the mean of all recorded values.
+     *
+     * @return the mean, or 0 if none was recorded.
+     */
+    public long getMean() {
+        long n = count.get();
+        return n == 0 ? 0 : sum.get() / n;
+    }
+
+
+    /**
+     * Returns an estimate of the value at the given percentile.
+     * <p>
+     * The estimate is the upper bound of the bucket containing the percentile,
+     * capped at the largest recorded value.
+     * </p>
+     *
+     * @param percentile the percentile to estimate, between 0 and 100.
+     * @return the estimated value, or 0 if none was recorded.
+     */
+    public long getPercentile(double percentile) {
+        long n = count.get();
+        if (n == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(n * percentile / 100.0));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += buckets.get(i);
+            if (seen >= rank) {
+                return Math.min(upperBoundOf(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+
+    /**
+     * Returns the bucket a value is counted in.
+     *
+     * @param value the non-negative value.
+     * @return the bucket index.
+     */
+    private static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value; // Small values are counted exactly
+        }
+        int magnitude = 63 - Long.numberOfLeadingZeros(value);
+        int shift = magnitude - SUB_BITS;
+        return (shift + 1) * SUB_BUCKETS + (int) ((value >>> shift) & (SUB_BUCKETS - 1));
+    }
+
+
+    /**
+     * Returns the largest value counted in the given bucket.
+     *
+     * @param bucket the bucket index.
+     * @return the inclusive upper bound of the bucket.
+     */
+    private static long upperBoundOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKETS - 1;
+        long lower = ((long) (SUB_BUCKETS + bucket % SUB_BUCKETS)) << shift;
+        return lower + (1L << shift) - 1;
+    }
+}
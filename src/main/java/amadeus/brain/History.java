@@ -0,0 +1,300 @@
+package amadeus.brain;
+
+import amadeus.perception.DateConverter;
+import amadeus.workspace.Task;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.RandomAccessFile;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Keeps the change history of every store, so the task list can be seen as it was at any past time.
+ * <p>
+ * Every {@link Database#save(ArrayList)} appends one line per changed task to an append-only change
+ * log, with the time of the change: the task as saved if it is still in the list, or its identifier if
+ * it was removed. From time to time the whole list is written as a checkpoint instead, recorded in a
+ * small index with its time and the length of the change log when it was taken. A save rewriting every
+ * shard, such as a reset or a migration, always writes a checkpoint, as it may change every task.
+ * The history is written after the shards, so a history that cannot be written is only reported, and
+ * the save still succeeds.
+ * </p>
+ * <p>
+ * The list as of a past time is rebuilt from the latest checkpoint taken by then, replaying only the
+ * changes logged after it up to that time. A new checkpoint is taken once the log has grown past the
+ * last one by the size of that checkpoint, or by {@value #MIN_CHECKPOINT_INTERVAL} bytes for small
+ * lists, so a rebuild never reads much more than two checkpoints' worth of data however long the
+ * history is, and writing checkpoints costs at most as much as writing the log itself.
+ * </p>
+ * <p>
+ * The history of each store is kept in the {@value #HISTORY_DIRECTORY} directory of the store and only
+ * starts with its first checkpoint, taken on the first save since the history was introduced.
+ * </p>
+ */
+public class History {
+    /**
+     * The directory inside every store holding its change log, checkpoints and checkpoint index.
+     */
+    public static final String HISTORY_DIRECTORY = "history";
+
+    /**
+     * The name of the append-only change log.
+     */
+    public static final String CHANGES_NAME = "changes.log";
+
+    /**
+     * The name of the checkpoint index, one line per checkpoint: its time, log offset, size and file name.
+     */
+    public static final String CHECKPOINTS_NAME = "checkpoints.txt";
+
+    /**
+     * The least number of bytes logged between two checkpoints.
+     */
+    public static final int MIN_CHECKPOINT_INTERVAL = 64 * 1024;
+
+    // Change log operations
+    private static final char PUT = '+';
+    private static final char REMOVE = '-';
+
+    /**
+     * The checkpoint index of every store used, by store path, read incrementally as it grows.
+     */
+    private static final Map<String, Index> indexes = new HashMap<>();
+
+    /**
+     * A full copy of the list at a point of the change log.
+     */
+    private static class Checkpoint {
+        final long time; // Epoch milliseconds
+        final long offset; // Length of the change log when the checkpoint was taken
+        final long size; // Size of the checkpoint file in bytes
+        final String name;
+
+        Checkpoint(long time, long offset, long size, String name) {
+            this.time = time;
+            this.offset = offset;
+            this.size = size;
+            this.name = name;
+        }
+    }
+
+    /**
+     * The checkpoints of one store by time, as far as the index file has been read.
+     */
+    private static class Index {
+        final TreeMap<Long, Checkpoint> byTime = new TreeMap<>();
+        Checkpoint last;
+        long readUpTo; // Number of bytes of the index file read so far
+    }
+
+
+    /**
+     * Records the changes of a save in the history of the current store.
+     * <p>
+     * Must be called while holding the lock of the store, so the changes of several processes are
+     * logged one save after another.
+     * </p>
+     *
+     * @param tasks      the whole list as saved.
+     * @param changed    the tasks marked as changed since the last save, by identifier.
+     * @param isFullSave whether every shard was rewritten, in which case a checkpoint is taken instead.
+     * @throws IOException if the history cannot be written.
+     */
+    static void record(ArrayList<Task> tasks, Map<Long, Task> changed, boolean isFullSave) throws IOException {
+        File directory = new File(Database.getStorePath(), HISTORY_DIRECTORY);
+        if (!directory.exists() && !directory.mkdirs()) {
+            throw new IOException("Unable to create " + directory.getPath());
+        }
+        Index index = readIndex(directory);
+        long now = System.currentTimeMillis();
+        File log = new File(directory, CHANGES_NAME);
+
+        // The first save of a history only takes a checkpoint, as the changes before are unknown
+        if (!isFullSave && index.last != null && !changed.isEmpty()) {
+            Map<Long, Task> removed = new HashMap<>(changed); // Whittled down to the tasks not in the list
+            StringBuilder lines = new StringBuilder();
+            for (Task task : tasks) {
+                if (removed.remove(task.getId()) != null) {
+                    lines.append(now).append(' ').append(PUT).append(' ')
+                            .append(task.getId()).append(" | ").append(task.toFileFormat()).append('\n');
+                }
+            }
+            for (long id : removed.keySet()) {
+                lines.append(now).append(' ').append(REMOVE).append(' ').append(id).append('\n');
+            }
+            Files.write(log.toPath(), lines.toString().getBytes(StandardCharsets.UTF_8),
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        }
+
+        // Take a checkpoint once the log has grown past the last one by its size
+        long length = log.length();
+        if (isFullSave || index.last == null
+                || length - index.last.offset >= Math.max(MIN_CHECKPOINT_INTERVAL, index.last.size)) {
+            writeCheckpoint(directory, index, tasks, now, length);
+        }
+    }
+
+
+    /**
+     * Rebuilds the current list as it was at a past time.
+     *
+     * @param when the time to see the list at.
+     * @return the tasks of the list at that time, in list order.
+     * @throws AmadeusException if the history starts after that time or cannot be read.
+     */
+    @SuppressWarnings("try") // The lock is only held, never used
+    public static ArrayList<Task> load(LocalDateTime when) throws AmadeusException {
+        long time = when.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        File directory = new File(Database.getStorePath(), HISTORY_DIRECTORY);
+
+        try (StoreGuard.Lock lock = Database.lock()) {
+            Index index = readIndex(directory);
+            Map.Entry<Long, Checkpoint> floor = index.byTime.floorEntry(time);
+            if (floor == null) {
+                // No History Kept at that Time Exception
+                throw AmadeusException.noHistory(index.byTime.isEmpty() ? null
+                        : DateConverter.formatDate(toDateTime(index.byTime.firstKey())));
+            }
+            Checkpoint checkpoint = floor.getValue();
+
+            // Start from the checkpoint
+            Map<Long, Task> byId = new HashMap<>();
+            for (String line : Files.readAllLines(new File(directory, checkpoint.name).toPath(),
+                    StandardCharsets.UTF_8)) {
+                Task task = Database.parseShardLine(line);
+                byId.put(task.getId(), task);
+            }
+
+            // Replay the changes logged after it, up to the time asked for
+            File log = new File(directory, CHANGES_NAME);
+            if (log.exists()) {
+                try (RandomAccessFile file = new RandomAccessFile(log, "r")) {
+                    file.seek(checkpoint.offset);
+                    BufferedReader reader = new BufferedReader(new InputStreamReader(
+                            Channels.newInputStream(file.getChannel()), StandardCharsets.UTF_8));
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        int space = line.indexOf(' ');
+                        if (Long.parseLong(line.substring(0, space)) > time) {
+                            break; // The log is in time order
+                        }
+                        String change = line.substring(space + 3);
+                        if (line.charAt(space + 1) == PUT) {
+                            Task task = Database.parseShardLine(change);
+                            byId.put(task.getId(), task);
+                        } else {
+                            byId.remove(Long.parseLong(change));
+                        }
+                    }
+                }
+            }
+
+            ArrayList<Task> tasks = new ArrayList<>(byId.values());
+            tasks.sort(Comparator.comparingInt(Database::sectionOf).thenComparingLong(Task::getId));
+            return tasks;
+
+        } catch (IOException | IndexOutOfBoundsException | NumberFormatException e) {
+            // Error Reading the History
+            throw AmadeusException.errorLoadingTask(e.getMessage());
+        }
+    }
+
+
+    /**
+     * Returns the date-time of a time in epoch milliseconds, in the time zone of the system.
+     *
+     * @param time the time in epoch milliseconds.
+     * @return the date-time.
+     */
+    private static LocalDateTime toDateTime(long time) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(time), ZoneId.systemDefault());
+    }
+
+
+    /**
+     * Writes the whole list as a checkpoint and adds it to the index.
+     * <p>
+     * The checkpoint is written to a temporary file first and then moved into place, and only
+     * then listed in the index, so a crash never leaves a partial checkpoint listed.
+     * </p>
+     *
+     * @param directory the history directory.
+     * @param index     the index of the store.
+     * @param tasks     the whole list.
+     * @param now       the time of the checkpoint.
+     * @param offset    the length of the change log the checkpoint follows.
+     * @throws IOException if the checkpoint cannot be written.
+     */
+    private static void writeCheckpoint(File directory, Index index, ArrayList<Task> tasks, long now, long offset)
+            throws IOException {
+        StringBuilder content = new StringBuilder();
+        for (Task task : tasks) {
+            content.append(task.getId()).append(" | ").append(task.toFileFormat()).append('\n');
+        }
+        byte[] bytes = content.toString().getBytes(StandardCharsets.UTF_8);
+        String name = "checkpoint-" + offset + "-" + now + ".txt"; // Unique even if nothing was logged since
+        File temp = new File(directory, name + ".tmp");
+        Files.write(temp.toPath(), bytes);
+        Files.move(temp.toPath(), new File(directory, name).toPath(), StandardCopyOption.REPLACE_EXISTING);
+
+        String line = now + " " + offset + " " + bytes.length + " " + name + "\n";
+        Files.write(new File(directory, CHECKPOINTS_NAME).toPath(), line.getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        readIndex(directory); // Pick up the new line, and any written by other processes before it
+    }
+
+
+    /**
+     * Returns the checkpoint index of a store, reading only the lines added since it was last read.
+     *
+     * @param directory the history directory of the store.
+     * @return the index.
+     * @throws IOException if the index cannot be read.
+     */
+    private static Index readIndex(File directory) throws IOException {
+        Index index = indexes.computeIfAbsent(directory.getPath(), path -> new Index());
+        File file = new File(directory, CHECKPOINTS_NAME);
+        if (file.length() < index.readUpTo) {
+            // The history was removed, so start over
+            index.byTime.clear();
+            index.last = null;
+            index.readUpTo = 0;
+        }
+        if (!file.exists() || file.length() == index.readUpTo) {
+            return index;
+        }
+
+        try (RandomAccessFile in = new RandomAccessFile(file, "r")) {
+            in.seek(index.readUpTo);
+            byte[] bytes = new byte[(int) (in.length() - index.readUpTo)];
+            in.readFully(bytes);
+            for (String line : new String(bytes, StandardCharsets.UTF_8).split("\n")) {
+                String[] parts = line.trim().split(" ");
+                if (parts.length == 4) {
+                    Checkpoint checkpoint = new Checkpoint(Long.parseLong(parts[0]), Long.parseLong(parts[1]),
+                            Long.parseLong(parts[2]), parts[3]);
+                    index.byTime.put(checkpoint.time, checkpoint); // The later of two at the same time wins
+                    index.last = checkpoint;
+                }
+            }
+            index.readUpTo += bytes.length;
+        } catch (NumberFormatException e) {
+            throw new IOException("Invalid history index " + file.getPath(), e);
+        }
+        return index;
+    }
+}
@@ -0,0 +1,150 @@
+package amadeus.brain;
+
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records where time goes on the hot path of the Amadeus application.
+ * <p>
+ * The registry keeps a {@link Histogram} of parse time, a histogram of execute time per command
+ * type, histograms of save time and bytes written per save, and a histogram of how long published
+ * changes take to reach their subscribers, with a count of those dropped. Recording only reads the clock and
+ * updates lock-free counters, so metrics are always on. The current figures are shown by the
+ * {@code stats} command and, if the {@code amadeus.metrics} system property names a file, dumped to
+ * that file when the application exits.
+ * </p>
+ */
+public class Metrics {
+    /**
+     * System property naming the file the metrics are dumped to on exit.
+     */
+    public static final String DUMP_PROPERTY = "amadeus.metrics";
+
+    private static final Histogram parseTimes = new Histogram();
+    private static final Map<String, Histogram> executeTimes = new ConcurrentHashMap<>();
+    private static final Histogram saveTimes = new Histogram();
+    private static final Histogram saveBytes = new Histogram();
+    private static final Histogram changeTimes = new Histogram();
+    private static final LongAdder droppedChanges = new LongAdder();
+
+
+    //region Recording
+
+    /**
+     * Records the time taken to parse one line of user input.
+     *
+     * @param nanos the parse time in nanoseconds.
+     */
+    public static void recordParse(long nanos) {
+        parseTimes.record(nanos);
+    }
+
+
+    /**
+     * Records the time taken to execute one command.
+     *
+     * @param command the command type, e.g. {@code "ListCommand"}.
+     * @param nanos   the execute time in nanoseconds.
+     */
+    public static void recordExecute(String command, long nanos) {
+        executeTimes.computeIfAbsent(command, k -> new Histogram()).record(nanos);
+    }
+
+
+    /**
+     * Records one save of the task list.
+     *
+     * @param nanos the save time in nanoseconds.
+     * @param bytes the number of bytes written.
+     */
+    public static void recordSave(long nanos, long bytes) {
+        saveTimes.record(nanos);
+        saveBytes.record(bytes);
+    }
+
+
+    /**
+     * Records the time one published change took to reach a subscriber.
+     *
+     * @param nanos the delivery time in nanoseconds.
+     */
+    public static void recordChange(long nanos) {
+        changeTimes.record(nanos);
+    }
+
+
+    /**
+     * Records one published change dropped for a subscriber whose buffer was full.
+     */
+    public static void recordDroppedChange() {
+        droppedChanges.increment();
+    }
+    //endregion
+
+
+    /**
+     * Builds a human-readable report of all metrics recorded so far.
+     * <p>
+     * Times are shown in microseconds as count, mean, 50th, 99th percentile and maximum.
+     * </p>
+     *
+     * @return the formatted report.
+     */
+    public static String report() {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("%-22s %8s %10s %10s %10s %10s%n",
+                "Operation (µs)", "Count", "Mean", "p50", "p99", "Max"));
+
+        appendTimes(report, "parse", parseTimes);
+        for (Map.Entry<String, Histogram> entry : new TreeMap<>(executeTimes).entrySet()) {
+            appendTimes(report, entry.getKey(), entry.getValue());
+        }
+        appendTimes(report, "save", saveTimes);
+
+        report.append(String.format("%-22s %8d %10d %10d %10d %10d%n", "save (bytes)",
+                saveBytes.getCount(), saveBytes.getMean(), saveBytes.getPercentile(50),
+                saveBytes.getPercentile(99), saveBytes.getMax()));
+        report.append(String.format("Total bytes written: %d%n", saveBytes.getSum()));
+        appendTimes(report, "change delivery", changeTimes);
+        report.append(String.format("Changes dropped: %d%n", droppedChanges.sum()));
+        return report.toString();
+    }
+
+
+    /**
+     * Writes the metrics report to the file named by the {@link #DUMP_PROPERTY} system property.
+     * Does nothing if the property is not set.
+     *
+     * @throws AmadeusException if an error occurs while writing the report.
+     */
+    public static void dump() throws AmadeusException {
+        String path = System.getProperty(DUMP_PROPERTY);
+        if (path == null || path.isBlank()) {
+            return;
+        }
+
+        try (FileWriter writer = new FileWriter(path)) {
+            writer.write(report());
+        } catch (IOException e) {
+            throw AmadeusException.errorWritingReport(e.getMessage());
+        }
+    }
+
+
+    /**
+     * Appends one row of time statistics, converted from nanoseconds to microseconds.
+     *
+     * @param report    the report being built.
+     * @param name      the row label.
+     * @param histogram the recorded times in nanoseconds.
+     */
+    private static void appendTimes(StringBuilder report, String name, Histogram histogram) {
+        report.append(String.format("%-22s %8d %10d %10d %10d %10d%n", name, histogram.getCount(),
+                histogram.getMean() / 1000, histogram.getPercentile(50) / 1000,
+                histogram.getPercentile(99) / 1000, histogram.getMax() / 1000));
+    }
+}
@@ -0,0 +1,275 @@
+package amadeus.brain;
+
+import amadeus.workspace.Deadline;
+import amadeus.workspace.Event;
+import amadeus.workspace.Recurrence;
+import amadeus.workspace.Task;
+import amadeus.workspace.ToDo;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Set;
+
+/**
+ * Manages a preparsed binary image of the task list for fast startup.
+ * <p>
+ * Parsing the text shards requires the date-time formatters of
+ * {@link amadeus.perception.DateConverter} and one string split per line. The snapshot instead
+ * stores every task in a compact binary form, with dates as epoch numbers, so it can be read back
+ * without any text parsing. It is written when the application exits and is only trusted if the
+ * fingerprint it was written with still matches the shards on disk; otherwise the shards are parsed
+ * as usual.
+ * </p>
+ * <p>
+ * The fingerprint combines the size, modification time and content hash of the manifest with the
+ * size and modification time of every shard it lists.
+ * </p>
+ */
+public class Snapshot {
+    /**
+     * The name of the snapshot file inside the directory of the current {@link Database.Store}.
+     */
+    public static final String SNAPSHOT_NAME = "snapshot.bin";
+
+    /**
+     * Marker written at the start of every snapshot ("AMDS").
+     */
+    private static final int MAGIC = 0x414D4453;
+
+    /**
+     * Version of the binary layout, bumped whenever the layout changes.
+     */
+    private static final int VERSION = 2;
+
+    // Task type tags
+    private static final byte TODO = 0;
+    private static final byte DEADLINE = 1;
+    private static final byte EVENT = 2;
+
+    // Date kind tags
+    private static final byte DATE = 0;
+    private static final byte DATE_TIME = 1;
+
+    // Repetition rule markers
+    private static final byte NO_RULE = -1;
+    private static final long FOREVER = Long.MIN_VALUE;
+
+
+    /**
+     * Loads the task list from the snapshot if it matches the given shards.
+     *
+     * @param shards the shard keys listed in the current manifest; must not be {@code null}.
+     * @return the tasks stored in the snapshot, or {@code null} if the snapshot is missing or stale.
+     */
+    public static ArrayList<Task> load(Set<String> shards) {
+        File file = snapshotFile();
+        if (!file.exists()) {
+            return null;
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            // Reject snapshots of another layout or another state of the shards
+            if (in.readInt() != MAGIC || in.readInt() != VERSION || in.readLong() != fingerprint(shards)) {
+                return null;
+            }
+
+            int size = in.readInt();
+            ArrayList<Task> tasks = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                tasks.add(readTask(in));
+            }
+            return tasks;
+
+        } catch (IOException e) {
+            return null; // A damaged snapshot is simply ignored
+        }
+    }
+
+
+    /**
+     * Writes the given task list to the snapshot, tagged with the fingerprint of the given shards.
+     * <p>
+     * The snapshot is written to a temporary file first and then moved into place,
+     * so a crash never leaves a partially written snapshot behind.
+     * </p>
+     *
+     * @param tasks  the task list to store; must not be {@code null}.
+     * @param shards the shard keys listed in the current manifest; must not be {@code null}.
+     * @throws AmadeusException if an error occurs while writing the snapshot.
+     */
+    public static void save(ArrayList<Task> tasks, Set<String> shards) throws AmadeusException {
+        File file = snapshotFile();
+        File temp = new File(Database.getStorePath(), SNAPSHOT_NAME + ".tmp");
+
+        try {
+            if (!file.getParentFile().exists()) {
+                return; // Nothing has been stored yet
+            }
+
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(new FileOutputStream(temp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeLong(fingerprint(shards));
+                out.writeInt(tasks.size());
+                for (Task task : tasks) {
+                    writeTask(out, task);
+                }
+            }
+            Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+
+        } catch (IOException e) {
+            // Error Saving Snapshot
+            throw AmadeusException.errorSavingTask(e.getMessage());
+        }
+    }
+
+
+    /**
+     * Computes the fingerprint of the manifest and the given shards.
+     *
+     * @param shards the shard keys listed in the current manifest.
+     * @return a fingerprint that changes whenever the manifest or any shard file changes.
+     * @throws IOException if the manifest cannot be read.
+     */
+    private static long fingerprint(Set<String> shards) throws IOException {
+        File manifest = new File(Database.getStorePath(), Database.MANIFEST_NAME);
+        long hash = Arrays.hashCode(Files.readAllBytes(manifest.toPath()));
+        hash = 31 * hash + manifest.length();
+        hash = 31 * hash + manifest.lastModified();
+
+        for (String key : shards) {
+            File shard = new File(Database.getStorePath(), key + ".txt");
+            hash = 31 * hash + key.hashCode();
+            hash = 31 * hash + shard.length();
+            hash = 31 * hash + shard.lastModified();
+        }
+        return hash;
+    }
+
+
+    /**
+     * Returns the snapshot file inside the directory of the current {@link Database.Store}.
+     *
+     * @return the snapshot file.
+     */
+    private static File snapshotFile() {
+        return new File(Database.getStorePath(), SNAPSHOT_NAME);
+    }
+
+
+    //region Binary Encoding
+
+    /**
+     * Writes a single task in binary form.
+     *
+     * @param out  the stream to write to.
+     * @param task the task to write.
+     * @throws IOException if an error occurs while writing.
+     */
+    private static void writeTask(DataOutputStream out, Task task) throws IOException {
+        if (task instanceof Deadline) {
+            out.writeByte(DEADLINE);
+        } else if (task instanceof Event) {
+            out.writeByte(EVENT);
+        } else {
+            out.writeByte(TODO);
+        }
+        out.writeLong(task.getId());
+        out.writeBoolean(task.getDone());
+        out.writeUTF(task.getName());
+
+        if (task instanceof Deadline) {
+            writeDate(out, ((Deadline) task).getBy());
+        } else if (task instanceof Event) {
+            writeDate(out, ((Event) task).getFrom());
+            writeDate(out, ((Event) task).getTo());
+        }
+
+        // Repetition rule, if any
+        Recurrence rule = task.getRecurrence();
+        out.writeByte(rule == null ? NO_RULE : rule.getFrequency().ordinal());
+        if (rule != null) {
+            out.writeLong(rule.getUntil() == null ? FOREVER : rule.getUntil().toEpochDay());
+        }
+    }
+
+
+    /**
+     * Reads a single task written by {@link #writeTask(DataOutputStream, Task)}.
+     *
+     * @param in the stream to read from.
+     * @return the task that was read.
+     * @throws IOException if an error occurs while reading or the data is invalid.
+     */
+    private static Task readTask(DataInputStream in) throws IOException {
+        byte type = in.readByte();
+        long id = in.readLong();
+        boolean isDone = in.readBoolean();
+        String name = in.readUTF();
+
+        Task task = switch (type) {
+        case DEADLINE -> new Deadline(name, isDone, readDate(in));
+        case EVENT -> new Event(name, isDone, readDate(in), readDate(in));
+        case TODO -> new ToDo(name, isDone);
+        default -> throw new IOException("Invalid task type in snapshot: " + type);
+        };
+        task.setId(id);
+
+        byte frequency = in.readByte();
+        if (frequency != NO_RULE) {
+            long until = in.readLong();
+            task.setRecurrence(new Recurrence(Recurrence.Frequency.values()[frequency],
+                    until == FOREVER ? null : LocalDate.ofEpochDay(until)));
+        }
+        return task;
+    }
+
+
+    /**
+     * Writes a date or date-time as a kind tag followed by its epoch day or epoch second.
+     *
+     * @param out  the stream to write to.
+     * @param date the {@link LocalDate} or {@link LocalDateTime} to write.
+     * @throws IOException if an error occurs while writing.
+     */
+    private static void writeDate(DataOutputStream out, Object date) throws IOException {
+        if (date instanceof LocalDateTime) {
+            out.writeByte(DATE_TIME);
+            out.writeLong(((LocalDateTime) date).toEpochSecond(ZoneOffset.UTC));
+        } else {
+            out.writeByte(DATE);
+            out.writeLong(((LocalDate) date).toEpochDay());
+        }
+    }
+
+
+    /**
+     * Reads a date or date-time written by {@link #writeDate(DataOutputStream, Object)}.
+     *
+     * @param in the stream to read from.
+     * @return the {@link LocalDate} or {@link LocalDateTime} that was read.
+     * @throws IOException if an error occurs while reading.
+     */
+    private static Object readDate(DataInputStream in) throws IOException {
+        byte kind = in.readByte();
+        long value = in.readLong();
+        return kind == DATE_TIME
+                ? LocalDateTime.ofEpochSecond(value, 0, ZoneOffset.UTC)
+                : LocalDate.ofEpochDay(value);
+    }
+    //endregion
+}
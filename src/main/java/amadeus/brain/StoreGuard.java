@@ -0,0 +1,197 @@
+package amadeus.brain;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+
+/**
+ * Guards the stores against other Amadeus processes using the same files.
+ * <p>
+ * Every store has a lock file next to its directory, e.g. {@code memory.lock}. Reading or writing a
+ * store holds an exclusive {@link FileLock} on it, so another process never reads half-written shards
+ * or interleaves its own writes. Locks are re-entrant within this process: a command can hold the lock
+ * of its store while the loads and saves it triggers take it again.
+ * </p>
+ * <p>
+ * A single daemon thread watches the directory of every loaded store with a {@link WatchService} and
+ * flags a store as changed whenever any file in it changes, including through this process's own saves.
+ * {@link Database#reload()} only reads the manifest of a flagged store, so checking for outside changes
+ * before a command costs nothing while no file changes.
+ * </p>
+ */
+public class StoreGuard {
+    /**
+     * The extension of the lock file of a store.
+     */
+    public static final String LOCK_EXTENSION = ".lock";
+
+    /**
+     * The locks held by this process, by the path of their store.
+     */
+    private static final Map<String, Lock> held = new HashMap<>();
+
+    /**
+     * The watched stores, by the key of their directory.
+     */
+    private static final Map<WatchKey, Database.Store> watched = new ConcurrentHashMap<>();
+
+    private static WatchService watcher;
+
+
+    /**
+     * An exclusive lock on a store, released when it is closed as often as it was taken.
+     */
+    public static class Lock implements AutoCloseable {
+        private final String path;
+        private final FileChannel channel; // null if the file system does not support locking
+        private final FileLock fileLock;
+        private int depth = 1; // Number of times this process has taken the lock
+
+        private Lock(String path, FileChannel channel, FileLock fileLock) {
+            this.path = path;
+            this.channel = channel;
+            this.fileLock = fileLock;
+        }
+
+        /**
+         * Releases the lock once, and the file lock when it has been released as often as it was taken.
+         */
+        @Override
+        public void close() {
+            synchronized (held) {
+                if (--depth > 0) {
+                    return;
+                }
+                held.remove(path);
+            }
+            try {
+                if (fileLock != null) {
+                    fileLock.release();
+                }
+                if (channel != null) {
+                    channel.close();
+                }
+            } catch (IOException e) {
+                // The lock is released when the channel is closed or the process ends anyway
+            }
+        }
+    }
+
+
+    /**
+     * Takes the exclusive lock of a store, waiting until no other process holds it.
+     * <p>
+     * Locking is best-effort: if the lock file cannot be created or locked, for example on a read-only
+     * or network file system without locking support, the returned lock guards nothing.
+     * </p>
+     *
+     * @param path the directory of the store; must not be {@code null}.
+     * @return the lock, to be closed when done.
+     */
+    public static Lock lock(String path) {
+        synchronized (held) {
+            Lock lock = held.get(path);
+            if (lock != null) {
+                lock.depth++;
+                return lock;
+            }
+        }
+
+        FileChannel channel = null;
+        FileLock fileLock = null;
+        try {
+            File file = new File(path + LOCK_EXTENSION);
+            File parent = file.getAbsoluteFile().getParentFile();
+            if (parent.exists() || parent.mkdirs()) {
+                channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+                fileLock = channel.lock();
+            }
+        } catch (IOException e) {
+            // Carry on without the lock
+        }
+
+        Lock lock = new Lock(path, channel, fileLock);
+        synchronized (held) {
+            held.put(path, lock);
+        }
+        return lock;
+    }
+
+
+    //region Watching
+
+    /**
+     * Starts watching the directory of a store for changes. Stores whose directory does not exist yet,
+     * or cannot be watched, stay flagged as changed, so their manifest is read before every command.
+     *
+     * @param store the store to watch; must not be {@code null}.
+     */
+    public static synchronized void watch(Database.Store store) {
+        if (store.watchKey != null || !new File(store.getPath()).isDirectory()) {
+            return;
+        }
+
+        try {
+            if (watcher == null) {
+                watcher = FileSystems.getDefault().newWatchService();
+                Thread thread = new Thread(StoreGuard::run, "amadeus-watcher");
+                thread.setDaemon(true); // Never keeps the application alive on exit
+                thread.start();
+            }
+            store.watchKey = Path.of(store.getPath()).register(watcher, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+            watched.put(store.watchKey, store);
+        } catch (IOException e) {
+            // Without a watch, the store is simply checked before every command
+        }
+    }
+
+
+    /**
+     * Stops watching the directory of a store.
+     *
+     * @param store the store to stop watching; must not be {@code null}.
+     */
+    public static synchronized void unwatch(Database.Store store) {
+        if (store.watchKey != null) {
+            watched.remove(store.watchKey);
+            store.watchKey.cancel();
+            store.watchKey = null;
+        }
+    }
+
+
+    /**
+     * Waits for changes in the watched directories and flags their stores.
+     */
+    private static void run() {
+        while (true) {
+            WatchKey key;
+            try {
+                key = watcher.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+
+            key.pollEvents();
+            Database.Store store = watched.get(key);
+            if (store != null) {
+                store.isChanged = true;
+            }
+            key.reset();
+        }
+    }
+    //endregion
+}
@@ -0,0 +1,534 @@
+package amadeus.brain;
+
+import amadeus.perception.DateConverter;
+import amadeus.workspace.Deadline;
+import amadeus.workspace.Event;
+import amadeus.workspace.Recurrence;
+import amadeus.workspace.Task;
+import amadeus.workspace.ToDo;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Imports and exports tasks as CSV or JSON Lines files.
+ * <p>
+ * Every task is one row with the columns {@code type} ({@code T}, {@code D} or {@code E}), {@code done}
+ * ({@code 0} or {@code 1}), {@code description}, {@code from} (the due date of a deadline or the start
+ * of an event), {@code to} (the end of an event) and {@code every} (the repetition rule, e.g.
+ * {@code weekly /until 31/12/2026}). Dates are written and read with the same formats as the
+ * {@code deadline} and {@code event} commands. A CSV file starts with a header row naming the columns;
+ * a JSON Lines file holds one object per line with the same keys.
+ * </p>
+ * <p>
+ * Rows are streamed through a queue of at most {@value #BUFFER_ROWS} lines between a thread doing the
+ * file I/O and the thread converting rows, so the two overlap and memory use does not grow with the
+ * size of the file. Rows that cannot be converted are skipped and counted.
+ * </p>
+ */
+public class Transfer {
+    /**
+     * The maximum number of lines held between the I/O thread and the converting thread.
+     */
+    public static final int BUFFER_ROWS = 1024;
+
+    /**
+     * The columns of a row, in CSV order.
+     */
+    private static final String[] COLUMNS = {"type", "done", "description", "from", "to", "every"};
+
+    /**
+     * Marks the end of the lines in the queue; compared by identity.
+     */
+    private static final String END = new String("");
+
+    /**
+     * The file formats that tasks can be imported from and exported to, chosen by file extension.
+     */
+    public enum Format {
+        CSV, JSONL
+    }
+
+    /**
+     * The outcome of an import or export.
+     */
+    public static class Report {
+        private final long rows;
+        private final long skipped;
+        private final long nanos;
+
+        private Report(long rows, long skipped, long nanos) {
+            this.rows = rows;
+            this.skipped = skipped;
+            this.nanos = nanos;
+        }
+
+        /**
+         * Returns the number of rows read or written, including skipped rows.
+         *
+         * @return the number of rows.
+         */
+        public long getRows() {
+            return rows;
+        }
+
+        /**
+         * Returns the number of rows that could not be converted.
+         *
+         * @return the number of skipped rows.
+         */
+        public long getSkipped() {
+            return skipped;
+        }
+
+        /**
+         * Returns the time taken in milliseconds.
+         *
+         * @return the elapsed time.
+         */
+        public long getMillis() {
+            return nanos / 1_000_000;
+        }
+
+        /**
+         * Returns the number of rows handled per second.
+         *
+         * @return the throughput.
+         */
+        public long getRowsPerSecond() {
+            return nanos == 0 ? rows : rows * 1_000_000_000L / nanos;
+        }
+    }
+
+
+    /**
+     * Returns the format of a file from its extension.
+     *
+     * @param file the file name.
+     * @return {@link Format#CSV} for {@code .csv} and {@link Format#JSONL} for {@code .jsonl} or {@code .json}.
+     * @throws AmadeusException if the extension is not supported.
+     */
+    public static Format formatOf(String file) throws AmadeusException {
+        String name = file.toLowerCase(Locale.ROOT);
+        if (name.endsWith(".csv")) {
+            return Format.CSV;
+        } else if (name.endsWith(".jsonl") || name.endsWith(".json")) {
+            return Format.JSONL;
+        }
+        throw AmadeusException.invalidTransfer();
+    }
+
+
+    //region Import
+
+    /**
+     * Reads every task from a file, streaming its lines through a bounded queue.
+     * <p>
+     * A reader thread fills the queue while the calling thread converts each row into a task, so only
+     * {@value #BUFFER_ROWS} lines are held at a time besides the converted tasks.
+     * </p>
+     *
+     * @param file  the file to read.
+     * @param tasks the list to add the converted tasks to, in file order.
+     * @return the report of the rows read and skipped.
+     * @throws AmadeusException if the file format is not supported or the file cannot be read.
+     */
+    public static Report importTasks(Path file, List<Task> tasks) throws AmadeusException {
+        Format format = formatOf(file.toString());
+        BlockingQueue<String> lines = new ArrayBlockingQueue<>(BUFFER_ROWS);
+        IOException[] failure = new IOException[1];
+        long start = System.nanoTime();
+
+        Thread reader = new Thread(() -> {
+            try (BufferedReader in = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = in.readLine()) != null) {
+                    lines.put(line);
+                }
+            } catch (IOException e) {
+                failure[0] = e;
+            } catch (InterruptedException e) {
+                return; // The import was abandoned
+            }
+
+            try {
+                lines.put(END);
+            } catch (InterruptedException e) {
+                // The import was abandoned
+            }
+        }, "amadeus-import");
+        reader.setDaemon(true);
+        reader.start();
+
+        long rows = 0;
+        long skipped = 0;
+        try {
+            boolean isFirst = true;
+            for (String line = lines.take(); line != END; line = lines.take()) {
+                // Skip blank lines and the CSV header
+                if (line.isBlank() || (isFirst && format == Format.CSV && isHeader(line))) {
+                    isFirst = false;
+                    continue;
+                }
+                isFirst = false;
+
+                rows++;
+                try {
+                    tasks.add(toTask(format == Format.CSV ? parseCsv(line) : parseJson(line)));
+                } catch (AmadeusException | RuntimeException e) {
+                    skipped++;
+                }
+            }
+            reader.join();
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw AmadeusException.errorTransferringTasks(file.toString());
+
+        } finally {
+            reader.interrupt(); // Stops the reader if conversion ended early
+        }
+
+        if (failure[0] != null) {
+            throw AmadeusException.errorTransferringTasks(failure[0].getMessage());
+        }
+        return new Report(rows, skipped, System.nanoTime() - start);
+    }
+
+
+    /**
+     * Converts the columns of a row into a task.
+     *
+     * @param row the columns, in the order of {@link #COLUMNS}; missing columns are {@code null}.
+     * @return the task.
+     * @throws AmadeusException if the type, a date or the rule is invalid.
+     */
+    private static Task toTask(String[] row) throws AmadeusException {
+        String type = row[0] == null ? "" : row[0].trim().toUpperCase(Locale.ROOT);
+        boolean isDone = row[1] != null && (row[1].trim().equals("1") || row[1].trim().equalsIgnoreCase("true"));
+        String description = row[2] == null ? "" : row[2].trim();
+        if (description.isEmpty()) {
+            throw AmadeusException.missingArgument(type);
+        }
+
+        Task task = switch (type) {
+        case "D", "DEADLINE" -> new Deadline(description, isDone, DateConverter.parseDate(row[3].trim()));
+        case "E", "EVENT" -> new Event(description, isDone,
+                DateConverter.parseDate(row[3].trim()), DateConverter.parseDate(row[4].trim()));
+        case "T", "TODO" -> new ToDo(description, isDone);
+        default -> throw AmadeusException.invalidTaskType(type);
+        };
+
+        // Only deadlines and events can repeat
+        if (row[5] != null && !row[5].isBlank() && !(task instanceof ToDo)) {
+            task.setRecurrence(Recurrence.parse(row[5]));
+        }
+        return task;
+    }
+
+
+    private static boolean isHeader(String line) {
+        return line.trim().toLowerCase(Locale.ROOT).startsWith(COLUMNS[0] + "," + COLUMNS[1]);
+    }
+
+
+    /**
+     * Splits a CSV line into its columns, unquoting quoted fields.
+     *
+     * @param line the line to split.
+     * @return the columns, in the order of {@link #COLUMNS}; missing columns are {@code null}.
+     */
+    private static String[] parseCsv(String line) {
+        String[] row = new String[COLUMNS.length];
+        StringBuilder field = new StringBuilder();
+        boolean isQuoted = false;
+        int column = 0;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (isQuoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"'); // Escaped quote
+                    i++;
+                } else if (c == '"') {
+                    isQuoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                isQuoted = true;
+            } else if (c == ',') {
+                if (column < row.length) {
+                    row[column] = field.toString();
+                }
+                column++;
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (column < row.length) {
+            row[column] = field.toString();
+        }
+        return row;
+    }
+
+
+    /**
+     * Reads a JSON object of string, number, boolean and null values from one line.
+     *
+     * @param line the line holding the object.
+     * @return the values of the known keys, in the order of {@link #COLUMNS}; missing keys are {@code null}.
+     * @throws IllegalArgumentException if the line is not a flat JSON object.
+     */
+    private static String[] parseJson(String line) {
+        HashMap<String, String> values = new HashMap<>();
+        int[] at = {skipSpaces(line, 0)};
+        expect(line, at, '{');
+        if (line.charAt(skipSpaces(line, at[0])) == '}') {
+            at[0] = skipSpaces(line, at[0]) + 1;
+        } else {
+            do {
+                String key = readString(line, at);
+                expect(line, at, ':');
+                values.put(key, readValue(line, at));
+                at[0] = skipSpaces(line, at[0]);
+            } while (line.charAt(at[0]++) == ',');
+            if (line.charAt(at[0] - 1) != '}') {
+                throw new IllegalArgumentException(line);
+            }
+        }
+
+        String[] row = new String[COLUMNS.length];
+        for (int i = 0; i < COLUMNS.length; i++) {
+            row[i] = values.get(COLUMNS[i]);
+        }
+        return row;
+    }
+
+
+    private static String readValue(String line, int[] at) {
+        at[0] = skipSpaces(line, at[0]);
+        if (line.charAt(at[0]) == '"') {
+            return readString(line, at);
+        }
+
+        // A bare number, boolean or null
+        int end = at[0];
+        while (end < line.length() && ",} \t".indexOf(line.charAt(end)) < 0) {
+            end++;
+        }
+        String value = line.substring(at[0], end);
+        at[0] = end;
+        return value.equals("null") ? null : value;
+    }
+
+
+    private static String readString(String line, int[] at) {
+        expect(line, at, '"');
+        StringBuilder value = new StringBuilder();
+        for (char c = line.charAt(at[0]++); c != '"'; c = line.charAt(at[0]++)) {
+            if (c != '\\') {
+                value.append(c);
+                continue;
+            }
+
+            char escaped = line.charAt(at[0]++);
+            switch (escaped) {
+            case 'n' -> value.append('\n');
+            case 't' -> value.append('\t');
+            case 'r' -> value.append('\r');
+            case 'b' -> value.append('\b');
+            case 'f' -> value.append('\f');
+            case 'u' -> {
+                value.append((char) Integer.parseInt(line.substring(at[0], at[0] + 4), 16));
+                at[0] += 4;
+            }
+            default -> value.append(escaped); // Quote, backslash or slash
+            }
+        }
+        return value.toString();
+    }
+
+
+    private static void expect(String line, int[] at, char c) {
+        at[0] = skipSpaces(line, at[0]);
+        if (line.charAt(at[0]) != c) {
+            throw new IllegalArgumentException(line);
+        }
+        at[0]++;
+    }
+
+
+    private static int skipSpaces(String line, int at) {
+        while (at < line.length() && Character.isWhitespace(line.charAt(at))) {
+            at++;
+        }
+        return at;
+    }
+    //endregion
+
+
+    //region Export
+
+    /**
+     * Writes the given tasks to a file, streaming the rows through a bounded queue.
+     * <p>
+     * The calling thread converts each task into a row while a writer thread drains the queue into the
+     * file, so only {@value #BUFFER_ROWS} rows are held at a time.
+     * </p>
+     *
+     * @param file  the file to write; it is replaced if it exists.
+     * @param tasks the tasks to write, in order.
+     * @return the report of the rows written.
+     * @throws AmadeusException if the file format is not supported or the file cannot be written.
+     */
+    public static Report exportTasks(Path file, List<Task> tasks) throws AmadeusException {
+        Format format = formatOf(file.toString());
+        BlockingQueue<String> lines = new ArrayBlockingQueue<>(BUFFER_ROWS);
+        IOException[] failure = new IOException[1];
+        long start = System.nanoTime();
+
+        Thread writer = new Thread(() -> {
+            try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                for (String line = lines.take(); line != END; line = lines.take()) {
+                    out.write(line);
+                    out.newLine();
+                }
+            } catch (IOException e) {
+                failure[0] = e;
+                drain(lines); // Keep the producer from blocking on a full queue
+            } catch (InterruptedException e) {
+                // The export was abandoned
+            }
+        }, "amadeus-export");
+        writer.setDaemon(true);
+        writer.start();
+
+        try {
+            if (format == Format.CSV) {
+                lines.put(String.join(",", COLUMNS));
+            }
+            for (Task task : tasks) {
+                String[] row = toRow(task);
+                lines.put(format == Format.CSV ? toCsv(row) : toJson(row));
+            }
+            lines.put(END);
+            writer.join();
+
+        } catch (InterruptedException e) {
+            writer.interrupt();
+            Thread.currentThread().interrupt();
+            throw AmadeusException.errorTransferringTasks(file.toString());
+        }
+
+        if (failure[0] != null) {
+            throw AmadeusException.errorTransferringTasks(failure[0].getMessage());
+        }
+        return new Report(tasks.size(), 0, System.nanoTime() - start);
+    }
+
+
+    /**
+     * Discards lines from the queue until the end marker.
+     *
+     * @param lines the queue to drain.
+     */
+    private static void drain(BlockingQueue<String> lines) {
+        try {
+            while (lines.take() != END) {
+                // Discard
+            }
+        } catch (InterruptedException e) {
+            // The export was abandoned
+        }
+    }
+
+
+    /**
+     * Converts a task into the columns of a row.
+     *
+     * @param task the task.
+     * @return the columns, in the order of {@link #COLUMNS}; empty columns are {@code null}.
+     */
+    private static String[] toRow(Task task) {
+        String[] row = new String[COLUMNS.length];
+        row[1] = task.getDone() ? "1" : "0";
+        row[2] = task.getName();
+        if (task instanceof Deadline) {
+            row[0] = "D";
+            row[3] = DateConverter.formatInput(((Deadline) task).getBy());
+        } else if (task instanceof Event) {
+            row[0] = "E";
+            row[3] = DateConverter.formatInput(((Event) task).getFrom());
+            row[4] = DateConverter.formatInput(((Event) task).getTo());
+        } else {
+            row[0] = "T";
+        }
+        if (task.isRecurring()) {
+            row[5] = task.getRecurrence().toInputFormat();
+        }
+        return row;
+    }
+
+
+    private static String toCsv(String[] row) {
+        StringBuilder line = new StringBuilder();
+        for (int i = 0; i < row.length; i++) {
+            if (i > 0) {
+                line.append(',');
+            }
+            String value = row[i] == null ? "" : row[i];
+            if (value.contains(",") || value.contains("\"")) {
+                line.append('"').append(value.replace("\"", "\"\"")).append('"');
+            } else {
+                line.append(value);
+            }
+        }
+        return line.toString();
+    }
+
+
+    private static String toJson(String[] row) {
+        StringBuilder line = new StringBuilder("{");
+        for (int i = 0; i < row.length; i++) {
+            if (i > 0) {
+                line.append(", ");
+            }
+            line.append('"').append(COLUMNS[i]).append("\": ");
+            if (row[i] == null) {
+                line.append("null");
+            } else if (i == 1) {
+                line.append(row[i].equals("1")); // done as a boolean
+            } else {
+                appendJsonString(line, row[i]);
+            }
+        }
+        return line.append('}').toString();
+    }
+
+
+    private static void appendJsonString(StringBuilder line, String value) {
+        line.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                line.append('\\').append(c);
+            } else if (c < 0x20) {
+                line.append(String.format("\\u%04x", (int) c));
+            } else {
+                line.append(c);
+            }
+        }
+        line.append('"');
+    }
+    //endregion
+}
@@ -4,8 +4,11 @@
  * This package includes classes responsible for:
  * <ul>
  *   <li><b>Data Persistence</b>: The {@link amadeus.brain.Database}
- *   class handles saving and loading tasks to/from a file,
- *       ensuring data persistence across application sessions.</li>
+ *   class handles saving and loading tasks to/from sharded files,
+ *       ensuring data persistence across application sessions while only rewriting changed shards.</li>
+ *   <li><b>Cold Storage</b>: The {@link amadeus.brain.Archive}
+ *   class moves stale completed tasks into a compressed, append-only archive
+ *       that is only read when explicitly queried.</li>
  *   <li><b>Error Handling</b>: The {@link amadeus.brain.AmadeusException}
  *   class defines custom exceptions for domain-specific errors,
  *       such as invalid commands, missing arguments, and file I/O issues.</li>
@@ -18,7 +21,21 @@
  * <h2>Key Classes</h2>
  * <ul>
  *   <li>{@link amadeus.brain.Database}:
- *   Manages the storage and retrieval of tasks, ensuring data persistence.</li>
+ *   Manages the storage and retrieval of tasks, with one store directory per task list.</li>
+ *   <li>{@link amadeus.brain.StoreGuard}:
+ *   Locks stores against other processes and watches them for outside changes.</li>
+ *   <li>{@link amadeus.brain.Archive}:
+ *   Archives completed tasks and searches them lazily.</li>
+ *   <li>{@link amadeus.brain.History}:
+ *   Logs every saved change with periodic checkpoints, to rebuild a list as it was at a past time.</li>
+ *   <li>{@link amadeus.brain.Transfer}:
+ *   Streams tasks to and from CSV and JSON Lines files through a bounded buffer.</li>
+ *   <li>{@link amadeus.brain.Snapshot}:
+ *   Stores a preparsed binary image of the task list for fast startup.</li>
+ *   <li>{@link amadeus.brain.Metrics}:
+ *   Records per-command latency and save statistics in lock-free {@link amadeus.brain.Histogram}s.</li>
+ *   <li>{@link amadeus.brain.Flight}:
+ *   Defines Java Flight Recorder events and starts and stops recordings.</li>
  *   <li>{@link amadeus.brain.AmadeusException}:
  *   Handles domain-specific errors and provides user-friendly error messages.</li>
  * </ul>
@@ -32,7 +49,8 @@
  *     // Perform operations on tasks
  *     tasks.add(new ToDo("Complete JavaDoc"));
  *
- *     // Save tasks back to the database
+ *     // Record the change and save tasks back to the database
+ *     Database.markDirty(tasks.get(tasks.size() - 1));
  *     Database.save(tasks);
  * } catch (AmadeusException e) {
  *     System.out.println(e.getMessage()); // Handle errors gracefully
@@ -0,0 +1,73 @@
+package amadeus.cognition;
+
+import amadeus.brain.AmadeusException;
+import amadeus.perception.DateConverter;
+import amadeus.workspace.DayIndex;
+import amadeus.workspace.TaskList;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+
+/**
+ * Command to display a month as a calendar, with the number of tasks falling on each day.
+ * <p>
+ * Weeks start on Monday, and each week takes two rows: the days of the month, with today in bold,
+ * and below each day the number of deadlines and events falling on it. An event counts on every day
+ * it spans, and a repeating task on every day one of its occurrences falls on.
+ * </p>
+ * <p>
+ * The counts come from the {@link DayIndex} kept by {@link TaskList}, one lookup per day, so the
+ * calendar takes the same time however many tasks fall outside the month.
+ * </p>
+ */
+public class CalendarCommand extends Command {
+    private static final DateTimeFormatter TITLE_FORMAT = DateTimeFormatter.ofPattern("MMMM yyyy", Locale.US);
+    private static final String HEADER = "Mo   Tu   We   Th   Fr   Sa   Su";
+    private static final String INDENT = "   ";
+
+    private final YearMonth month; // The month to display
+
+    /**
+     * Constructs a new {@code CalendarCommand} by parsing the user input for a month.
+     *
+     * @param argument the user input, a month such as {@code 12/2025} or {@code Dec 2025}, or empty for
+     *                 the current month; must not be {@code null}.
+     * @throws AmadeusException if the month is invalid.
+     */
+    public CalendarCommand(String argument) throws AmadeusException {
+        this.month = DateConverter.parseMonth(argument);
+    }
+
+    /**
+     * Executes the command by displaying the calendar of the month.
+     */
+    @Override
+    public void execute() {
+        int[] counts = TaskList.getDays().countMonth(month);
+        LocalDate today = LocalDate.now();
+
+        System.out.printf("📅 Here is \033[1m%s\033[0m for the list \033[1m%s\033[0m:\n",
+                month.format(TITLE_FORMAT), TaskList.getName());
+        System.out.println(INDENT + "\033[4;1m" + HEADER + "\033[0m");
+
+        // Pad the first week up to the first day of the month
+        int offset = month.atDay(1).getDayOfWeek().getValue() - 1; // Monday is 0
+        StringBuilder days = new StringBuilder(INDENT).append(" ".repeat(5 * offset));
+        StringBuilder tasks = new StringBuilder(INDENT).append(" ".repeat(5 * offset));
+        for (int day = 1; day <= counts.length; day++) {
+            String number = String.format("%-5d", day);
+            days.append(month.atDay(day).equals(today) ? "\033[1m" + number + "\033[0m" : number);
+            tasks.append(String.format("%-5s", counts[day - 1] == 0 ? "·" : counts[day - 1]));
+
+            // Print the week once it reaches Sunday or the end of the month
+            if ((offset + day) % 7 == 0 || day == counts.length) {
+                System.out.println(days.toString().stripTrailing());
+                System.out.println(tasks.toString().stripTrailing());
+                days.setLength(INDENT.length());
+                tasks.setLength(INDENT.length());
+            }
+        }
+    }
+}
@@ -1,10 +1,13 @@
 package amadeus.cognition;
 
 import amadeus.brain.AmadeusException;
+import amadeus.brain.Archive;
 import amadeus.perception.DateConverter;
 import amadeus.personality.Speech;
 import amadeus.workspace.Deadline;
 import amadeus.workspace.Event;
+import amadeus.workspace.Recurrence;
+import amadeus.workspace.SortedViews;
 import amadeus.workspace.Task;
 import amadeus.workspace.TaskList;
 
@@ -12,18 +15,37 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 
 /**
  * Command to filter tasks based on a date or date range.
  * <p>
  * This command parses the user input to identify a date or date range (e.g., "before", "after", or exact date)
  * and filters tasks that match the specified condition.
+ * Prefixing the date with {@code --archive} checks the archived tasks instead of the active list.
+ * </p>
+ * <p>
+ * An {@link Event} counts as occurring on every day from its start to its end, so a check of any day
+ * within the event finds it. A check of one day looks up the tasks of that day in the
+ * {@link amadeus.workspace.DayIndex} kept by {@link TaskList}, and a check before or after a date
+ * looks up the {@link amadeus.workspace.IntervalTree}, so only the tasks near the checked date are examined.
+ * </p>
+ * <p>
+ * A repeating task is expanded by {@link Recurrence} only around the checked date: its occurrences
+ * on the checked day are listed, and a check before or after a date also lists the nearest
+ * occurrence on that side, rather than every occurrence of the series.
+ * </p>
+ * <p>
+ * Ending the input with a sort key such as {@code sort:due} lists the tasks found in that order instead.
  * </p>
  */
 public class CheckCommand extends Command {
     ArrayList<Task> filteredTasks = new ArrayList<>(); // List of filtered Tasks based on date
     String preposition = "on"; // on, before or after
     String formattedDate; // String of date inquiry
+    boolean isArchive; // Whether the archive was checked instead of the active list
+    SortedViews.Key sortKey; // The order to list the tasks in, or null for the task list order
 
     /**
      * Constructs a new {@code CheckCommand} by parsing the user input for the date or date range.
@@ -36,6 +58,13 @@ public class CheckCommand extends Command {
      * @throws AmadeusException if the input is empty or invalid.
      */
     public CheckCommand(String argument) throws AmadeusException {
+        // Take off the sort key at the end, if any
+        int sortAt = argument.toLowerCase().indexOf(SortedViews.SORT_PREFIX);
+        if (sortAt >= 0) {
+            sortKey = ListCommand.parseSortKey(argument.substring(sortAt).trim());
+            argument = argument.substring(0, sortAt).trim();
+        }
+
         // Check if the input is empty
         if (argument.isEmpty()) {
             // Missing Argument in the Input Exception
@@ -51,6 +80,16 @@ public class CheckCommand extends Command {
 
         // Assume full input is a date unless proven otherwise
         String dateString = argument.trim();
+
+        // Check the archive instead of the active list if requested
+        isArchive = dateString.startsWith(Archive.ARCHIVE_FLAG);
+        if (isArchive) {
+            dateString = dateString.substring(Archive.ARCHIVE_FLAG.length()).trim();
+            if (dateString.isEmpty()) {
+                throw AmadeusException.invalidCheck();
+            }
+        }
+
         boolean isBefore = dateString.startsWith("before");
         boolean isAfter = dateString.startsWith("after");
 
@@ -73,17 +112,40 @@ public class CheckCommand extends Command {
                 : ((LocalDate) date).atStartOfDay(); // Midnight 00:00
 
         // Filter tasks based on the type of check
-        for (Task task : TaskList.getTaskList()) {
-            LocalDateTime taskDateTime = getTaskDateTime(task);
-            if (taskDateTime != null) {
-                if (isBefore && taskDateTime.isBefore(checkDateTime)) {
-                    filteredTasks.add(task);
-                } else if (isAfter && taskDateTime.isAfter(checkDateTime)) {
-                    filteredTasks.add(task);
-                } else if (isExactMatch(taskDateTime, checkDateTime)) { // Exact date or date-time
+        if (isArchive) {
+            // Lazily scan the compressed archive for matching tasks
+            filteredTasks = Archive.search(task -> task.isRecurring()
+                    ? !matchingOccurrences(task, checkDateTime, isBefore, isAfter).isEmpty()
+                    : matches(task, checkDateTime, isBefore, isAfter));
+        } else {
+            // Only tasks on the checked day, or overlapping the open range before or after it, can match
+            LocalDate checkDate = checkDateTime.toLocalDate();
+            List<Task> candidates;
+            if (!isBefore && !isAfter) {
+                candidates = TaskList.getDays().findOn(checkDate);
+            } else {
+                LocalDateTime from = isBefore ? LocalDateTime.MIN : checkDate.atStartOfDay();
+                LocalDateTime to = isAfter ? LocalDateTime.MAX : checkDate.atTime(LocalTime.MAX);
+                candidates = TaskList.getSpans().findOverlapping(from, to);
+            }
+            for (Task task : candidates) {
+                if (matches(task, checkDateTime, isBefore, isAfter)) {
                     filteredTasks.add(task);
                 }
             }
+
+            // Expand the repeating tasks around the checked date only
+            for (Task task : TaskList.getRecurring()) {
+                filteredTasks.addAll(matchingOccurrences(task, checkDateTime, isBefore, isAfter));
+            }
+            filteredTasks.sort(Comparator.comparingInt((Task task) -> task instanceof Deadline ? 0 : 1)
+                    .thenComparingLong(Task::getId)
+                    .thenComparing(this::getTaskStart)); // Task list order, occurrences in date order
+        }
+
+        // Only the tasks found are sorted, as they are usually few
+        if (sortKey != null) {
+            filteredTasks.sort(sortKey.order());
         }
 
         // Determine the appropriate preposition for the message
@@ -99,6 +161,78 @@ public class CheckCommand extends Command {
     }
 
 
+    /**
+     * Checks if a task matches the date condition of this check.
+     * <p>
+     * A task is before the check date/time if it starts before it, and after the check date/time
+     * if it ends after it. A {@link Deadline} starts and ends at its due date/time.
+     * </p>
+     *
+     * @param task          the task to check.
+     * @param checkDateTime the check date/time.
+     * @param isBefore      whether tasks before the check date/time are wanted.
+     * @param isAfter       whether tasks after the check date/time are wanted.
+     * @return {@code true} if the task should be included in the results.
+     */
+    private boolean matches(Task task, LocalDateTime checkDateTime, boolean isBefore, boolean isAfter) {
+        LocalDateTime start = getTaskStart(task);
+        LocalDateTime end = getTaskEnd(task);
+        if (start == null || end == null) {
+            return false; // ToDo tasks have no date
+        }
+        if (isBefore && start.isBefore(checkDateTime)) {
+            return true;
+        } else if (isAfter && end.isAfter(checkDateTime)) {
+            return true;
+        }
+        return isExactMatch(start, end, checkDateTime); // Exact date or date-time
+    }
+
+
+    /**
+     * Returns the occurrences of a repeating task that match the date condition of this check.
+     * <p>
+     * Only the occurrences overlapping the checked day are expanded. A check before or after the date
+     * adds the last occurrence starting before it or the first ending after it, respectively.
+     * </p>
+     *
+     * @param task          the repeating task to check.
+     * @param checkDateTime the check date/time.
+     * @param isBefore      whether tasks before the check date/time are wanted.
+     * @param isAfter       whether tasks after the check date/time are wanted.
+     * @return the matching occurrences, in date order; never {@code null}.
+     */
+    private ArrayList<Task> matchingOccurrences(Task task, LocalDateTime checkDateTime,
+                                                boolean isBefore, boolean isAfter) {
+        LocalDate checkDate = checkDateTime.toLocalDate();
+        ArrayList<Task> occurrences = new ArrayList<>();
+        if (isBefore) {
+            Task last = Recurrence.lastStartingBefore(task, checkDateTime);
+            if (last != null) {
+                occurrences.add(last);
+            }
+        }
+
+        for (Task occurrence : Recurrence.expand(task, checkDate.atStartOfDay(), checkDate.atTime(LocalTime.MAX))) {
+            boolean isListed = !occurrences.isEmpty()
+                    && getTaskStart(occurrences.get(occurrences.size() - 1)).equals(getTaskStart(occurrence));
+            if (!isListed && matches(occurrence, checkDateTime, isBefore, isAfter)) {
+                occurrences.add(occurrence);
+            }
+        }
+
+        if (isAfter) {
+            Task next = Recurrence.firstEndingAfter(task, checkDateTime);
+            boolean isListed = next != null && !occurrences.isEmpty()
+                    && !getTaskStart(occurrences.get(occurrences.size() - 1)).isBefore(getTaskStart(next));
+            if (next != null && !isListed) {
+                occurrences.add(next);
+            }
+        }
+        return occurrences;
+    }
+
+
     /**
      * Executes the command by displaying the filtered tasks.
      * <p>
@@ -110,44 +244,48 @@ public class CheckCommand extends Command {
     @Override
     public void execute() {
         // Display the filtered tasks
+        if (isArchive) {
+            System.out.printf("🗄️ Checked \033[1m%d\033[0m archived tasks.\n", Archive.getArchivedCount());
+        }
         if (filteredTasks.isEmpty()) {
             System.out.printf("⚠️ No tasks found occurring \033[1m%s\033[0m \033[4m%s\033[0m!\n",
                     preposition, formattedDate);
         } else {
             System.out.printf("✍️ These are the Tasks occurring \033[1m%s\033[0m \033[4m%s\033[0m:\n",
                     preposition, formattedDate);
-            Speech.sayList(filteredTasks);
+            if (sortKey != null) {
+                Speech.saySorted(filteredTasks);
+            } else {
+                Speech.sayList(filteredTasks);
+            }
         }
     }
 
 
     /**
-     * Checks if a task's date/time matches the check date/time based on the rules.
+     * Checks if a task's span matches the check date/time based on the rules.
      *
-     * @param taskDateTime  the task's date/time.
+     * @param start         the task's start date/time.
+     * @param end           the task's end date/time.
      * @param checkDateTime the check date/time.
      * @return {@code true} if the task should be included based on the check conditions.
      */
-    private boolean isExactMatch(LocalDateTime taskDateTime, LocalDateTime checkDateTime) {
+    private boolean isExactMatch(LocalDateTime start, LocalDateTime end, LocalDateTime checkDateTime) {
         // Extract date parts
-        LocalDate taskDate = taskDateTime.toLocalDate();
         LocalDate checkDate = checkDateTime.toLocalDate();
 
-        // Always check if the dates match
-        if (!taskDate.equals(checkDate)) {
+        // Always check if the task occurs on the checked date
+        if (start.toLocalDate().isAfter(checkDate) || end.toLocalDate().isBefore(checkDate)) {
             return false;
         }
 
-        // Extract time parts
-        LocalTime taskTime = taskDateTime.toLocalTime();
-        LocalTime checkTime = checkDateTime.toLocalTime();
-
         // Determine if the checkDateTime has a time component (i.e., user provided time)
-        boolean checkHasTime = !checkTime.equals(LocalTime.MIDNIGHT); // Only true if check isn't 00:00
+        boolean checkHasTime = !checkDateTime.toLocalTime().equals(LocalTime.MIDNIGHT);
 
-        // If checking with a specific time, match exact tasks and date-only tasks
+        // If checking with a specific time, match tasks running at that time and date-only tasks of that date
         if (checkHasTime) {
-            return taskTime.equals(checkTime) || taskTime.equals(LocalTime.MIDNIGHT);
+            return (!start.isAfter(checkDateTime) && !end.isBefore(checkDateTime))
+                    || start.equals(checkDate.atStartOfDay());
         }
 
         // If checking a date only, match all tasks on that date (regardless of time)
@@ -156,22 +294,32 @@ public class CheckCommand extends Command {
 
 
     /**
-     * Extracts the date and time from a task.
+     * Extracts the start date and time from a task.
+     *
+     * @param task the task to extract the date and time from.
+     * @return the start date and time of the task, or {@code null} if the task has no date.
+     */
+    private LocalDateTime getTaskStart(Task task) {
+        if (task instanceof Deadline) {
+            return DateConverter.toDateTime(((Deadline) task).getBy());
+        } else if (task instanceof Event) {
+            return DateConverter.toDateTime(((Event) task).getFrom());
+        }
+        return null; // ToDo tasks have no date
+    }
+
+
+    /**
+     * Extracts the end date and time from a task.
      *
      * @param task the task to extract the date and time from.
-     * @return the date and time of the task, or {@code null} if the task has no date.
+     * @return the end date and time of the task, or {@code null} if the task has no date.
      */
-    private LocalDateTime getTaskDateTime(Task task) {
+    private LocalDateTime getTaskEnd(Task task) {
         if (task instanceof Deadline) {
-            Object by = ((Deadline) task).getBy();
-            return (by instanceof LocalDateTime)
-                    ? (LocalDateTime) by
-                    : ((LocalDate) by).atStartOfDay();
+            return DateConverter.toDateTime(((Deadline) task).getBy());
         } else if (task instanceof Event) {
-            Object from = ((Event) task).getFrom();
-            return (from instanceof LocalDateTime)
-                    ? (LocalDateTime) from
-                    : ((LocalDate) from).atStartOfDay();
+            return DateConverter.toDateTime(((Event) task).getTo());
         }
         return null; // ToDo tasks have no date
     }
@@ -0,0 +1,57 @@
+package amadeus.cognition;
+
+import amadeus.workspace.Conflicts;
+import amadeus.workspace.Event;
+import amadeus.workspace.Task;
+import amadeus.workspace.TaskList;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Command to list every pair of overlapping {@link amadeus.workspace.Event} tasks.
+ * <p>
+ * The pairs are found by {@link amadeus.workspace.Conflicts#findAll(java.util.List)} and shown with
+ * the list index of each event, so a conflicting event can be deleted right away. Repeating events
+ * are shown with their first conflicting occurrence, once per pair of list entries.
+ * </p>
+ */
+public class ConflictsCommand extends Command {
+    /**
+     * Executes the command by displaying the conflicting pairs of events.
+     */
+    @Override
+    public void execute() {
+        ArrayList<Task> tasks = TaskList.getTaskList();
+        ArrayList<Event[]> pairs = Conflicts.findAll(tasks);
+        if (pairs.isEmpty()) {
+            System.out.println("✔️ No events overlap. Your timeline is clear!");
+            return;
+        }
+
+        // Look up the list index of every task once, by identifier as occurrences share it
+        HashMap<Long, Integer> indices = new HashMap<>();
+        for (int i = 0; i < tasks.size(); i++) {
+            indices.put(tasks.get(i).getId(), i + 1);
+        }
+
+        // Show each pair as "earlier index, later index", ordered by the earlier index
+        TreeMap<Long, Event[]> rows = new TreeMap<>();
+        for (Event[] pair : pairs) {
+            int first = indices.get(pair[0].getId());
+            int second = indices.get(pair[1].getId());
+            if (first > second) {
+                pair = new Event[] {pair[1], pair[0]};
+            }
+            rows.putIfAbsent((long) Math.min(first, second) << 32 | Math.max(first, second), pair);
+        }
+
+        System.out.printf("⚔️ Found \033[1m%d\033[0m pairs of overlapping events:\n", rows.size());
+        for (Map.Entry<Long, Event[]> row : rows.entrySet()) {
+            System.out.printf("%d. %s\n   ╰┈➤ overlaps %d. %s\n", row.getKey() >>> 32, row.getValue()[0],
+                    row.getKey() & 0xFFFFFFFFL, row.getValue()[1]);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package amadeus.cognition;
 import amadeus.brain.AmadeusException;
 import amadeus.perception.DateConverter;
 import amadeus.workspace.Deadline;
+import amadeus.workspace.Recurrence;
 import amadeus.workspace.TaskList;
 
 /**
@@ -10,6 +11,8 @@ import amadeus.workspace.TaskList;
  * <p>
  * This command parses the user input to create a {@link amadeus.workspace.Deadline} task and adds it to the list.
  * The input is expected to contain a description and a due date, separated by {@code /by}.
+ * A repeating deadline is entered by appending {@code /every day|week|month}, optionally
+ * followed by {@code /until <date>}; it is stored once as a {@link Recurrence} rule.
  * </p>
  */
 public class DeadlineCommand extends Command {
@@ -32,6 +35,14 @@ public class DeadlineCommand extends Command {
             throw AmadeusException.missingArgument("DEADLINE");
         }
 
+        // Split off the repetition rule, if any
+        Recurrence recurrence = null;
+        if (input.contains(" /every ")) {
+            String[] ruleParts = input.split(" /every ", 2);
+            input = ruleParts[0];
+            recurrence = Recurrence.parse(ruleParts[1]);
+        }
+
         // Check if "/by" exist before splitting
         if (!input.contains(" /by ")) {
             // Invalid Deadline Format Exception
@@ -47,6 +58,7 @@ public class DeadlineCommand extends Command {
 
         // Create a new Deadline task
         d = new Deadline(name, by);
+        d.setRecurrence(recurrence);
     }
 
     /**
@@ -2,11 +2,14 @@ package amadeus.cognition;
 
 import amadeus.brain.AmadeusException;
 import amadeus.perception.DateConverter;
+import amadeus.workspace.Conflicts;
 import amadeus.workspace.Event;
+import amadeus.workspace.Recurrence;
 import amadeus.workspace.TaskList;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 
 /**
  * Command to add a new {@link amadeus.workspace.Event} task to the task list.
@@ -14,10 +17,14 @@ import java.time.LocalDateTime;
  * This command parses the user input to create an {@link amadeus.workspace.Event} task and adds it to the list.
  * The input is expected to contain a description, a start time, and an end time,
  * separated by {@code /from} and {@code /to}.
+ * Prefixing the description with {@code --warn} also lists the existing events that overlap the new one.
+ * A repeating event is entered by appending {@code /every day|week|month}, optionally
+ * followed by {@code /until <date>}; it is stored once as a {@link Recurrence} rule.
  * </p>
  */
 public class EventCommand extends Command {
     private final Event e;
+    private final boolean isWarn; // Whether to warn about overlapping events
 
     /**
      * Constructs a new {@code EventCommand} by parsing the user input.
@@ -38,6 +45,20 @@ public class EventCommand extends Command {
             throw AmadeusException.missingArgument("EVENT");
         }
 
+        // Warn about overlapping events if requested
+        isWarn = input.startsWith(Conflicts.WARN_FLAG + " ");
+        if (isWarn) {
+            input = input.substring(Conflicts.WARN_FLAG.length()).trim();
+        }
+
+        // Split off the repetition rule, if any
+        Recurrence recurrence = null;
+        if (input.contains(" /every ")) {
+            String[] ruleParts = input.split(" /every ", 2);
+            input = ruleParts[0];
+            recurrence = Recurrence.parse(ruleParts[1]);
+        }
+
         // Check if "/from" and "/to" exist before splitting
         if (!input.contains(" /from ") || !input.contains(" /to ")) {
             // Invalid Event Format Exception
@@ -71,15 +92,31 @@ public class EventCommand extends Command {
 
         // Create a new Event task
         e = new Event(name, from, to);
+        e.setRecurrence(recurrence);
     }
 
     /**
      * Executes the command by adding the {@link amadeus.workspace.Event} task to the task list.
+     * <p>
+     * If a warning was requested, the existing events overlapping the new one are listed afterwards.
+     * </p>
      *
      * @throws AmadeusException if an error occurs while adding the task.
      */
     @Override
     public void execute() throws AmadeusException {
         TaskList.addEvent(e);
+
+        if (isWarn) {
+            ArrayList<Event> conflicts = Conflicts.findFor(e);
+            if (conflicts.isEmpty()) {
+                System.out.println("✔️ It does not overlap any other event.");
+                return;
+            }
+            System.out.printf("⚔️ Careful! It overlaps \033[1m%d\033[0m other events:\n", conflicts.size());
+            for (Event other : conflicts) {
+                System.out.printf("%d. %s\n", TaskList.getTaskList().indexOf(other) + 1, other);
+            }
+        }
     }
 }
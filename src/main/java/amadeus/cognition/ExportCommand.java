@@ -0,0 +1,44 @@
+package amadeus.cognition;
+
+import amadeus.brain.AmadeusException;
+import amadeus.brain.Transfer;
+import amadeus.workspace.TaskList;
+
+import java.nio.file.Path;
+
+/**
+ * Command to write every task in the list to a CSV or JSON Lines file.
+ * <p>
+ * The tasks are streamed by {@link amadeus.brain.Transfer#exportTasks(Path, java.util.List)} in list
+ * order, and the number of rows per second is reported. An existing file is replaced.
+ * </p>
+ */
+public class ExportCommand extends Command {
+    private final Path file; // File to export to
+
+    /**
+     * Constructs a new {@code ExportCommand} by parsing the user input.
+     *
+     * @param argument the user input containing the file to export to; must not be {@code null}.
+     * @throws AmadeusException if no file is given or it is not a CSV or JSON Lines file.
+     */
+    public ExportCommand(String argument) throws AmadeusException {
+        if (argument.isBlank()) {
+            throw AmadeusException.invalidTransfer();
+        }
+        Transfer.formatOf(argument.trim()); // Check the format before writing anything
+        this.file = Path.of(argument.trim());
+    }
+
+    /**
+     * Executes the command by writing the task list to the file.
+     *
+     * @throws AmadeusException if the file cannot be written.
+     */
+    @Override
+    public void execute() throws AmadeusException {
+        Transfer.Report report = Transfer.exportTasks(file, TaskList.getTaskList());
+        System.out.printf("📤 Exported \033[1m%d\033[0m tasks to \033[4m%s\033[0m in %d ms (%d rows/s).\n",
+                report.getRows(), file, report.getMillis(), report.getRowsPerSecond());
+    }
+}
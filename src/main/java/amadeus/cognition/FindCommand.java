@@ -1,22 +1,46 @@
 package amadeus.cognition;
 
 import amadeus.brain.AmadeusException;
+import amadeus.brain.Archive;
+import amadeus.brain.History;
 import amadeus.personality.Speech;
+import amadeus.workspace.BkTree;
+import amadeus.workspace.Name;
 import amadeus.workspace.Task;
 import amadeus.workspace.TaskList;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Set;
 
 /**
  * Command to search for tasks in the task list that match a keyword.
  * <p>
  * This command parses the user input to identify the keyword and filters tasks
  * whose descriptions contain the keyword (case-insensitive).
+ * Prefixing the keyword with {@code --archive} searches the archived tasks instead of the active list.
+ * </p>
+ * <p>
+ * Prefixing the keyword with {@value #FUZZY_PREFIX} searches for tasks whose names contain words
+ * within a few typing mistakes of every word of the keyword instead, using the
+ * {@link amadeus.workspace.BkTree} kept by {@link TaskList}. These are listed closest first.
+ * </p>
+ * <p>
+ * Ending the keyword with {@code as of} and a date searches the list as it was at that time instead,
+ * rebuilt from the {@link History} of the list.
  * </p>
  */
 public class FindCommand extends Command {
+    /**
+     * Prefix of a keyword asking for a fuzzy search.
+     */
+    public static final String FUZZY_PREFIX = "~";
+
     private final String keyword; // The keyword to search for
     private final ArrayList<Task> matchingTasks; // List of tasks matching the keyword
+    private final boolean isArchive; // Whether the archive was searched instead of the active list
+    private final boolean isFuzzy; // Whether words close to the keyword were searched for
+    private final LocalDateTime asOf; // The time of the list searched, or null for the current list
 
     /**
      * Constructs a new {@code FindCommand} by parsing the user input for the keyword.
@@ -34,17 +58,102 @@ public class FindCommand extends Command {
             throw AmadeusException.missingArgument("FIND");
         }
 
-        this.keyword = argument.trim().toLowerCase(); // Normalize keyword to lowercase for case-insensitive search
+        // Search the list at a past time if requested
+        String[] parts = ListCommand.splitAsOf(argument.trim());
+        this.asOf = parts[1] != null ? ListCommand.parseAsOf(parts[1]) : null;
+
+        String query = parts[0];
+        this.isArchive = query.startsWith(Archive.ARCHIVE_FLAG);
+        if (isArchive) {
+            query = query.substring(Archive.ARCHIVE_FLAG.length()).trim();
+            if (query.isEmpty()) {
+                throw AmadeusException.missingArgument("FIND");
+            }
+        }
+
+        // Search for close words instead of the exact keyword if requested
+        this.isFuzzy = query.startsWith(FUZZY_PREFIX);
+        if (isFuzzy) {
+            query = query.substring(FUZZY_PREFIX.length()).trim();
+            if (BkTree.tokenize(query).isEmpty()) {
+                throw AmadeusException.missingArgument("FIND");
+            }
+        }
+
+        if (query.isEmpty()) {
+            throw AmadeusException.missingArgument("FIND");
+        } else if (isArchive && asOf != null) {
+            // The archive has no history
+            throw AmadeusException.invalidHistory();
+        }
+
+        this.keyword = query.toLowerCase(); // Normalize keyword to lowercase for case-insensitive search
+        ArrayList<Task> tasks = asOf != null ? History.load(asOf) : TaskList.getTaskList();
+
+        if (isFuzzy && isArchive) {
+            // Lazily scan the compressed archive, comparing every word of every archived task
+            this.matchingTasks = Archive.search(task -> isClose(task, BkTree.tokenize(keyword)));
+            return;
+        } else if (isFuzzy && asOf != null) {
+            // Compare every word of every task of the past list, as the index only covers the current one
+            this.matchingTasks = new ArrayList<>();
+            for (Task task : tasks) {
+                if (isClose(task, BkTree.tokenize(keyword))) {
+                    matchingTasks.add(task);
+                }
+            }
+            return;
+        } else if (isFuzzy) {
+            // Look up the close words in the index, closest tasks first
+            this.matchingTasks = new ArrayList<>();
+            TaskList.getWords().find(keyword).forEach(match -> matchingTasks.add(match.getKey()));
+            return;
+        }
+
+        // Fold and encode the keyword once, rather than lower-casing every name
+        Name.Keyword prepared = Name.keyword(keyword);
+
+        if (isArchive) {
+            // Lazily scan the compressed archive for matching tasks
+            this.matchingTasks = Archive.search(task -> task.nameContains(prepared));
+            return;
+        }
+
         this.matchingTasks = new ArrayList<>();
 
         // Filter tasks that contain the keyword in their description
-        for (Task task : TaskList.getTaskList()) {
-            if (task.getName().toLowerCase().contains(keyword)) {
+        for (Task task : tasks) {
+            if (task.nameContains(prepared)) {
                 matchingTasks.add(task);
             }
         }
     }
 
+    /**
+     * Checks whether every word of a keyword is close to some word of a task's name.
+     *
+     * @param task  the task to check.
+     * @param words the words of the keyword.
+     * @return {@code true} if every word has a close word in the task's name.
+     */
+    private static boolean isClose(Task task, Set<String> words) {
+        Set<String> names = task.getWords();
+        for (String word : words) {
+            boolean hasMatch = false;
+            for (String name : names) {
+                if (BkTree.distance(word, name) <= BkTree.maxDistanceFor(word)) {
+                    hasMatch = true;
+                    break;
+                }
+            }
+            if (!hasMatch) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+
     /**
      * Executes the command by displaying the tasks that match the keyword.
      * <p>
@@ -55,7 +164,20 @@ public class FindCommand extends Command {
      */
     @Override
     public void execute() {
-        if (matchingTasks.isEmpty()) {
+        if (isArchive) {
+            System.out.printf("🗄️ Searched \033[1m%d\033[0m archived tasks.\n", Archive.getArchivedCount());
+        } else if (asOf != null) {
+            System.out.printf("🕰️ Searched the list as of \033[1m%s\033[0m.\n", ListCommand.formatAsOf(asOf));
+        }
+        if (isFuzzy && matchingTasks.isEmpty()) {
+            System.out.printf("⚠️ No tasks found resembling the keyword '\033[4;1m%s\033[0m'!\n", keyword);
+        } else if (isFuzzy && !isArchive && asOf == null) {
+            System.out.printf("🔍 Here are the tasks resembling '\033[4;1m%s\033[0m', closest first:\n", keyword);
+            UpcomingCommand.printRanked(matchingTasks);
+        } else if (isFuzzy) {
+            System.out.printf("🔍 Here are the tasks resembling '\033[4;1m%s\033[0m':\n", keyword);
+            Speech.sayList(matchingTasks);
+        } else if (matchingTasks.isEmpty()) {
             System.out.printf("⚠️ No tasks found containing the keyword '\033[4;1m%s\033[0m'!\n", keyword);
         } else {
             System.out.printf("🔍 Here are the tasks containing the keyword '\033[4;1m%s\033[0m':\n", keyword);
@@ -0,0 +1,78 @@
+package amadeus.cognition;
+
+import amadeus.brain.AmadeusException;
+import amadeus.perception.DateConverter;
+import amadeus.workspace.FreeSlots;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Command to list the free time slots between events.
+ * <p>
+ * The input is expected to contain the shortest slot length (e.g. {@code 2h}, {@code 1h30m}),
+ * optionally followed by {@code /until} and the end of the search. Slots are searched from now
+ * until that date/time, or for {@value #DEFAULT_DAYS} days if none is given. A date-only end
+ * includes the whole of that day.
+ * </p>
+ */
+public class FreeCommand extends Command {
+    /**
+     * Number of days searched when no end is given.
+     */
+    public static final int DEFAULT_DAYS = 7;
+
+    private final Duration minLength; // Shortest slot to report
+    private final LocalDateTime from; // Start of the search
+    private final LocalDateTime to; // End of the search
+    private final Object until; // End of the search as entered, for display
+
+    /**
+     * Constructs a new {@code FreeCommand} by parsing the user input.
+     *
+     * @param argument the user input containing the slot length and optional end; must not be {@code null}.
+     * @throws AmadeusException if the slot length or the end date/time is invalid.
+     */
+    public FreeCommand(String argument) throws AmadeusException {
+        String[] parts = argument.trim().split("\\s*/until\\s*", 2);
+        if (parts[0].isEmpty()) {
+            throw AmadeusException.invalidFree();
+        }
+
+        minLength = DateConverter.parseDuration(parts[0]);
+        if (minLength == null) {
+            throw AmadeusException.invalidFree();
+        }
+
+        from = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES);
+        if (parts.length < 2) {
+            to = from.plusDays(DEFAULT_DAYS);
+            until = to;
+        } else {
+            until = DateConverter.parseDate(parts[1]);
+            to = (until instanceof LocalDate)
+                    ? ((LocalDate) until).plusDays(1).atStartOfDay() // Include the whole day
+                    : (LocalDateTime) until;
+        }
+    }
+
+    /**
+     * Executes the command by displaying each free slot as soon as it is found.
+     */
+    @Override
+    public void execute() {
+        System.out.printf("🕊️ Free slots of at least \033[1m%s\033[0m until \033[4m%s\033[0m:\n",
+                DateConverter.formatDuration(minLength), DateConverter.formatDate(until));
+
+        int[] count = {0};
+        FreeSlots.find(from, to, minLength).forEach(slot -> System.out.printf(
+                "%d. 【%s】 ➤ 【%s】 (%s)\n", ++count[0], DateConverter.formatDate(slot[0]),
+                DateConverter.formatDate(slot[1]), DateConverter.formatDuration(Duration.between(slot[0], slot[1]))));
+
+        if (count[0] == 0) {
+            System.out.println("⚠️ No free slots that long. Your timeline is fully booked!");
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package amadeus.cognition;
+
+import amadeus.brain.AmadeusException;
+import amadeus.brain.Transfer;
+import amadeus.workspace.Task;
+import amadeus.workspace.TaskList;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+
+/**
+ * Command to add every task in a CSV or JSON Lines file to the task list.
+ * <p>
+ * The file is streamed by {@link amadeus.brain.Transfer#importTasks(Path, java.util.List)}, and the
+ * converted tasks are added with {@link TaskList#addTasks(java.util.List)} in one batch with a single
+ * save. Rows that cannot be converted are skipped, and the number of rows per second is reported.
+ * A file without any task to add leaves the list untouched.
+ * </p>
+ */
+public class ImportCommand extends Command {
+    private final Path file; // File to import from
+
+    /**
+     * Constructs a new {@code ImportCommand} by parsing the user input.
+     *
+     * @param argument the user input containing the file to import; must not be {@code null}.
+     * @throws AmadeusException if no file is given or it is not a CSV or JSON Lines file.
+     */
+    public ImportCommand(String argument) throws AmadeusException {
+        if (argument.isBlank()) {
+            throw AmadeusException.invalidTransfer();
+        }
+        Transfer.formatOf(argument.trim()); // Check the format before reading anything
+        this.file = Path.of(argument.trim());
+    }
+
+    /**
+     * Executes the command by reading the file and adding its tasks to the list.
+     *
+     * @throws AmadeusException if the file cannot be read or the updated list cannot be saved.
+     */
+    @Override
+    public void execute() throws AmadeusException {
+        ArrayList<Task> tasks = new ArrayList<>();
+        Transfer.Report report = Transfer.importTasks(file, tasks);
+
+        // Leave the list, its undo log and its shards alone if there is nothing to add
+        if (tasks.isEmpty()) {
+            System.out.printf("📥 Nothing was imported from \033[4m%s\033[0m.\n", file);
+        } else {
+            TaskList.addTasks(tasks);
+            System.out.printf("📥 Imported \033[1m%d\033[0m tasks from \033[4m%s\033[0m in %d ms (%d rows/s).\n",
+                    tasks.size(), file, report.getMillis(), report.getRowsPerSecond());
+        }
+        if (report.getSkipped() > 0) {
+            System.out.printf("⚠️ Skipped \033[1m%d\033[0m rows that could not be read.\n", report.getSkipped());
+        }
+    }
+}
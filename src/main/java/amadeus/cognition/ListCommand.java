@@ -1,6 +1,20 @@
 package amadeus.cognition;
 
+import amadeus.brain.AmadeusException;
+import amadeus.brain.History;
+import amadeus.perception.DateConverter;
 import amadeus.personality.Speech;
+import amadeus.workspace.SortedViews;
+import amadeus.workspace.Task;
+import amadeus.workspace.TaskList;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import static amadeus.workspace.TaskList.taskList;
 
@@ -9,17 +23,161 @@ import static amadeus.workspace.TaskList.taskList;
  * <p>
  * This command prints the list of tasks to the console, organized by type.
  * </p>
+ * <p>
+ * With a sort key such as {@code sort:due}, the tasks are printed in that order instead, each with its
+ * identifier. The order comes from a {@link SortedViews} view kept by {@link TaskList}, so a sorted
+ * listing is not sorted again on every command.
+ * </p>
+ * <p>
+ * Ending the input with {@code as of} and a date lists the tasks as they were at that time instead,
+ * rebuilt from the {@link History} of the list. A date without a time means the end of that day.
+ * </p>
  */
 public class ListCommand extends Command {
+    // The words introducing a past time, anywhere after the start of the input
+    private static final Pattern AS_OF = Pattern.compile("(?i)(?:^|\\s)as of(?:\\s|$)");
+
+    private final SortedViews.Key sortKey; // The order to list in, or null for the task list order
+    private final LocalDateTime asOf; // The time to see the list at, or null for the current list
+
+    /**
+     * Constructs a new {@code ListCommand} by parsing the user input for an optional sort key.
+     *
+     * Any other words before {@code as of} are ignored, as they always were, so {@code list all} still
+     * lists every task.
+     *
+     * @param argument the user input, empty or a sort key such as {@code sort:due}, optionally followed by
+     *                 {@code as of} and a date; must not be {@code null}.
+     * @throws AmadeusException if the sort key or date is invalid.
+     */
+    public ListCommand(String argument) throws AmadeusException {
+        String[] parts = splitAsOf(argument.trim());
+        this.asOf = parts[1] != null ? parseAsOf(parts[1]) : null;
+        boolean isSorted = parts[0].toLowerCase().startsWith(SortedViews.SORT_PREFIX);
+        this.sortKey = isSorted ? parseSortKey(parts[0]) : null;
+    }
+
     /**
      * Displays the current list of tasks to the console.
      * <p>
-     * The tasks are organized by type (Deadlines, Events, ToDos).
+     * The tasks are organized by type (Deadlines, Events, ToDos), unless a sort key was given.
      * The output is generated by the {@link Speech#sayList(java.util.ArrayList)} method.
      * </p>
+     *
+     * @throws AmadeusException if the list is asked for at a past time that its history cannot show.
      */
     @Override
-    public void execute() {
-        Speech.sayList(taskList);
+    public void execute() throws AmadeusException {
+        if (asOf != null) {
+            executeAsOf();
+            return;
+        }
+
+        if (sortKey == null) {
+            Speech.sayList(taskList);
+            return;
+        }
+
+        List<Task> sorted = TaskList.getSorted(sortKey);
+        if (sorted.isEmpty()) {
+            System.out.println("⚠️ There are currently no pending tasks! Lucky you.");
+            return;
+        }
+        System.out.printf("✍️ Here are your \033[1m%d\033[0m tasks, sorted by \033[1m%s\033[0m:\n",
+                sorted.size(), sortKey);
+        Speech.saySorted(sorted);
+    }
+
+
+    /**
+     * Displays the tasks of the list as they were at a past time, from its history.
+     *
+     * @throws AmadeusException if the history does not reach back to that time or cannot be read.
+     */
+    private void executeAsOf() throws AmadeusException {
+        ArrayList<Task> tasks = History.load(asOf);
+        System.out.printf("🕰️ Here is the list \033[1m%s\033[0m as of \033[1m%s\033[0m:\n",
+                TaskList.getName(), formatAsOf(asOf));
+        if (sortKey == null || tasks.isEmpty()) {
+            Speech.sayList(tasks);
+        } else {
+            tasks.sort(sortKey.order());
+            Speech.saySorted(tasks);
+        }
+    }
+
+
+    /**
+     * Splits the input into the part before {@code as of} and the date after it.
+     *
+     * @param text the user input.
+     * @return the input before {@code as of}, trimmed, and the date after it, or {@code null} if the
+     *         input has no {@code as of}.
+     */
+    static String[] splitAsOf(String text) {
+        Matcher matcher = AS_OF.matcher(text);
+        int start = -1;
+        int end = -1;
+        while (matcher.find()) {
+            start = matcher.start();
+            end = matcher.end(); // Keep the last one, as a keyword may contain the words too
+        }
+        return start < 0
+                ? new String[] {text, null}
+                : new String[] {text.substring(0, start).trim(), text.substring(end).trim()};
+    }
+
+
+    /**
+     * Parses the date of an {@code as of}, such as {@code 13/10/2026} or {@code 13/10/2026 6pm}.
+     *
+     * @param text the date after {@code as of}.
+     * @return the time to see the list at: the date-time given, or the end of the date given.
+     * @throws AmadeusException if the date is missing or invalid.
+     */
+    static LocalDateTime parseAsOf(String text) throws AmadeusException {
+        if (text.isEmpty()) {
+            // Invalid As Of Exception
+            throw AmadeusException.invalidHistory();
+        }
+
+        Object date = DateConverter.parseDate(text);
+        return (date instanceof LocalDateTime)
+                ? (LocalDateTime) date
+                : ((LocalDate) date).atTime(LocalTime.MAX); // As the day ended
+    }
+
+
+    /**
+     * Formats the time of an {@code as of} as it was given: a date alone if it means the end of that day.
+     *
+     * @param asOf the time to see the list at.
+     * @return the formatted date or date-time.
+     */
+    static String formatAsOf(LocalDateTime asOf) {
+        return DateConverter.formatDate(asOf.toLocalTime().equals(LocalTime.MAX) ? asOf.toLocalDate() : asOf);
+    }
+
+
+    /**
+     * Parses an optional sort key such as {@code sort:due}.
+     *
+     * @param text the sort key, or an empty string.
+     * @return the sort key, or {@code null} if the text is empty.
+     * @throws AmadeusException if the text is not a valid sort key.
+     */
+    static SortedViews.Key parseSortKey(String text) throws AmadeusException {
+        if (text.isEmpty()) {
+            return null;
+        }
+
+        SortedViews.Key key = text.toLowerCase().startsWith(SortedViews.SORT_PREFIX)
+                ? SortedViews.Key.of(text.substring(SortedViews.SORT_PREFIX.length()).trim().toLowerCase())
+                : null;
+        if (key == null) {
+            // Invalid Sort Key Exception
+            throw AmadeusException.invalidSort();
+        }
+        return key;
     }
 }
@@ -0,0 +1,25 @@
+package amadeus.cognition;
+
+import amadeus.workspace.TaskList;
+import amadeus.workspace.Workspaces;
+
+/**
+ * Command to show every named task list with its number of tasks.
+ * <p>
+ * The current list is marked with an arrow and the loaded lists with a dot. Lists that are not
+ * loaded are counted from their manifest, so listing them never loads their tasks.
+ * </p>
+ */
+public class ListsCommand extends Command {
+    /**
+     * Executes the command by printing every list.
+     */
+    @Override
+    public void execute() {
+        System.out.println("🗂️ Here are your task lists:");
+        for (String name : Workspaces.getNames()) {
+            String marker = name.equals(TaskList.getName()) ? "➤" : Workspaces.isLoaded(name) ? "•" : " ";
+            System.out.printf("%s %s (%d tasks)\n", marker, name, Workspaces.countTasks(name));
+        }
+    }
+}
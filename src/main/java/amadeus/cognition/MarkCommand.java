@@ -1,28 +1,28 @@
 package amadeus.cognition;
 
 import amadeus.brain.AmadeusException;
-import amadeus.perception.NumberConverter;
 import amadeus.workspace.TaskList;
 
 /**
  * Command to mark a task as complete or incomplete.
  * <p>
- * This command parses the user input to identify the task index and updates its status.
- * The input is expected to contain a valid task index.
+ * This command parses the user input to identify the targeted tasks and updates their status.
+ * The input may be a single task index, a list of indices and ranges (e.g., {@code 1,3,9-20}),
+ * {@code done}, or {@code find <keyword>}. Bulk selections are applied in one pass and saved once.
  * </p>
  */
 public class MarkCommand extends Command {
-    private final int index;
+    private final TaskSelection selection;
     private final boolean isDone;
 
     /**
      * Constructs a new {@code MarkCommand} by parsing the user input.
      * <p>
-     * The input is expected to contain a valid task index. If the input is empty or the index is invalid,
+     * The input is expected to contain a valid task selection. If the input is empty or the selection is invalid,
      * an {@link amadeus.brain.AmadeusException} is thrown.
      * </p>
      *
-     * @param input the user input containing the task index; must not be {@code null} or empty.
+     * @param input the user input containing the task selection; must not be {@code null} or empty.
      * @param mark  indicates whether the task should be marked as complete
      *              ({@code true}) or incomplete ({@code false}).
      * @throws AmadeusException if the input is empty or the index is invalid.
@@ -30,29 +30,21 @@ public class MarkCommand extends Command {
     public MarkCommand(String input, boolean mark) throws AmadeusException {
         this.isDone = mark;
 
-        // Check if the input is empty
-        if (input.isEmpty()) {
-            // Missing Number in the Input Exception
-            throw AmadeusException.missingNumber();
-        }
-
-        // Extract the task index from the input
-        this.index = NumberConverter.extractIndex(input);
-
-        // Check if the index is valid
-        if (index == -1) {
-            // Invalid Number in the Input Exception
-            throw AmadeusException.invalidNumber();
-        }
+        // Parse the targeted task index, indices or filter
+        this.selection = TaskSelection.parse(input);
     }
 
     /**
-     * Executes the command by marking the task at the specified index as complete or incomplete.
+     * Executes the command by marking the selected tasks as complete or incomplete.
      *
      * @throws AmadeusException if an error occurs while updating the task status.
      */
     @Override
     public void execute() throws AmadeusException {
-        TaskList.markDone(index, isDone);
+        if (selection.isSingle()) {
+            TaskList.markDone(selection.getIndex(), isDone);
+        } else {
+            TaskList.markDone(selection.resolve(), isDone);
+        }
     }
 }
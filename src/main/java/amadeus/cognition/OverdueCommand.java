@@ -0,0 +1,31 @@
+package amadeus.cognition;
+
+import amadeus.workspace.Task;
+import amadeus.workspace.TaskList;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+
+/**
+ * Command to list the pending deadlines whose due date/time has passed.
+ * <p>
+ * The deadlines are taken from the {@link amadeus.workspace.Agenda} kept by {@link TaskList},
+ * most overdue first. A date-only deadline is overdue once its day is over.
+ * </p>
+ */
+public class OverdueCommand extends Command {
+    /**
+     * Executes the command by displaying the overdue deadlines.
+     */
+    @Override
+    public void execute() {
+        ArrayList<Task> overdue = TaskList.getAgenda().findOverdue(LocalDateTime.now());
+        if (overdue.isEmpty()) {
+            System.out.println("✔️ Nothing is overdue. Well done!");
+            return;
+        }
+
+        System.out.printf("🔥 \033[1m%d\033[0m deadlines are overdue:\n", overdue.size());
+        UpcomingCommand.printRanked(overdue);
+    }
+}
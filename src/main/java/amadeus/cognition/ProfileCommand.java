@@ -0,0 +1,48 @@
+package amadeus.cognition;
+
+import amadeus.brain.AmadeusException;
+import amadeus.brain.Flight;
+
+import java.nio.file.Path;
+
+/**
+ * Command to start or stop a Java Flight Recorder recording of the application.
+ * <p>
+ * The input is expected to be either {@code start} or {@code stop}. The recording captures the
+ * Amadeus events defined in {@link amadeus.brain.Flight} along with the JDK's profiling events,
+ * and is written to a local {@code .jfr} file when stopped.
+ * </p>
+ */
+public class ProfileCommand extends Command {
+    private final boolean isStart; // Whether to start (true) or stop (false) the recording
+
+    /**
+     * Constructs a new {@code ProfileCommand} by parsing the user input.
+     *
+     * @param argument the user input, either {@code start} or {@code stop}; must not be {@code null}.
+     * @throws AmadeusException if the input is neither {@code start} nor {@code stop}.
+     */
+    public ProfileCommand(String argument) throws AmadeusException {
+        String action = argument.trim().toLowerCase();
+        if (!action.equals("start") && !action.equals("stop")) {
+            throw AmadeusException.invalidProfile("Please tell me whether to start or stop recording.");
+        }
+        this.isStart = action.equals("start");
+    }
+
+    /**
+     * Executes the command by starting or stopping the recording.
+     *
+     * @throws AmadeusException if the recording is in the wrong state or cannot be written.
+     */
+    @Override
+    public void execute() throws AmadeusException {
+        if (isStart) {
+            Path file = Flight.startRecording();
+            System.out.printf("🎥 Recording started. It will be written to \033[4m%s\033[0m.\n", file);
+        } else {
+            Path file = Flight.stopRecording();
+            System.out.printf("🎥 Recording stopped and written to \033[4m%s\033[0m.\n", file);
+        }
+    }
+}
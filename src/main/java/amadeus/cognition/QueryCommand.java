@@ -0,0 +1,70 @@
+package amadeus.cognition;
+
+import amadeus.brain.AmadeusException;
+import amadeus.personality.Speech;
+import amadeus.workspace.Query;
+
+/**
+ * Command to list the tasks matching every condition of a query.
+ * <p>
+ * The input is a {@link Query} such as {@code type:deadline done:no name:report before:1/1/2026},
+ * parsed when the command is created and run against the current list when it is executed.
+ * Prefixing the query with {@value #EXPLAIN_FLAG} shows the plan the query took instead of its tasks:
+ * the access paths considered, the one chosen, the conditions filtered on and the tasks examined.
+ * </p>
+ */
+public class QueryCommand extends Command {
+    /**
+     * Prefix of a query asking for its plan instead of its tasks.
+     */
+    public static final String EXPLAIN_FLAG = "explain";
+
+    private final Query query; // The parsed query
+    private final boolean isExplain; // Whether the plan is shown instead of the tasks
+
+    /**
+     * Constructs a new {@code QueryCommand} by parsing the user input for the query.
+     *
+     * @param argument the user input containing the query; must not be {@code null}.
+     * @throws AmadeusException if the query is empty or invalid.
+     */
+    public QueryCommand(String argument) throws AmadeusException {
+        String text = argument.trim();
+
+        // Show the plan instead of the tasks if requested
+        String[] parts = text.split("\\s+", 2);
+        this.isExplain = parts[0].equalsIgnoreCase(EXPLAIN_FLAG);
+        if (isExplain) {
+            text = parts.length > 1 ? parts[1] : "";
+        }
+
+        if (text.isBlank()) {
+            // Missing Query Exception
+            throw AmadeusException.invalidQuery();
+        }
+        this.query = Query.parse(text);
+    }
+
+    /**
+     * Executes the command by running the query, then displaying its tasks or its plan.
+     */
+    @Override
+    public void execute() {
+        Query.Plan plan = query.run();
+
+        if (isExplain) {
+            System.out.printf("🧭 Here is the plan for the query '\033[4;1m%s\033[0m':\n", query);
+            System.out.printf("   ╰┈➤ \033[1mConsidered\033[0m: %s\n", String.join(", ", plan.getConsidered()));
+            System.out.printf("   ╰┈➤ \033[1mAccess\033[0m: %s\n", plan.getAccess());
+            System.out.printf("   ╰┈➤ \033[1mFilters\033[0m: %s\n",
+                    plan.getFilters().isEmpty() ? "none" : String.join(", ", plan.getFilters()));
+            System.out.printf("   ╰┈➤ \033[1mExamined\033[0m: %d tasks, %d matched\n",
+                    plan.getExamined(), plan.getMatches().size());
+        } else if (plan.getMatches().isEmpty()) {
+            System.out.printf("⚠️ No tasks found matching the query '\033[4;1m%s\033[0m'!\n", query);
+        } else {
+            System.out.printf("🔍 Here are the tasks matching the query '\033[4;1m%s\033[0m':\n", query);
+            Speech.sayList(plan.getMatches());
+        }
+    }
+}
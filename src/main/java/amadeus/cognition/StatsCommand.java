@@ -0,0 +1,21 @@
+package amadeus.cognition;
+
+import amadeus.brain.Metrics;
+
+/**
+ * Command to display the performance metrics recorded during this session.
+ * <p>
+ * This command prints the per-command counts and latency percentiles, as well as the
+ * save times and bytes written, recorded by {@link amadeus.brain.Metrics}.
+ * </p>
+ */
+public class StatsCommand extends Command {
+    /**
+     * Displays the metrics report to the console.
+     */
+    @Override
+    public void execute() {
+        System.out.println("📊 Here is where the time has gone this session:");
+        System.out.print(Metrics.report());
+    }
+}
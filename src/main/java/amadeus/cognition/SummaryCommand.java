@@ -0,0 +1,59 @@
+package amadeus.cognition;
+
+import amadeus.perception.DateConverter;
+import amadeus.workspace.Counters;
+import amadeus.workspace.TaskList;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Command to display a summary of the current list: its tasks by type and status, the overdue
+ * deadlines and the pending deadlines and events due in each of the next {@value #WEEKS} weeks.
+ * <p>
+ * Every number is read from the {@link Counters} kept by {@link TaskList}, so the summary takes
+ * the same time however many tasks the list holds.
+ * </p>
+ */
+public class SummaryCommand extends Command {
+    /**
+     * Number of weeks shown, starting with the current one.
+     */
+    public static final int WEEKS = 4;
+
+    private static final String[] TYPES = {"Deadlines", "Events", "ToDos"}; // In section order
+
+    /**
+     * Executes the command by displaying the counts of the current list.
+     */
+    @Override
+    public void execute() {
+        Counters counters = TaskList.getCounters();
+        LocalDateTime now = LocalDateTime.now();
+
+        System.out.printf("📊 Here is the summary of the list \033[1m%s\033[0m:\n", TaskList.getName());
+        int pending = 0;
+        int done = 0;
+        for (int section = 0; section < TYPES.length; section++) {
+            System.out.printf("   ╰┈➤ \033[1m%-10s\033[0m %d pending, %d done\n",
+                    TYPES[section] + ":", counters.count(section, false), counters.count(section, true));
+            pending += counters.count(section, false);
+            done += counters.count(section, true);
+        }
+        System.out.printf("   ╰┈➤ \033[1m%-10s\033[0m %d pending, %d done\n", "Total:", pending, done);
+        System.out.printf("🔥 \033[1m%d\033[0m deadlines are overdue.\n",
+                counters.countOverdue(TaskList.getAgenda(), now));
+
+        // Count the weeks from the Monday of the current one
+        System.out.println("📅 Pending deadlines and events due:");
+        LocalDate monday = now.toLocalDate().with(DayOfWeek.MONDAY);
+        for (int week = 0; week < WEEKS; week++) {
+            LocalDate start = monday.plusWeeks(week);
+            String label = week == 0 ? "This week" : week == 1 ? "Next week" : "In " + week + " weeks";
+            System.out.printf("   ╰┈➤ \033[1m%-12s\033[0m %d (%s – %s)\n", label + ":",
+                    counters.countDueInWeek(start), DateConverter.formatDate(start),
+                    DateConverter.formatDate(start.plusDays(6)));
+        }
+    }
+}
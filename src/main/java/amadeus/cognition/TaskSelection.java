@@ -0,0 +1,222 @@
+package amadeus.cognition;
+
+import amadeus.brain.AmadeusException;
+import amadeus.perception.NumberConverter;
+import amadeus.workspace.Name;
+import amadeus.workspace.Task;
+import amadeus.workspace.TaskList;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Represents the set of tasks targeted by a {@code mark}, {@code unmark} or {@code delete} command.
+ * <p>
+ * A selection is parsed once from the user input and resolved against the current task list when the
+ * command is executed. The following forms are supported:
+ * <ul>
+ *   <li><b>Single index</b>: {@code 3} or {@code three}.</li>
+ *   <li><b>Index list and ranges</b>: {@code 1,3,9-20} or {@code 5-500}.</li>
+ *   <li><b>Completed tasks</b>: {@code done}.</li>
+ *   <li><b>Keyword filter</b>: {@code find meeting}.</li>
+ *   <li><b>Task identifiers</b>: {@code #12} or {@code #12,#40}, which stay the same while other tasks are
+ *   added or deleted.</li>
+ * </ul>
+ */
+public class TaskSelection {
+    /**
+     * Keyword selecting every completed task.
+     */
+    public static final String DONE_SELECTOR = "done";
+
+    /**
+     * Prefix selecting every task whose description contains the following keyword.
+     */
+    public static final String FIND_SELECTOR = "find ";
+
+    /**
+     * Prefix marking a task identifier rather than a position.
+     */
+    public static final String ID_PREFIX = "#";
+
+    private final int index; // Single 1-based index, or -1 if this is a bulk selection
+    private final List<int[]> ranges; // Inclusive 1-based index ranges, or null
+    private final boolean isDoneFilter; // Whether to select all completed tasks
+    private final String keyword; // Lower-cased keyword filter, or null
+    private final long[] ids; // Task identifiers, or null
+
+
+    /**
+     * Constructs a selection with the given parts. Use {@link #parse(String)} to create instances.
+     */
+    private TaskSelection(int index, List<int[]> ranges, boolean isDoneFilter, String keyword, long[] ids) {
+        this.index = index;
+        this.ranges = ranges;
+        this.isDoneFilter = isDoneFilter;
+        this.keyword = keyword;
+        this.ids = ids;
+    }
+
+
+    /**
+     * Parses the user input into a {@code TaskSelection}.
+     *
+     * @param input the user input following the command word; must not be {@code null}.
+     * @return the parsed selection.
+     * @throws AmadeusException if the input is empty or cannot be interpreted as a selection.
+     */
+    public static TaskSelection parse(String input) throws AmadeusException {
+        String argument = input.trim();
+
+        // Check if the input is empty
+        if (argument.isEmpty()) {
+            // Missing Number in the Input Exception
+            throw AmadeusException.missingNumber();
+        }
+
+        // Select all completed tasks
+        if (argument.equalsIgnoreCase(DONE_SELECTOR)) {
+            return new TaskSelection(-1, null, true, null, null);
+        }
+
+        // Select all tasks containing a keyword
+        if (argument.toLowerCase().startsWith(FIND_SELECTOR)) {
+            String keyword = argument.substring(FIND_SELECTOR.length()).trim().toLowerCase();
+            if (keyword.isEmpty()) {
+                throw AmadeusException.missingArgument("FIND");
+            }
+            return new TaskSelection(-1, null, false, keyword, null);
+        }
+
+        // Select tasks by identifier
+        if (argument.startsWith(ID_PREFIX)) {
+            return new TaskSelection(-1, null, false, null, parseIds(argument));
+        }
+
+        // A plain index keeps the original single-task behaviour
+        int single = NumberConverter.extractIndex(argument);
+        if (single != -1) {
+            return new TaskSelection(single, null, false, null, null);
+        }
+
+        // Otherwise, try to interpret the input as a list of indices and ranges
+        List<int[]> ranges = NumberConverter.extractRanges(argument);
+        if (ranges == null) {
+            // Invalid Number in the Input Exception
+            throw AmadeusException.invalidNumber();
+        }
+        return new TaskSelection(-1, ranges, false, null, null);
+    }
+
+
+    /**
+     * Parses a comma-separated list of task identifiers, each starting with {@link #ID_PREFIX}.
+     *
+     * @param argument the identifiers, e.g. {@code #12,#40}.
+     * @return the identifiers.
+     * @throws AmadeusException if any element is not an identifier.
+     */
+    private static long[] parseIds(String argument) throws AmadeusException {
+        String[] parts = argument.split(",");
+        long[] ids = new long[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            String part = parts[i].trim();
+            try {
+                if (!part.startsWith(ID_PREFIX)) {
+                    throw new NumberFormatException(part);
+                }
+                ids[i] = Long.parseLong(part.substring(ID_PREFIX.length()).trim());
+            } catch (NumberFormatException e) {
+                // Invalid Number in the Input Exception
+                throw AmadeusException.invalidNumber();
+            }
+        }
+        return ids;
+    }
+
+
+    /**
+     * Returns whether this selection targets exactly one task by index or identifier.
+     *
+     * @return {@code true} if the selection is a single index or identifier.
+     */
+    public boolean isSingle() {
+        return index != -1 || (ids != null && ids.length == 1);
+    }
+
+
+    /**
+     * Returns the single 1-based index targeted by this selection, looking up the position of a task
+     * identifier in the current task list.
+     *
+     * @return the index, or -1 if this is a bulk selection.
+     * @throws AmadeusException if the identifier belongs to no task in the list.
+     */
+    public int getIndex() throws AmadeusException {
+        return isSingle() && ids != null ? indexOf(ids[0]) : index;
+    }
+
+
+    /**
+     * Returns the 1-based index of the task with the given identifier.
+     *
+     * @param id the task identifier.
+     * @return the index of the task.
+     * @throws AmadeusException if the identifier belongs to no task in the list.
+     */
+    private static int indexOf(long id) throws AmadeusException {
+        int position = TaskList.indexOf(id);
+        if (position == -1) {
+            // Unknown Task Identifier Exception
+            throw AmadeusException.invalidId(id);
+        }
+        return position;
+    }
+
+
+    /**
+     * Resolves this selection against the current task list.
+     * <p>
+     * Every index range is validated against the list size before being expanded, so a range
+     * that reaches past the end of the list is rejected without touching any task.
+     * </p>
+     *
+     * @return the selected 1-based indices in ascending order, without duplicates.
+     * @throws AmadeusException if any index lies outside the task list.
+     */
+    public int[] resolve() throws AmadeusException {
+        ArrayList<Task> tasks = TaskList.getTaskList();
+        BitSet selected = new BitSet(tasks.size() + 1);
+
+        if (ranges != null) {
+            for (int[] range : ranges) {
+                if (range[0] < 1 || range[1] > tasks.size()) {
+                    // Out of Bounds Index Number Exception
+                    throw AmadeusException.invalidIndex();
+                }
+                selected.set(range[0], range[1] + 1);
+            }
+        } else if (index != -1) {
+            if (index < 1 || index > tasks.size()) {
+                throw AmadeusException.invalidIndex();
+            }
+            selected.set(index);
+        } else if (ids != null) {
+            for (long id : ids) {
+                selected.set(indexOf(id));
+            }
+        } else {
+            // Filter the list in a single scan, folding and encoding the keyword only once
+            Name.Keyword prepared = isDoneFilter ? null : Name.keyword(keyword);
+            for (int i = 0; i < tasks.size(); i++) {
+                Task task = tasks.get(i);
+                if (isDoneFilter ? task.getDone() : task.nameContains(prepared)) {
+                    selected.set(i + 1);
+                }
+            }
+        }
+
+        return selected.stream().toArray();
+    }
+}
@@ -0,0 +1,43 @@
+package amadeus.cognition;
+
+import amadeus.brain.AmadeusException;
+import amadeus.workspace.TaskList;
+
+/**
+ * Command to undo the latest change to the current list, or to redo the latest change undone.
+ * <p>
+ * Adding, deleting, marking and unmarking tasks, importing them and resetting the list can all be
+ * undone, one change at a time, up to the latest {@value amadeus.workspace.UndoLog#CAPACITY} changes.
+ * Each change is inverted from the {@link amadeus.workspace.UndoLog} kept by {@link TaskList} rather
+ * than from a copy of the list, and the result is saved like any other change.
+ * </p>
+ */
+public class UndoCommand extends Command {
+    private final boolean isUndo; // Whether to undo rather than redo
+
+    /**
+     * Constructs a new {@code UndoCommand}.
+     *
+     * @param isUndo indicates whether to undo the latest change ({@code true})
+     *               or redo the latest change undone ({@code false}).
+     */
+    public UndoCommand(boolean isUndo) {
+        this.isUndo = isUndo;
+    }
+
+    /**
+     * Executes the command by undoing or redoing a change, and describing it.
+     *
+     * @throws AmadeusException if an error occurs while saving the updated list.
+     */
+    @Override
+    public void execute() throws AmadeusException {
+        String change = isUndo ? TaskList.undo() : TaskList.redo();
+        if (change == null) {
+            System.out.printf("⚠️ There is nothing to %s.\n", isUndo ? "undo" : "redo");
+            return;
+        }
+        System.out.printf("%s Understood! %s \033[1m%s\033[0m.\n",
+                isUndo ? "↩️" : "↪️", isUndo ? "Undid" : "Redid", change);
+    }
+}
@@ -0,0 +1,72 @@
+package amadeus.cognition;
+
+import amadeus.brain.AmadeusException;
+import amadeus.perception.NumberConverter;
+import amadeus.workspace.Task;
+import amadeus.workspace.TaskList;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+
+/**
+ * Command to list the pending deadlines and events that are due next.
+ * <p>
+ * The input may contain the number of tasks to show (numeric or in words), and defaults to
+ * {@value #DEFAULT_LIMIT}. The tasks are taken in order of due time from the
+ * {@link amadeus.workspace.Agenda} kept by {@link TaskList}, so only the tasks shown are visited.
+ * </p>
+ */
+public class UpcomingCommand extends Command {
+    /**
+     * Number of tasks shown when no number is given.
+     */
+    public static final int DEFAULT_LIMIT = 5;
+
+    private final int limit; // Maximum number of tasks to show
+
+    /**
+     * Constructs a new {@code UpcomingCommand} by parsing the user input.
+     *
+     * @param argument the user input containing the optional number of tasks; must not be {@code null}.
+     * @throws AmadeusException if the number of tasks is not a positive number.
+     */
+    public UpcomingCommand(String argument) throws AmadeusException {
+        if (argument.isBlank()) {
+            limit = DEFAULT_LIMIT;
+            return;
+        }
+
+        limit = NumberConverter.extractIndex(argument.trim());
+        if (limit < 1) {
+            throw AmadeusException.invalidUpcoming();
+        }
+    }
+
+    /**
+     * Executes the command by displaying the tasks due next, soonest first.
+     */
+    @Override
+    public void execute() {
+        ArrayList<Task> upcoming = TaskList.getAgenda().findUpcoming(LocalDateTime.now(), limit);
+        if (upcoming.isEmpty()) {
+            System.out.println("⚠️ Nothing is coming up! Enjoy the calm.");
+            return;
+        }
+
+        System.out.printf("⏰ Here are your next \033[1m%d\033[0m tasks:\n", upcoming.size());
+        printRanked(upcoming);
+    }
+
+
+    /**
+     * Prints tasks numbered in the given order, with the same columns as the task list.
+     *
+     * @param tasks the tasks to print.
+     */
+    static void printRanked(ArrayList<Task> tasks) {
+        int rank = 0;
+        for (Task task : tasks) {
+            System.out.printf("%d. %-10s %-30s%n", ++rank, task.getName(), task.getDetails());
+        }
+    }
+}
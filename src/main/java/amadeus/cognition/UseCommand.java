@@ -0,0 +1,43 @@
+package amadeus.cognition;
+
+import amadeus.brain.AmadeusException;
+import amadeus.workspace.TaskList;
+import amadeus.workspace.Workspaces;
+
+import java.util.Locale;
+
+/**
+ * Command to switch to another named task list, creating it if it does not exist yet.
+ * <p>
+ * Every other command works on the list chosen here. Recently used lists stay loaded by
+ * {@link Workspaces}, so switching back to one of them does not touch the disk.
+ * </p>
+ */
+public class UseCommand extends Command {
+    private final String name; // Name of the list to switch to
+
+    /**
+     * Constructs a new {@code UseCommand} by parsing the user input.
+     *
+     * @param argument the user input containing the name of the list; must not be {@code null}.
+     * @throws AmadeusException if no name is given.
+     */
+    public UseCommand(String argument) throws AmadeusException {
+        if (argument.isBlank()) {
+            throw AmadeusException.invalidListName();
+        }
+        this.name = argument.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Executes the command by switching to the list.
+     *
+     * @throws AmadeusException if the name is invalid or the list cannot be loaded.
+     */
+    @Override
+    public void execute() throws AmadeusException {
+        boolean isExisting = Workspaces.use(name);
+        System.out.printf("%s Now using the list \033[1m%s\033[0m with \033[1m%d\033[0m tasks.\n",
+                isExisting ? "📂" : "🆕", name, TaskList.getTaskList().size());
+    }
+}
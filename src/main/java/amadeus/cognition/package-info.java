@@ -16,14 +16,29 @@
  *   <li>{@link amadeus.cognition.Command}: Abstract base class for all commands.</li>
  *   <li>{@link amadeus.cognition.ByeCommand}: Command to exit the application.</li>
  *   <li>{@link amadeus.cognition.CheckCommand}: Command to filter tasks based on a date or date range.</li>
+ *   <li>{@link amadeus.cognition.ConflictsCommand}: Command to list every pair of overlapping events.</li>
  *   <li>{@link amadeus.cognition.CommandList}: Command to display the list of available commands.</li>
  *   <li>{@link amadeus.cognition.DeadlineCommand}: Command to add a new {@link amadeus.workspace.Deadline} task.</li>
  *   <li>{@link amadeus.cognition.EventCommand}: Command to add a new {@link amadeus.workspace.Event} task.</li>
+ *   <li>{@link amadeus.cognition.ExportCommand}: Command to write the task list to a CSV or JSON Lines file.</li>
  *   <li>{@link amadeus.cognition.FindCommand}: Command to search for tasks matching a keyword.</li>
+ *   <li>{@link amadeus.cognition.FreeCommand}: Command to list the free time slots between events.</li>
+ *   <li>{@link amadeus.cognition.ImportCommand}: Command to add the tasks in a CSV or JSON Lines file.</li>
  *   <li>{@link amadeus.cognition.ListCommand}: Command to display the current list of tasks.</li>
+ *   <li>{@link amadeus.cognition.ListsCommand}: Command to display every named task list.</li>
  *   <li>{@link amadeus.cognition.MarkCommand}: Command to mark a task as complete or incomplete.</li>
+ *   <li>{@link amadeus.cognition.OverdueCommand}: Command to list the overdue deadlines.</li>
+ *   <li>{@link amadeus.cognition.ProfileCommand}: Command to start or stop a flight recording.</li>
+ *   <li>{@link amadeus.cognition.QueryCommand}: Command to list the tasks matching every condition of a query.</li>
  *   <li>{@link amadeus.cognition.ResetCommand}: Command to reset the task list.</li>
+ *   <li>{@link amadeus.cognition.StatsCommand}: Command to display the recorded performance metrics.</li>
+ *   <li>{@link amadeus.cognition.SummaryCommand}: Command to display the counts of tasks in the current list.</li>
+ *   <li>{@link amadeus.cognition.CalendarCommand}: Command to display a month with the tasks on each day.</li>
+ *   <li>{@link amadeus.cognition.UndoCommand}: Command to undo or redo the latest change to the current list.</li>
+ *   <li>{@link amadeus.cognition.TaskSelection}: Single, ranged or filtered selection of tasks for bulk commands.</li>
  *   <li>{@link amadeus.cognition.ToDoCommand}: Command to add a new {@link amadeus.workspace.ToDo} task.</li>
+ *   <li>{@link amadeus.cognition.UpcomingCommand}: Command to list the pending tasks due next.</li>
+ *   <li>{@link amadeus.cognition.UseCommand}: Command to switch to another named task list.</li>
  * </ul>
  *
  * <h2>Usage Example</h2>
@@ -1,14 +1,21 @@
 package amadeus.perception;
 
 import amadeus.brain.AmadeusException;
+import amadeus.brain.Flight;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
 import java.time.format.DateTimeParseException;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * A utility class for parsing and formatting dates and date-times.
@@ -48,6 +55,25 @@ public class DateConverter {
             DateTimeFormatter.ofPattern("d M yyyy HH.mm", Locale.US)  // e.g., 2 12 2019 18.00
     );
 
+    // Supported month formats, with the month name in any case
+    private static final List<DateTimeFormatter> MONTH_FORMATS = Arrays.asList(
+            monthFormat("M/yyyy"),   // e.g., 12/2019
+            monthFormat("M-yyyy"),   // e.g., 12-2019
+            monthFormat("M yyyy"),   // e.g., 12 2019
+            monthFormat("MMM yyyy"), // e.g., Dec 2019
+            monthFormat("MMMM yyyy") // e.g., December 2019
+    );
+
+    // Supported month names without a year, meaning the current year
+    private static final List<DateTimeFormatter> MONTH_NAME_FORMATS = Arrays.asList(
+            monthFormat("MMM"), // e.g., Dec
+            monthFormat("MMMM") // e.g., December
+    );
+
+    // Durations such as 2h, 30m, 1h30m or 1d (days, hours, minutes)
+    private static final Pattern DURATION_FORMAT =
+            Pattern.compile("(?:(\\d+)\\s*d)?\\s*(?:(\\d+)\\s*h)?\\s*(?:(\\d+)\\s*m(?:ins?)?)?");
+
     // Output format for dates
     private static final DateTimeFormatter OUTPUT_DATE_FORMAT =
             DateTimeFormatter.ofPattern("d MMM yyyy", Locale.US);
@@ -56,6 +82,10 @@ public class DateConverter {
     private static final DateTimeFormatter OUTPUT_DATE_TIME_FORMAT =
             DateTimeFormatter.ofPattern("d MMM yyyy, h:mma", Locale.US);
 
+    // Input formats written back out for files, as read by parseDate
+    private static final DateTimeFormatter INPUT_DATE_FORMAT = DATE_FORMATS.get(0);
+    private static final DateTimeFormatter INPUT_DATE_TIME_FORMAT = DATE_TIME_FORMATS.get(3);
+
 
     /**
      * Parses a date string into a {@link java.time.LocalDate} or {@link java.time.LocalDateTime} object.
@@ -72,31 +102,103 @@ public class DateConverter {
         // Normalize AM/PM to be case-insensitive
         dateString = dateString.replaceAll("(?i)am", "AM").replaceAll("(?i)pm", "PM");
 
+        Flight.DateMissEvent event = new Flight.DateMissEvent();
+        event.begin();
+        int misses = 0; // Number of formats tried without a match
+
         // Try parsing as a date-time first
         for (DateTimeFormatter format : DATE_TIME_FORMATS) {
             try {
-                return LocalDateTime.parse(dateString, format);
+                LocalDateTime dateTime = LocalDateTime.parse(dateString, format);
+                commitMisses(event, dateString, misses, true);
+                return dateTime;
 
             } catch (DateTimeParseException e) {
                 // Ignore and try the next format
+                misses++;
             }
         }
 
         // Try parsing as a date if date-time parsing fails
         for (DateTimeFormatter format : DATE_FORMATS) {
             try {
-                return LocalDate.parse(dateString, format);
+                LocalDate date = LocalDate.parse(dateString, format);
+                commitMisses(event, dateString, misses, true);
+                return date;
 
             } catch (DateTimeParseException e) {
                 // Ignore and try the next format
+                misses++;
             }
         }
 
         // If no format matches, throw an exception
+        commitMisses(event, dateString, misses, false);
         throw AmadeusException.invalidDate();
     }
 
 
+    /**
+     * Parses a month string into a {@link java.time.YearMonth} object.
+     * <p>
+     * Accepts a month number or name with a year, such as {@code 12/2019} or {@code Dec 2019}, or a month
+     * name alone for that month of the current year. An empty string means the current month.
+     * </p>
+     *
+     * @param monthString the month string to parse; must not be {@code null}.
+     * @return the month parsed.
+     * @throws AmadeusException if the input string cannot be parsed into a valid month.
+     */
+    public static YearMonth parseMonth(String monthString) throws AmadeusException {
+        monthString = monthString.trim();
+        if (monthString.isEmpty()) {
+            return YearMonth.now();
+        }
+
+        for (DateTimeFormatter format : MONTH_FORMATS) {
+            try {
+                return YearMonth.parse(monthString, format);
+            } catch (DateTimeParseException e) {
+                // Ignore and try the next format
+            }
+        }
+
+        // A month name alone falls in the current year
+        for (DateTimeFormatter format : MONTH_NAME_FORMATS) {
+            try {
+                return YearMonth.now().withMonth(Month.from(format.parse(monthString)).getValue());
+            } catch (DateTimeParseException e) {
+                // Ignore and try the next format
+            }
+        }
+
+        throw AmadeusException.invalidCalendar();
+    }
+
+
+    private static DateTimeFormatter monthFormat(String pattern) {
+        return new DateTimeFormatterBuilder().parseCaseInsensitive().appendPattern(pattern).toFormatter(Locale.US);
+    }
+
+
+    /**
+     * Commits a flight recorder event for a date that needed more than one format attempt.
+     *
+     * @param event      the event started at the beginning of parsing.
+     * @param dateString the date string being parsed.
+     * @param misses     the number of formats that did not match.
+     * @param isParsed   whether a format eventually matched.
+     */
+    private static void commitMisses(Flight.DateMissEvent event, String dateString, int misses, boolean isParsed) {
+        if (misses > 0 && event.shouldCommit()) {
+            event.input = dateString;
+            event.misses = misses;
+            event.isParsed = isParsed;
+            event.commit();
+        }
+    }
+
+
     /**
      * Formats a date or date-time object into a user-friendly string.
      *
@@ -116,6 +218,97 @@ public class DateConverter {
     }
 
 
+    /**
+     * Formats a date or date-time object in a format accepted by {@link #parseDate(String)}.
+     *
+     * @param date the date or date-time object to format; must not be {@code null}.
+     * @return the formatted date string (e.g., "15/10/2019" or "15/10/2019 1800").
+     */
+    public static String formatInput(Object date) {
+        if (date instanceof LocalDateTime) {
+            return ((LocalDateTime) date).format(INPUT_DATE_TIME_FORMAT);
+
+        } else if (date instanceof LocalDate) {
+            return ((LocalDate) date).format(INPUT_DATE_FORMAT);
+
+        } else {
+            return "";
+        }
+    }
+
+
+    /**
+     * Converts a date or date-time object into a {@link java.time.LocalDateTime}.
+     * <p>
+     * Date-only values are treated as starting at midnight (00:00) of that day.
+     * </p>
+     *
+     * @param date the date or date-time object to convert; must not be {@code null}.
+     * @return the corresponding date-time, or {@code null} if the object is not a date.
+     */
+    public static LocalDateTime toDateTime(Object date) {
+        if (date instanceof LocalDateTime) {
+            return (LocalDateTime) date;
+
+        } else if (date instanceof LocalDate) {
+            return ((LocalDate) date).atStartOfDay(); // Midnight 00:00
+
+        } else {
+            return null;
+        }
+    }
+
+
+    /**
+     * Parses a duration string such as {@code 2h}, {@code 30m}, {@code 1h30m} or {@code 1d} into a {@link Duration}.
+     *
+     * @param durationString the duration string to parse; must not be {@code null}.
+     * @return the parsed duration, or {@code null} if the string is not a positive duration.
+     */
+    public static Duration parseDuration(String durationString) {
+        Matcher matcher = DURATION_FORMAT.matcher(durationString.trim().toLowerCase());
+        if (!matcher.matches()) {
+            return null;
+        }
+
+        try {
+            Duration duration = Duration.ofDays(parseOrZero(matcher.group(1)))
+                    .plusHours(parseOrZero(matcher.group(2)))
+                    .plusMinutes(parseOrZero(matcher.group(3)));
+            return duration.isZero() ? null : duration;
+
+        } catch (NumberFormatException | ArithmeticException e) {
+            return null; // Too large to represent
+        }
+    }
+
+
+    /**
+     * Formats a duration into a short string such as {@code 1d 2h 30m}.
+     *
+     * @param duration the duration to format; must not be {@code null}.
+     * @return the formatted duration.
+     */
+    public static String formatDuration(Duration duration) {
+        StringBuilder text = new StringBuilder();
+        if (duration.toDays() > 0) {
+            text.append(duration.toDays()).append("d ");
+        }
+        if (duration.toHoursPart() > 0) {
+            text.append(duration.toHoursPart()).append("h ");
+        }
+        if (duration.toMinutesPart() > 0 || text.length() == 0) {
+            text.append(duration.toMinutesPart()).append("m");
+        }
+        return text.toString().trim();
+    }
+
+
+    private static long parseOrZero(String number) {
+        return number == null ? 0 : Long.parseLong(number);
+    }
+
+
     /**
      * Main method for testing the {@link DateConverter} class.
      *
@@ -1,5 +1,7 @@
 package amadeus.perception;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -105,6 +107,47 @@ public class NumberConverter {
     }
 
 
+    /**
+     * Extracts a list of task index ranges from the provided argument.
+     * <p>
+     * The argument is a comma-separated list where each element is either a single index
+     * (e.g., "3" or "three") or an inclusive range of two indices joined by a hyphen (e.g., "9-20").
+     * Single indices are returned as ranges whose start and end are equal.
+     * Returns {@code null} if any element is invalid or a range ends before it starts.
+     * </p>
+     *
+     * @param argument the string containing the index list (e.g., "1,3,9-20"); must not be {@code null}.
+     * @return a list of inclusive {@code {start, end}} ranges, or {@code null} if the argument is invalid.
+     */
+    public static List<int[]> extractRanges(String argument) {
+        List<int[]> ranges = new ArrayList<>();
+
+        for (String part : argument.split(",")) {
+            part = part.trim();
+
+            // Try a single index first so hyphenated words like "twenty-one" still work
+            int single = extractIndex(part);
+            if (single != -1) {
+                ranges.add(new int[]{single, single});
+                continue;
+            }
+
+            // Otherwise, expect a range of the form "start-end"
+            String[] bounds = part.split("-", 2);
+            if (bounds.length < 2) {
+                return null; // Invalid element
+            }
+            int start = extractIndex(bounds[0].trim());
+            int end = extractIndex(bounds[1].trim());
+            if (start == -1 || end == -1 || start > end) {
+                return null; // Invalid range
+            }
+            ranges.add(new int[]{start, end});
+        }
+        return ranges;
+    }
+
+
     /**
      * Main method for testing the {@link NumberConverter} class.
      *
@@ -2,17 +2,31 @@ package amadeus.perception;
 
 import amadeus.brain.AmadeusException;
 import amadeus.cognition.ByeCommand;
+import amadeus.cognition.CalendarCommand;
 import amadeus.cognition.CheckCommand;
 import amadeus.cognition.Command;
 import amadeus.cognition.CommandList;
+import amadeus.cognition.ConflictsCommand;
 import amadeus.cognition.DeadlineCommand;
 import amadeus.cognition.DeleteCommand;
 import amadeus.cognition.EventCommand;
+import amadeus.cognition.ExportCommand;
 import amadeus.cognition.FindCommand;
+import amadeus.cognition.FreeCommand;
+import amadeus.cognition.ImportCommand;
 import amadeus.cognition.ListCommand;
+import amadeus.cognition.ListsCommand;
 import amadeus.cognition.MarkCommand;
+import amadeus.cognition.OverdueCommand;
+import amadeus.cognition.ProfileCommand;
+import amadeus.cognition.QueryCommand;
 import amadeus.cognition.ResetCommand;
+import amadeus.cognition.StatsCommand;
+import amadeus.cognition.SummaryCommand;
 import amadeus.cognition.ToDoCommand;
+import amadeus.cognition.UndoCommand;
+import amadeus.cognition.UpcomingCommand;
+import amadeus.cognition.UseCommand;
 
 /**
  * Handles the parsing of user input into executable commands.
@@ -72,6 +86,66 @@ public class Parser {
      * Constant representing the "todo" command.
      */
     public static final String TODO_COMMAND = "todo";
+    /**
+     * Constant representing the "stats" command.
+     */
+    public static final String STATS_COMMAND = "stats";
+    /**
+     * Constant representing the "profile" command.
+     */
+    public static final String PROFILE_COMMAND = "profile";
+    /**
+     * Constant representing the "conflicts" command.
+     */
+    public static final String CONFLICTS_COMMAND = "conflicts";
+    /**
+     * Constant representing the "free" command.
+     */
+    public static final String FREE_COMMAND = "free";
+    /**
+     * Constant representing the "upcoming" command.
+     */
+    public static final String UPCOMING_COMMAND = "upcoming";
+    /**
+     * Constant representing the "overdue" command.
+     */
+    public static final String OVERDUE_COMMAND = "overdue";
+    /**
+     * Constant representing the "import" command.
+     */
+    public static final String IMPORT_COMMAND = "import";
+    /**
+     * Constant representing the "export" command.
+     */
+    public static final String EXPORT_COMMAND = "export";
+    /**
+     * Constant representing the "use" command.
+     */
+    public static final String USE_COMMAND = "use";
+    /**
+     * Constant representing the "lists" command.
+     */
+    public static final String LISTS_COMMAND = "lists";
+    /**
+     * Constant representing the "query" command.
+     */
+    public static final String QUERY_COMMAND = "query";
+    /**
+     * Constant representing the "summary" command.
+     */
+    public static final String SUMMARY_COMMAND = "summary";
+    /**
+     * Constant representing the "calendar" command.
+     */
+    public static final String CALENDAR_COMMAND = "calendar";
+    /**
+     * Constant representing the "undo" command.
+     */
+    public static final String UNDO_COMMAND = "undo";
+    /**
+     * Constant representing the "redo" command.
+     */
+    public static final String REDO_COMMAND = "redo";
     // endregion
 
 
@@ -100,17 +174,39 @@ public class Parser {
         case COMMAND_LIST -> new CommandList();
 
         // Displays the current list of tasks to the user
-        case LIST_COMMAND -> new ListCommand();
+        case LIST_COMMAND -> new ListCommand(argument);
 
         // Print tasks occurring on / before / after a specific date.
         case CHECK_COMMAND -> new CheckCommand(argument);
 
+        // Print all pairs of overlapping events
+        case CONFLICTS_COMMAND -> new ConflictsCommand();
+
+        // Print free time slots between events
+        case FREE_COMMAND -> new FreeCommand(argument);
+
+        // Print the pending tasks due next, or already overdue
+        case UPCOMING_COMMAND -> new UpcomingCommand(argument);
+        case OVERDUE_COMMAND -> new OverdueCommand();
+
+        // Shows the counts of tasks by type, status and due week
+        case SUMMARY_COMMAND -> new SummaryCommand();
+
+        // Shows the tasks of each day of a month
+        case CALENDAR_COMMAND -> new CalendarCommand(argument);
+
         // Resets and Clears the saved Task List
         case RESET_COMMAND -> new ResetCommand();
 
+        // Undoes or Redoes the latest change to the Task List
+        case UNDO_COMMAND, REDO_COMMAND -> new UndoCommand(command.equals(UNDO_COMMAND));
+
         // Finds a task by searching for a keyword in the task description
         case FIND_COMMAND -> new FindCommand(argument);
 
+        // Lists the tasks matching several conditions at once, or the plan taken to find them
+        case QUERY_COMMAND -> new QueryCommand(argument);
+
         // Deletes a given task
         case DELETE_COMMAND -> new DeleteCommand(argument);
 
@@ -122,6 +218,20 @@ public class Parser {
         case EVENT_COMMAND -> new EventCommand(argument);
         case TODO_COMMAND -> new ToDoCommand(argument);
 
+        // Imports or exports tasks as CSV or JSON Lines
+        case IMPORT_COMMAND -> new ImportCommand(argument);
+        case EXPORT_COMMAND -> new ExportCommand(argument);
+
+        // Switches to another task list, or shows every list
+        case USE_COMMAND -> new UseCommand(argument);
+        case LISTS_COMMAND -> new ListsCommand();
+
+        // Shows the performance metrics recorded this session
+        case STATS_COMMAND -> new StatsCommand();
+
+        // Starts or stops a flight recording
+        case PROFILE_COMMAND -> new ProfileCommand(argument);
+
         // Invalid Command Input Exception
         default -> throw AmadeusException.invalidCommand();
         };
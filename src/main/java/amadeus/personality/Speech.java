@@ -1,6 +1,7 @@
 package amadeus.personality;
 
 import amadeus.brain.AmadeusException;
+import amadeus.perception.DateConverter;
 import amadeus.workspace.Deadline;
 import amadeus.workspace.Event;
 import amadeus.workspace.Task;
@@ -9,7 +10,9 @@ import amadeus.workspace.ToDo;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Scanner;
 
 /**
@@ -26,6 +29,12 @@ public class Speech {
      */
     private static final String DIVIDER = "=".repeat(100);
 
+    /**
+     * Whether the typing effect is skipped, enabled with {@code -Damadeus.instant=true}.
+     * The startup benchmark uses this so that it measures the application rather than the animation.
+     */
+    private static final boolean IS_INSTANT = Boolean.getBoolean("amadeus.instant");
+
     /**
      * Variable to hold the Amadeus logo content.
      * This is used to display a visually appealing welcome message.
@@ -65,28 +74,72 @@ public class Speech {
                       Eg: "\033[32;3mdeadline Submit report /by 31/12/2025\033[0m"
                  ╰┈➤ \033[35;1mevent 【description】 /from 【start】 /to 【end】\033[0m: Adds a new Event task.
                       Eg: "\033[32;3mevent Team meeting /from 1/1/2025 11:59pm /to 2/1/2025 12pm\033[0m"
+                 ╰┈➤ \033[35;1mdeadline/event ... /every 【day/week/month】 /until 【date】\033[0m: Repeats the task.
+                      Eg: "\033[32;3mevent Standup /from 6/1/2025 9am /to 6/1/2025 9:15am /every day\033[0m"
              \s
               ➤ 👀 \033[4;1mViewing Tasks\033[0m:
                  ╰┈➤ \033[35;1mlist\033[0m: Displays all your saved tasks, organized by type.
+                 ╰┈➤ \033[35;1mlist sort:【due/name/status】\033[0m: Displays all your tasks in the given order.
+                      Eg: "\033[32;3mlist sort:due\033[0m", "\033[32;3mcheck after 1/12/2025 sort:name\033[0m"
                  ╰┈➤ \033[35;1mfind 【description】\033[0m: Lists tasks with given keyword.
                       Eg: "\033[32;3mfind meeting\033[0m"
+                 ╰┈➤ \033[35;1mfind ~【description】\033[0m: Lists tasks resembling the keyword, closest first.
+                      Eg: "\033[32;3mfind ~meting\033[0m"
+                 ╰┈➤ \033[35;1mlist/find ... as of 【date/time】\033[0m: Shows or searches the list as it was then.
+                      Eg: "\033[32;3mlist as of 13/10/2026\033[0m", "\033[32;3mfind report as of 13/10/2026 6pm\033[0m"
                  ╰┈➤ \033[35;1mcheck 【date/time】\033[0m: Lists tasks on a specified date/time.
                       Eg: "\033[32;3mcheck 2/10/2025\033[0m"
                  ╰┈➤ \033[35;1mcheck before 【date/time】\033[0m: Lists tasks before a specified date/time (inclusive).
                       Eg: "\033[32;3mcheck before 2/10/2025 6am\033[0m"
                  ╰┈➤ \033[35;1mcheck after 【date/time】\033[0m: Lists tasks after a specified date/time (inclusive).
                       Eg: "\033[32;3mcheck after 2/10/2025 2359\033[0m"
+                 ╰┈➤ \033[35;1mquery 【key:value ...】\033[0m: Lists tasks matching every condition.
+                      Eg: "\033[32;3mquery type:deadline done:no name:report before:1/1/2026\033[0m"
+                 ╰┈➤ \033[35;1mquery explain 【key:value ...】\033[0m: Shows how a query finds its tasks.
+                      Eg: "\033[32;3mquery explain name:report after:1/12/2025\033[0m"
+                 ╰┈➤ \033[35;1mfind/check --archive 【query】\033[0m: Searches your archived completed tasks.
+                      Eg: "\033[32;3mfind --archive report\033[0m", "\033[32;3mcheck --archive before 1/1/2025\033[0m"
+                 ╰┈➤ \033[35;1mconflicts\033[0m: Lists every pair of overlapping events.
+                 ╰┈➤ \033[35;1mevent --warn ...\033[0m: Adds an event and lists the events it overlaps.
+                 ╰┈➤ \033[35;1mfree 【length】 /until 【date/time】\033[0m: Lists free slots between events.
+                      Eg: "\033[32;3mfree 1h30m /until 31/12/2025\033[0m"
+                 ╰┈➤ \033[35;1mupcoming 【number】\033[0m: Lists the pending tasks due next.
+                      Eg: "\033[32;3mupcoming 10\033[0m"
+                 ╰┈➤ \033[35;1moverdue\033[0m: Lists the pending deadlines that are overdue.
+                 ╰┈➤ \033[35;1msummary\033[0m: Counts your tasks by type and status, and what is due in the coming weeks.
+                 ╰┈➤ \033[35;1mcalendar 【month】\033[0m: Shows a month with the number of tasks on each day.
+                      Eg: "\033[32;3mcalendar 12/2025\033[0m", "\033[32;3mcalendar Dec 2025\033[0m"
              \s
               ➤ ✔️ \033[4;1mMarking Tasks\033[0m:
                  ╰┈➤ \033[35;1mmark 【index】\033[0m: Marks a task as complete.
                       Eg: "\033[32;3mmark 1\033[0m"
                  ╰┈➤ \033[35;1munmark 【index】\033[0m: Marks a task as incomplete.
                       Eg: "\033[32;3munmark 1\033[0m"
+                 ╰┈➤ \033[35;1mmark/unmark 【selection】\033[0m: Marks many tasks at once (indices, ranges, done, find).
+                      Eg: "\033[32;3mmark 1,3,9-20\033[0m", "\033[32;3munmark find meeting\033[0m"
              \s
               ➤ 🗑️ \033[4;1mDeleting Tasks\033[0m:
                  ╰┈➤ \033[35;1mdelete 【index】\033[0m: Deletes a task from the list.
                       Eg: "\033[32;3mdelete 2\033[0m"
+                 ╰┈➤ \033[35;1mdelete 【selection】\033[0m: Deletes many tasks at once (indices, ranges, done, find).
+                      Eg: "\033[32;3mdelete 5-500\033[0m", "\033[32;3mdelete done\033[0m"
                  ╰┈➤ \033[35;1mreset\033[0m: Resets and deletes the entire saved list.
+                 ╰┈➤ \033[35;1mundo\033[0m / \033[35;1mredo\033[0m: Undoes the latest change to the list, or redoes it.
+             \s
+              ➤ 📦 \033[4;1mImporting & Exporting\033[0m:
+                 ╰┈➤ \033[35;1mimport 【file】\033[0m: Adds every task in a .csv or .jsonl file.
+                      Eg: "\033[32;3mimport tasks.csv\033[0m"
+                 ╰┈➤ \033[35;1mexport 【file】\033[0m: Writes every task to a .csv or .jsonl file.
+                      Eg: "\033[32;3mexport tasks.jsonl\033[0m"
+             \s
+              ➤ 🗂️ \033[4;1mTask Lists\033[0m:
+                 ╰┈➤ \033[35;1muse 【list】\033[0m: Switches to another task list, creating it if needed.
+                      Eg: "\033[32;3muse work\033[0m", "\033[32;3muse main\033[0m"
+                 ╰┈➤ \033[35;1mlists\033[0m: Shows every task list and how many tasks it holds.
+             \s
+              ➤ 📊 \033[4;1mDiagnostics\033[0m:
+                 ╰┈➤ \033[35;1mstats\033[0m: Shows command counts and timings recorded this session.
+                 ╰┈➤ \033[35;1mprofile start\033[0m / \033[35;1mstop\033[0m: Records a flight recorder profile.
              \s
               ➤ 📴 \033[4;1mLogging Off\033[0m:
                  ╰┈➤ \033[35;1mbye\033[0m: Exits the application.
@@ -94,6 +147,8 @@ public class Speech {
               ➤ ℹ️ \033[4;1mFormating Notice\033[0m:
                  ╰┈➤ \033[35;1mIndex Numbers\033[0m: I am able to parse both words and integers.
                       Eg: "\033[32;3mmark one, delete thirteen\033[0m"
+                 ╰┈➤ \033[35;1mTask IDs\033[0m: Every task keeps the #ID shown when it is saved, wherever it moves.
+                      Eg: "\033[32;3mmark #12, delete #3,#7\033[0m"
                  ╰┈➤ \033[35;1mDate Format\033[0m: I am strictly only allowing dd/mm/yyyy format. Sorry Americans!
                       Eg: "\033[32;3m31/12/2025, 31-12-2025, 31 12 2025\033[0m"
                  ╰┈➤ \033[35;1mTime Format\033[0m: I am able to parse both 12 (AM/PM) & 24 Hour formats.
@@ -120,6 +175,11 @@ public class Speech {
      *                 A smaller value results in faster typing, while a larger value slows it down.
      */
     public static void saySlowly(String text, int duration) {
+        if (IS_INSTANT) {
+            System.out.print(text);
+            return;
+        }
+
         // Print each character with a delay to simulate a typing effect
         for (int i = 0; i < text.length(); i++) {
             System.out.print(text.charAt(i));
@@ -232,18 +292,32 @@ public class Speech {
     }
 
 
+    /**
+     * Displays tasks in the given order, each with its identifier rather than a position in the list,
+     * so that they can be marked or deleted by identifier.
+     *
+     * @param tasks the tasks to display, in order; must not be {@code null}.
+     */
+    public static void saySorted(List<Task> tasks) {
+        for (Task task : tasks) {
+            String taskDetails = task.getDetails() + (task.getDone() ? " ✔️" : "");
+            System.out.printf("#%-4d %-10s %-30s%n", task.getId(), task.getName(), taskDetails);
+        }
+    }
+
+
     /**
      * Notifies the user that a task has been successfully added to the list.
-     * The task type and details are displayed with formatting for better readability.
+     * The task type, identifier and details are displayed with formatting for better readability.
      *
      * @param task     the task that was added; must not be {@code null}.
      * @param taskType the type of the task (e.g., "DEADLINE", "EVENT", "TODO"); must not be {@code null}.
      */
     public static void sayTaskAdded(Task task, String taskType) {
         System.out.printf("""
-                ✍️ Understood! The following \033[1m%s\033[0m has been \033[92;1mSaved\033[0m:
+                ✍️ Understood! The following \033[1m%s\033[0m has been \033[92;1mSaved\033[0m as \033[1m#%d\033[0m:
                 ╰┈➤ %s
-                """, taskType, task);
+                """, taskType, task.getId(), task);
     }
 
 
@@ -275,6 +349,50 @@ public class Speech {
     }
 
 
+    /**
+     * Notifies the user that several tasks have been marked as complete or incomplete at once.
+     *
+     * @param count  the number of tasks that were marked.
+     * @param status the new completion status (true for complete, false for incomplete).
+     */
+    public static void sayTasksMarked(int count, boolean status) {
+        System.out.printf("""
+                ✍️ Understood! 【%d】 tasks have been set to %s
+                """, count, status ? "\033[92;1mComplete\033[0m ✔️. Excellent work!" :
+                "\033[91;1mIncomplete\033[0m ❌. Don't give up!");
+    }
+
+
+    /**
+     * Notifies the user that several tasks have been deleted from the list at once.
+     *
+     * @param count the number of tasks that were deleted.
+     */
+    public static void sayTasksDeleted(int count) {
+        System.out.printf("""
+                🗑️ Understood! 【%d】 tasks have been \033[1;91mDeleted\033[0m.
+                """, count);
+    }
+
+
+    /**
+     * Reminds the user that a task is due soon.
+     * <p>
+     * This is called from the reminder thread, so the reminder may appear while the user is typing.
+     * </p>
+     *
+     * @param task the task that is due soon; must not be {@code null}.
+     * @param due  the date-time at which the task is due.
+     */
+    public static void sayReminder(Task task, LocalDateTime due) {
+        System.out.printf("""
+                
+                🔔 \033[1;38;2;255;165;0mReminder!\033[0m The following task is due at \033[4m%s\033[0m:
+                ╰┈➤ %s
+                """, DateConverter.formatDate(due), task);
+    }
+
+
     /**
      * Notifies the user that all tasks have been reset and the task list is now empty.
      */
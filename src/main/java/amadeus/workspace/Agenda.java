@@ -0,0 +1,242 @@
+package amadeus.workspace;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.PriorityQueue;
+import java.util.TreeSet;
+
+/**
+ * An ordered index of the pending {@link Deadline} and {@link Event} tasks by due time.
+ * <p>
+ * A {@link Deadline} is due at its {@code by} date/time, and a date-only deadline at the end of
+ * its day. An {@link Event} is due when it starts, and a date-only event at the start of its day.
+ * Completed tasks are left out, so they never need to be skipped.
+ * </p>
+ * <p>
+ * Repeating tasks are not stored in the sets, as their next occurrence moves with time. Instead,
+ * the next occurrences of the pending repeating tasks of {@link TaskList#getRecurring()} are merged
+ * into the upcoming tasks as they are needed. Past occurrences of a repeating deadline are not
+ * tracked one by one, so they are never overdue.
+ * </p>
+ * <p>
+ * Deadlines and events are kept in two sorted sets. The next {@code k} due tasks are found by
+ * merging the two sets from a given time onwards, and the overdue deadlines are the head of the
+ * deadline set, so either query takes {@code O(log n + k)} time, and keeping the index up to
+ * date takes {@code O(log n)} per change.
+ * </p>
+ */
+public class Agenda {
+    private final TreeSet<Entry> deadlines = new TreeSet<>();
+    private final TreeSet<Entry> events = new TreeSet<>();
+
+    /**
+     * A task with its due date-time, ordered by due date-time and then identifier.
+     */
+    private static class Entry implements Comparable<Entry> {
+        private static final Comparator<Entry> ORDER =
+                Comparator.comparing((Entry entry) -> entry.due).thenComparingLong(entry -> entry.id);
+
+        final LocalDateTime due;
+        final long id;
+        final Task task;
+
+        Entry(LocalDateTime due, long id, Task task) {
+            this.due = due;
+            this.id = id;
+            this.task = task;
+        }
+
+        @Override
+        public int compareTo(Entry other) {
+            return ORDER.compare(this, other);
+        }
+    }
+
+
+    /**
+     * Adds a task to the index if it is a pending deadline or event.
+     *
+     * @param task the task to add; must not be {@code null}.
+     */
+    public void add(Task task) {
+        TreeSet<Entry> set = setOf(task);
+        if (set != null && !task.getDone() && !task.isRecurring()) {
+            set.add(new Entry(dueOf(task), task.getId(), task));
+        }
+    }
+
+
+    /**
+     * Removes a task from the index. Tasks that are not in the index are ignored.
+     *
+     * @param task the task to remove; must not be {@code null}.
+     */
+    public void remove(Task task) {
+        TreeSet<Entry> set = setOf(task);
+        if (set != null) {
+            set.remove(new Entry(dueOf(task), task.getId(), task));
+        }
+    }
+
+
+    /**
+     * Brings the index up to date after the completion status of a task changed.
+     *
+     * @param task the task whose status changed; must not be {@code null}.
+     */
+    public void update(Task task) {
+        remove(task);
+        add(task);
+    }
+
+
+    /**
+     * Returns the pending tasks due at or after the given date-time, soonest first.
+     *
+     * @param now   the date-time to look ahead from.
+     * @param limit the maximum number of tasks to return.
+     * @return up to {@code limit} tasks in order of due date-time; never {@code null}.
+     */
+    public ArrayList<Task> findUpcoming(LocalDateTime now, int limit) {
+        ArrayList<Task> once = findUpcomingOnce(now, limit);
+        ArrayList<Task> repeating = findUpcomingRecurring(now, limit);
+        if (repeating.isEmpty()) {
+            return once;
+        }
+
+        // Merge the two sorted lists
+        ArrayList<Task> upcoming = new ArrayList<>();
+        int i = 0;
+        int j = 0;
+        while (upcoming.size() < limit && (i < once.size() || j < repeating.size())) {
+            if (j == repeating.size()
+                    || (i < once.size() && !dueOf(once.get(i)).isAfter(dueOf(repeating.get(j))))) {
+                upcoming.add(once.get(i++));
+            } else {
+                upcoming.add(repeating.get(j++));
+            }
+        }
+        return upcoming;
+    }
+
+
+    /**
+     * Returns the next occurrences of the pending repeating tasks due at or after the given date-time.
+     * <p>
+     * The next occurrence of every rule is kept in a priority queue; each time the soonest one is
+     * taken, the following occurrence of the same rule takes its place.
+     * </p>
+     *
+     * @param now   the date-time to look ahead from.
+     * @param limit the maximum number of occurrences to return.
+     * @return up to {@code limit} occurrences in order of due date-time; never {@code null}.
+     */
+    private static ArrayList<Task> findUpcomingRecurring(LocalDateTime now, int limit) {
+        PriorityQueue<Task> next = new PriorityQueue<>(Comparator.comparing(Agenda::dueOf));
+        for (Task task : TaskList.getRecurring()) {
+            Task occurrence = task.getDone() ? null : Recurrence.nextDue(task, now);
+            if (occurrence != null) {
+                next.add(occurrence);
+            }
+        }
+
+        ArrayList<Task> upcoming = new ArrayList<>();
+        while (upcoming.size() < limit && !next.isEmpty()) {
+            Task occurrence = next.poll();
+            upcoming.add(occurrence);
+            Task following = Recurrence.nextDue(occurrence, dueOf(occurrence).plusSeconds(1));
+            if (following != null) {
+                next.add(following);
+            }
+        }
+        return upcoming;
+    }
+
+
+    /**
+     * Returns the pending tasks that happen once due at or after the given date-time, soonest first.
+     *
+     * @param now   the date-time to look ahead from.
+     * @param limit the maximum number of tasks to return.
+     * @return up to {@code limit} tasks in order of due date-time; never {@code null}.
+     */
+    private ArrayList<Task> findUpcomingOnce(LocalDateTime now, int limit) {
+        Entry probe = new Entry(now, Long.MIN_VALUE, null);
+        Iterator<Entry> nextDeadlines = deadlines.tailSet(probe, true).iterator();
+        Iterator<Entry> nextEvents = events.tailSet(probe, true).iterator();
+
+        // Merge the two sorted sets until enough tasks are found
+        ArrayList<Task> upcoming = new ArrayList<>();
+        Entry deadline = nextDeadlines.hasNext() ? nextDeadlines.next() : null;
+        Entry event = nextEvents.hasNext() ? nextEvents.next() : null;
+        while (upcoming.size() < limit && (deadline != null || event != null)) {
+            if (event == null || (deadline != null && deadline.compareTo(event) <= 0)) {
+                upcoming.add(deadline.task);
+                deadline = nextDeadlines.hasNext() ? nextDeadlines.next() : null;
+            } else {
+                upcoming.add(event.task);
+                event = nextEvents.hasNext() ? nextEvents.next() : null;
+            }
+        }
+        return upcoming;
+    }
+
+
+    /**
+     * Returns the pending deadlines due before the given date-time, most overdue first.
+     *
+     * @param now the current date-time.
+     * @return the overdue deadlines; never {@code null}.
+     */
+    public ArrayList<Task> findOverdue(LocalDateTime now) {
+        ArrayList<Task> overdue = new ArrayList<>();
+        for (Entry entry : deadlines.headSet(new Entry(now, Long.MIN_VALUE, null), false)) {
+            overdue.add(entry.task);
+        }
+        return overdue;
+    }
+
+
+    /**
+     * Counts the pending deadlines due from one date-time up to another.
+     *
+     * @param from the start of the range, inclusive.
+     * @param to   the end of the range, exclusive.
+     * @return the number of deadlines due in the range.
+     */
+    public int countDeadlines(LocalDateTime from, LocalDateTime to) {
+        return deadlines.subSet(new Entry(from, Long.MIN_VALUE, null), true,
+                new Entry(to, Long.MIN_VALUE, null), false).size();
+    }
+
+
+    /**
+     * Returns the date-time at which a deadline or event is due.
+     *
+     * @param task the deadline or event.
+     * @return the due date-time.
+     */
+    public static LocalDateTime dueOf(Task task) {
+        if (task instanceof Deadline) {
+            Object by = ((Deadline) task).getBy();
+            return (by instanceof LocalDate)
+                    ? ((LocalDate) by).atTime(LocalTime.MAX) // Due by the end of the day
+                    : (LocalDateTime) by;
+        }
+        return ((Event) task).getStart();
+    }
+
+
+    private TreeSet<Entry> setOf(Task task) {
+        if (task instanceof Deadline) {
+            return deadlines;
+        } else if (task instanceof Event) {
+            return events;
+        }
+        return null; // ToDo tasks have no date
+    }
+}
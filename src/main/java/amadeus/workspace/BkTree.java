@@ -0,0 +1,333 @@
+package amadeus.workspace;
+
+import amadeus.brain.Database;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A BK-tree over the words of task names, for finding tasks by words within an edit distance.
+ * <p>
+ * Task names are split into lower-case words of letters and digits. Every distinct word is one node,
+ * holding the tasks whose names contain it, and every child hangs below its parent by its
+ * Levenshtein distance to the parent's word. By the triangle inequality, a search for words within
+ * distance {@code k} of a query only needs to follow children whose distance to the parent is within
+ * {@code k} of the query's own distance to the parent, so most of the tree is never visited.
+ * </p>
+ * <p>
+ * Removing a task only removes it from the nodes of its words; a word left without tasks stays in
+ * the tree, skipped by searches, until more than half the words are unused and the tree is rebuilt
+ * from the words still in use.
+ * </p>
+ */
+public class BkTree {
+    /**
+     * The smallest number of unused words that can cause a rebuild, so small trees are not rebuilt often.
+     */
+    private static final int MIN_REBUILD = 1024;
+
+    private final HashMap<String, Node> nodes = new HashMap<>();
+    private Node root;
+    private int unused; // Number of words no task uses any more
+
+    /**
+     * A node of the tree, holding one distinct word and the tasks whose names contain it.
+     */
+    private static class Node {
+        final String word;
+        final int distance; // Distance to the parent's word
+        final HashSet<Task> tasks = new HashSet<>(2);
+        Node firstChild;
+        Node nextSibling;
+
+        Node(String word, int distance) {
+            this.word = word;
+            this.distance = distance;
+        }
+    }
+
+
+    /**
+     * Returns the number of distinct words used by the tasks in the tree.
+     *
+     * @return the number of words.
+     */
+    public int size() {
+        return nodes.size() - unused;
+    }
+
+
+    /**
+     * Returns the number of words {@link #findContaining(String)} scans, including those left without tasks.
+     *
+     * @return the number of words scanned by a search for a fragment.
+     */
+    public int scanSize() {
+        return nodes.size();
+    }
+
+
+    /**
+     * Adds the words of a task's name to the tree.
+     *
+     * @param task the task to add; must not be {@code null}.
+     */
+    public void add(Task task) {
+        for (String word : task.getWords()) {
+            Node node = nodes.get(word);
+            if (node == null) {
+                node = insert(word);
+                nodes.put(word, node);
+            } else if (node.tasks.isEmpty()) {
+                unused--;
+            }
+            node.tasks.add(task);
+        }
+    }
+
+
+    /**
+     * Removes a task from the nodes of the words of its name. Tasks that are not in the tree are ignored.
+     *
+     * @param task the task to remove; must not be {@code null}.
+     */
+    public void remove(Task task) {
+        for (String word : task.getWords()) {
+            Node node = nodes.get(word);
+            if (node != null && node.tasks.remove(task) && node.tasks.isEmpty()) {
+                unused++;
+            }
+        }
+
+        if (unused > MIN_REBUILD && unused > nodes.size() / 2) {
+            rebuild();
+        }
+    }
+
+
+    //region Queries
+
+    /**
+     * Finds the tasks whose names contain a word close to every word of a query, closest first.
+     * <p>
+     * Each query word matches the words of a task name within {@link #maxDistanceFor(String)} edits.
+     * A task matches if every query word matches one of its words, and is ranked by the sum of the
+     * smallest distances of the query words. Ties keep the task list order.
+     * </p>
+     *
+     * @param query the words to search for; must not be {@code null}.
+     * @return the matching tasks with their total distance, closest first; never {@code null}.
+     */
+    public ArrayList<Map.Entry<Task, Integer>> find(String query) {
+        IdentityHashMap<Task, Integer> totals = null;
+        for (String word : tokenize(query)) {
+            IdentityHashMap<Task, Integer> matches = search(word, maxDistanceFor(word));
+            if (totals == null) {
+                totals = matches;
+            } else {
+                // Keep only the tasks matching every word so far
+                IdentityHashMap<Task, Integer> both = new IdentityHashMap<>();
+                for (Map.Entry<Task, Integer> match : matches.entrySet()) {
+                    Integer total = totals.get(match.getKey());
+                    if (total != null) {
+                        both.put(match.getKey(), total + match.getValue());
+                    }
+                }
+                totals = both;
+            }
+        }
+
+        ArrayList<Map.Entry<Task, Integer>> ranked = new ArrayList<>();
+        if (totals != null) {
+            ranked.addAll(totals.entrySet());
+        }
+        ranked.sort(Comparator.<Map.Entry<Task, Integer>>comparingInt(Map.Entry::getValue)
+                .thenComparingInt(entry -> Database.sectionOf(entry.getKey()))
+                .thenComparingLong(entry -> entry.getKey().getId())); // Task list order
+        return ranked;
+    }
+
+
+    /**
+     * Finds the tasks whose names contain a word within the given edit distance of a word.
+     *
+     * @param word        the lower-case word to search for.
+     * @param maxDistance the largest edit distance allowed.
+     * @return the smallest distance of each matching task; never {@code null}.
+     */
+    public IdentityHashMap<Task, Integer> search(String word, int maxDistance) {
+        IdentityHashMap<Task, Integer> matches = new IdentityHashMap<>();
+        if (root == null) {
+            return matches;
+        }
+
+        ArrayDeque<Node> pending = new ArrayDeque<>();
+        pending.push(root);
+        while (!pending.isEmpty()) {
+            Node node = pending.pop();
+            int distance = distance(word, node.word);
+            if (distance <= maxDistance) {
+                for (Task task : node.tasks) {
+                    matches.merge(task, distance, Math::min);
+                }
+            }
+
+            // Only children within maxDistance of this distance can hold matches
+            for (Node child = node.firstChild; child != null; child = child.nextSibling) {
+                if (Math.abs(child.distance - distance) <= maxDistance) {
+                    pending.push(child);
+                }
+            }
+        }
+        return matches;
+    }
+
+
+    /**
+     * Finds the tasks whose names contain a word containing the given fragment.
+     * <p>
+     * Only the distinct words are scanned rather than every task name, and each matching word adds
+     * all of its tasks at once.
+     * </p>
+     *
+     * @param fragment the lower-case letters and digits to search for.
+     * @return the matching tasks, in no particular order; never {@code null}.
+     */
+    public Set<Task> findContaining(String fragment) {
+        Set<Task> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Node node : nodes.values()) {
+            if (node.word.contains(fragment)) {
+                matches.addAll(node.tasks);
+            }
+        }
+        return matches;
+    }
+    //endregion
+
+
+    /**
+     * Returns the number of edits allowed for a query word: none for words of up to 2 characters,
+     * 1 for words of up to 5 characters and 2 for longer words.
+     *
+     * @param word the query word.
+     * @return the largest edit distance allowed.
+     */
+    public static int maxDistanceFor(String word) {
+        return word.length() <= 2 ? 0 : word.length() <= 5 ? 1 : 2;
+    }
+
+
+    /**
+     * Splits text into its distinct lower-case words of letters and digits.
+     *
+     * @param text the text to split.
+     * @return the distinct words, in order of first appearance.
+     */
+    public static LinkedHashSet<String> tokenize(String text) {
+        LinkedHashSet<String> words = new LinkedHashSet<>();
+        String lower = text.toLowerCase(Locale.ROOT);
+
+        // Scan by hand rather than with a regular expression, as every task name passes through here
+        int start = -1; // Start of the current word, or -1 between words
+        for (int i = 0; i <= lower.length(); i++) {
+            boolean isWordChar = i < lower.length() && Character.isLetterOrDigit(lower.charAt(i));
+            if (isWordChar && start < 0) {
+                start = i;
+            } else if (!isWordChar && start >= 0) {
+                words.add(lower.substring(start, i));
+                start = -1;
+            }
+        }
+        return words;
+    }
+
+
+    /**
+     * Returns the Levenshtein distance between two words: the fewest single-character insertions,
+     * deletions and substitutions that turn one into the other.
+     *
+     * @param a the first word.
+     * @param b the second word.
+     * @return the edit distance.
+     */
+    public static int distance(String a, String b) {
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            for (int j = 1; j <= b.length(); j++) {
+                int substitution = previous[j - 1] + (a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()];
+    }
+
+
+    /**
+     * Inserts a new word into the tree.
+     *
+     * @param word the word, which must not already be in the tree.
+     * @return the new node.
+     */
+    private Node insert(String word) {
+        if (root == null) {
+            root = new Node(word, 0);
+            return root;
+        }
+
+        Node node = root;
+        while (true) {
+            int distance = distance(word, node.word);
+            Node child = node.firstChild;
+            while (child != null && child.distance != distance) {
+                child = child.nextSibling;
+            }
+            if (child == null) {
+                Node added = new Node(word, distance);
+                added.nextSibling = node.firstChild;
+                node.firstChild = added;
+                return added;
+            }
+            node = child;
+        }
+    }
+
+
+    /**
+     * Rebuilds the tree from the words still used by a task.
+     */
+    private void rebuild() {
+        ArrayList<Node> used = new ArrayList<>();
+        for (Node node : nodes.values()) {
+            if (!node.tasks.isEmpty()) {
+                used.add(node);
+            }
+        }
+
+        nodes.clear();
+        root = null;
+        unused = 0;
+        for (Node old : used) {
+            Node node = insert(old.word);
+            node.tasks.addAll(old.tasks);
+            nodes.put(old.word, node);
+        }
+    }
+}
@@ -0,0 +1,308 @@
+package amadeus.workspace;
+
+import amadeus.brain.AmadeusException;
+import amadeus.brain.Database;
+import amadeus.brain.Metrics;
+
+import java.io.BufferedWriter;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes every change {@link TaskList} makes to a list as a feed of {@link Change} events.
+ * <p>
+ * The feed is a {@link Flow.Publisher}: each subscriber gets its own buffer of {@link #BUFFER_PROPERTY}
+ * (by default {@value #DEFAULT_BUFFER}) changes and asks for more as it keeps up, and is called on a
+ * daemon thread of the feed, never on the command thread. A change is handed over with a non-blocking
+ * offer, so a command never waits for a slow subscriber: a change that does not fit in the buffer of a
+ * subscriber is dropped for that subscriber only, and counted in {@link Metrics}. Nothing is built at
+ * all while there are no subscribers.
+ * </p>
+ * <p>
+ * Every change carries a copy of the task in the save format rather than the task itself, as the task
+ * may change again before a subscriber gets to it. How long every change takes to reach each subscriber
+ * is recorded in {@link Metrics} as it is handed over. The only subscriber built in appends every change
+ * to a file for other tools to follow, and is only started if the {@link #FEED_PROPERTY} system property
+ * names one, so without it no change is built at all.
+ * </p>
+ */
+public class Changes {
+    /**
+     * System property holding the number of changes buffered for each subscriber.
+     */
+    public static final String BUFFER_PROPERTY = "amadeus.changes.buffer";
+
+    /**
+     * System property naming a file every change is appended to, one line each.
+     */
+    public static final String FEED_PROPERTY = "amadeus.changes";
+
+    /**
+     * Number of changes buffered for each subscriber by default.
+     */
+    public static final int DEFAULT_BUFFER = 256;
+
+    private static final ExecutorService executor = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "amadeus-changes");
+        thread.setDaemon(true); // Never keeps the application alive on exit
+        return thread;
+    });
+    private static final SubmissionPublisher<Change> publisher = new SubmissionPublisher<>(executor,
+            Math.max(1, Integer.getInteger(BUFFER_PROPERTY, DEFAULT_BUFFER)));
+    private static boolean isStarted;
+
+    /**
+     * The kinds of change to a task list.
+     */
+    public enum Kind {
+        /**
+         * A task was added, or put back by an undo.
+         */
+        ADDED,
+
+        /**
+         * A task was marked as complete.
+         */
+        MARKED,
+
+        /**
+         * A task was marked as incomplete.
+         */
+        UNMARKED,
+
+        /**
+         * A task was deleted, or taken out again by an undo.
+         */
+        DELETED,
+
+        /**
+         * Every task of the list was deleted at once.
+         */
+        RESET
+    }
+
+    /**
+     * One change to a task list, as it was when it was made.
+     */
+    public static class Change {
+        private final Kind kind;
+        private final String list;
+        private final String task; // The task in the save format, or null for a reset
+        private final LocalDateTime time;
+        private final long published; // System.nanoTime() when published, for measuring delivery
+
+        private Change(Kind kind, String list, Task task) {
+            this.kind = kind;
+            this.list = list;
+            this.task = task == null ? null : task.getId() + " | " + task.toFileFormat();
+            this.time = LocalDateTime.now();
+            this.published = System.nanoTime();
+        }
+
+        /**
+         * Returns the kind of change.
+         *
+         * @return the kind of change.
+         */
+        public Kind getKind() {
+            return kind;
+        }
+
+        /**
+         * Returns the name of the list changed.
+         *
+         * @return the name of the list.
+         */
+        public String getList() {
+            return list;
+        }
+
+        /**
+         * Returns the time of the change.
+         *
+         * @return the date-time the change was made.
+         */
+        public LocalDateTime getTime() {
+            return time;
+        }
+
+        /**
+         * Returns a copy of the task changed, as it was right after the change.
+         *
+         * @return the task, or {@code null} for a reset.
+         * @throws AmadeusException if the task cannot be read back.
+         */
+        public Task getTask() throws AmadeusException {
+            return task == null ? null : Database.parseShardLine(task);
+        }
+
+        /**
+         * Returns the change on one line: its time, kind, list and task in the save format.
+         *
+         * @return the change as a line of text.
+         */
+        @Override
+        public String toString() {
+            return time + " " + kind + " " + list + (task == null ? "" : " " + task);
+        }
+    }
+
+
+    /**
+     * Starts the built-in subscriber if a feed file is set, unless it is already started.
+     */
+    public static synchronized void start() {
+        if (isStarted) {
+            return;
+        }
+        isStarted = true;
+
+        String path = System.getProperty(FEED_PROPERTY);
+        if (path != null && !path.isBlank()) {
+            subscribe(new FileFeed(path));
+        }
+    }
+
+
+    /**
+     * Stops the feed, giving the subscribers a moment to handle the changes still buffered.
+     */
+    public static void stop() {
+        publisher.close();
+        executor.shutdown();
+        try {
+            executor.awaitTermination(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+
+    /**
+     * Returns the feed of changes, for subscribers that need the publisher itself.
+     *
+     * @return a publisher subscribing through {@link #subscribe(Flow.Subscriber)}.
+     */
+    public static Flow.Publisher<Change> getPublisher() {
+        return Changes::subscribe;
+    }
+
+
+    /**
+     * Subscribes to every change made from now on, recording how long each takes to reach the subscriber.
+     *
+     * @param subscriber the subscriber, called on a thread of the feed.
+     */
+    public static void subscribe(Flow.Subscriber<? super Change> subscriber) {
+        publisher.subscribe(new Timed(subscriber));
+    }
+
+
+    /**
+     * Publishes a change of the current list without waiting for any subscriber.
+     *
+     * @param kind the kind of change.
+     * @param task the task changed, or {@code null} for a reset.
+     */
+    static void publish(Kind kind, Task task) {
+        if (!publisher.hasSubscribers()) {
+            return; // Nobody is listening, so nothing is built
+        }
+        publisher.offer(new Change(kind, TaskList.getName(), task), (subscriber, change) -> {
+            Metrics.recordDroppedChange();
+            return false; // Drop rather than wait for the subscriber
+        });
+    }
+
+
+    /**
+     * Records how long every change takes to reach a subscriber, then hands it on.
+     */
+    private static class Timed implements Flow.Subscriber<Change> {
+        private final Flow.Subscriber<? super Change> subscriber;
+
+        Timed(Flow.Subscriber<? super Change> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            subscriber.onSubscribe(subscription);
+        }
+
+        @Override
+        public void onNext(Change change) {
+            Metrics.recordChange(System.nanoTime() - change.published);
+            subscriber.onNext(change);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            subscriber.onError(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            subscriber.onComplete();
+        }
+    }
+
+
+    /**
+     * Appends every change to a file, one line each, for other tools to follow.
+     */
+    private static class FileFeed implements Flow.Subscriber<Change> {
+        private final String path;
+        private Flow.Subscription subscription;
+        private BufferedWriter writer;
+
+        FileFeed(String path) {
+            this.path = path;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            try {
+                writer = new BufferedWriter(new FileWriter(path, StandardCharsets.UTF_8, true));
+                subscription.request(1);
+            } catch (IOException e) {
+                subscription.cancel(); // Leave the feed without a file rather than fail commands
+            }
+        }
+
+        @Override
+        public void onNext(Change change) {
+            try {
+                writer.write(change.toString());
+                writer.newLine();
+                writer.flush();
+                subscription.request(1);
+            } catch (IOException e) {
+                subscription.cancel();
+                onComplete();
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            onComplete();
+        }
+
+        @Override
+        public void onComplete() {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                // Nothing more can be written anyway
+            }
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package amadeus.workspace;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Detects overlapping {@link Event} tasks.
+ * <p>
+ * Two events conflict if each starts strictly before the other ends, so back-to-back events do not
+ * conflict. Date-only starts and ends are taken at the start of their day, as in
+ * {@link amadeus.perception.DateConverter#toDateTime(Object)}. Only events that have not yet ended are
+ * checked, so past conflicts are never reported.
+ * </p>
+ * <p>
+ * The whole list is checked with a sweep over the events in order of start time, keeping the events
+ * still running in a queue ordered by end time, which takes {@code O(n log n + k)} time for
+ * {@code k} conflicts. A single event is checked against the {@link IntervalTree} kept by
+ * {@link TaskList} in {@code O(log n + k)} time.
+ * </p>
+ * <p>
+ * Repeating events are expanded into their occurrences by {@link Recurrence}, from now on only: up to
+ * their {@code until} date, and at most {@value Recurrence#HORIZON_YEARS} year ahead for rules that
+ * repeat forever. Past occurrences are never expanded, so the cost grows with the number of rules
+ * rather than with how long ago they started. A conflict involving a repeating event is reported with
+ * the occurrence that conflicts.
+ * </p>
+ */
+public class Conflicts {
+    /**
+     * Command-line style flag asking {@code event} to warn about conflicts with the new event.
+     */
+    public static final String WARN_FLAG = "--warn";
+
+
+    /**
+     * Finds every pair of conflicting events in the given tasks.
+     *
+     * @param tasks the tasks to check; tasks other than events, and events that have ended, are ignored.
+     * @return the conflicting pairs, each ordered by start time, with occurrences in place of
+     *         repeating events; never {@code null}.
+     */
+    public static ArrayList<Event[]> findAll(List<Task> tasks) {
+        ArrayList<Event> events = new ArrayList<>();
+        ArrayList<Event> repeating = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (Task task : tasks) {
+            if (!(task instanceof Event)) {
+                continue;
+            }
+
+            Event event = (Event) task;
+            if (event.isRecurring()) {
+                repeating.add(event);
+            } else if (event.getEnd().isAfter(now)) {
+                events.add(event); // Like the occurrences of repeating events, from now on only
+            }
+        }
+
+        // Expand the repeating events from now to their end or the horizon, however far the other events reach
+        for (Event event : repeating) {
+            events.addAll(occurrencesOf(event));
+        }
+        events.sort(Comparator.comparing(Event::getStart));
+
+        // Sweep through the start times, keeping the events still running at each one
+        ArrayList<Event[]> pairs = new ArrayList<>();
+        PriorityQueue<Event> running = new PriorityQueue<>(Comparator.comparing(Event::getEnd));
+        for (Event event : events) {
+            LocalDateTime start = event.getStart();
+
+            // Drop the events that ended by the time this one starts
+            while (!running.isEmpty() && !running.peek().getEnd().isAfter(start)) {
+                running.poll();
+            }
+
+            // Every event still running overlaps this one, unless this one takes no time at its start
+            for (Event other : running) {
+                if (other.getStart().isBefore(event.getEnd())) {
+                    pairs.add(new Event[] {other, event});
+                }
+            }
+            running.add(event);
+        }
+        return pairs;
+    }
+
+
+    /**
+     * Finds the events in the task list that conflict with the given event.
+     *
+     * @param event the event to check; it may or may not be in the task list.
+     * @return the conflicting events other than {@code event}, in task list order; never {@code null}.
+     */
+    public static ArrayList<Event> findFor(Event event) {
+        LinkedHashSet<Event> conflicts = new LinkedHashSet<>();
+        for (Event occurrence : occurrencesOf(event)) {
+            LocalDateTime start = occurrence.getStart();
+            LocalDateTime end = occurrence.getEnd();
+
+            // Every conflict overlaps the closed span of the event, so only those candidates are checked
+            for (Task task : TaskList.getSpans().findOverlapping(start, end)) {
+                if (task instanceof Event && task != event && overlaps((Event) task, start, end)) {
+                    conflicts.add((Event) task);
+                }
+            }
+
+            // Repeating events are expanded over the same span only
+            for (Task task : TaskList.getRecurring()) {
+                if (task instanceof Event && task != event && !conflicts.contains(task)) {
+                    for (Task other : Recurrence.expand(task, start, end)) {
+                        if (overlaps((Event) other, start, end)) {
+                            conflicts.add((Event) task);
+                            break;
+                        }
+                    }
+                }
+            }
+        }
+
+        ArrayList<Event> sorted = new ArrayList<>(conflicts);
+        sorted.sort(Comparator.comparingLong(Task::getId)); // Task list order within the Events
+        return sorted;
+    }
+
+
+    /**
+     * Returns the occurrences of an event to check: the event itself, or the occurrences of a
+     * repeating event from now up to its {@code until} date or the horizon, whichever comes first.
+     *
+     * @param event the event.
+     * @return the occurrences, in order of start time.
+     */
+    private static ArrayList<Event> occurrencesOf(Event event) {
+        ArrayList<Event> occurrences = new ArrayList<>();
+        if (!event.isRecurring()) {
+            occurrences.add(event);
+            return occurrences;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime horizon = Recurrence.horizon(now);
+        LocalDateTime end = Recurrence.seriesEnd(event);
+        for (Task occurrence : Recurrence.expand(event, now, end.isBefore(horizon) ? end : horizon)) {
+            occurrences.add((Event) occurrence);
+        }
+        return occurrences;
+    }
+
+
+    /**
+     * Checks whether an event starts strictly before a span ends and ends strictly after it starts.
+     *
+     * @param event the event.
+     * @param start the start of the span.
+     * @param end   the end of the span.
+     * @return {@code true} if the two overlap.
+     */
+    private static boolean overlaps(Event event, LocalDateTime start, LocalDateTime end) {
+        return event.getStart().isBefore(end) && start.isBefore(event.getEnd());
+    }
+}
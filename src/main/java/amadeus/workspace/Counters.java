@@ -0,0 +1,129 @@
+package amadeus.workspace;
+
+import amadeus.brain.Database;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Running counts over a task list, kept in step with every change so a summary never scans the list.
+ * <p>
+ * Tasks are counted by type and completion status, and the pending deadlines and events that happen
+ * once are counted by the week they are due in, keyed by the day of the Monday starting it. Every
+ * change adjusts a few counters in constant time, and reading them takes constant time too.
+ * </p>
+ * <p>
+ * Which deadlines are overdue changes as time passes, so the overdue count is kept for a cutoff
+ * date-time: the deadlines due before it. Moving the cutoff forward to the current time adds the
+ * deadlines due in between, counted from the {@link Agenda}. Each deadline is passed only once, so
+ * the cost spread over all reads stays constant however long the list is.
+ * </p>
+ * <p>
+ * Repeating tasks are counted by type and status only, as they are never overdue and their
+ * occurrences are not tracked one by one.
+ * </p>
+ */
+public class Counters {
+    private final int[][] byType = new int[3][2]; // By section, then pending (0) or done (1)
+    private final LongMap<int[]> dueByWeek = new LongMap<>(); // Pending tasks due, by epoch day of the Monday
+    private LocalDateTime cutoff = LocalDateTime.now();
+    private int overdue; // Pending deadlines due before the cutoff
+
+
+    /**
+     * Counts a task added to the list, or back after its status changed.
+     *
+     * @param task the task.
+     */
+    public void add(Task task) {
+        update(task, 1);
+    }
+
+
+    /**
+     * Stops counting a task removed from the list, or about to change its status.
+     *
+     * @param task the task.
+     */
+    public void remove(Task task) {
+        update(task, -1);
+    }
+
+
+    /**
+     * Returns the number of tasks of a type and status.
+     *
+     * @param section the type, as its section in the list: 0 for Deadlines, 1 for Events, 2 for ToDos.
+     * @param isDone  whether to count the completed tasks rather than the pending ones.
+     * @return the number of tasks.
+     */
+    public int count(int section, boolean isDone) {
+        return byType[section][isDone ? 1 : 0];
+    }
+
+
+    /**
+     * Returns the number of pending deadlines and events that happen once and are due in a week.
+     *
+     * @param day any day of the week.
+     * @return the number of tasks due from the Monday to the Sunday of that week.
+     */
+    public int countDueInWeek(LocalDate day) {
+        int[] counts = dueByWeek.get(weekOf(day));
+        return counts != null ? counts[0] : 0;
+    }
+
+
+    /**
+     * Returns the number of pending deadlines due before a date-time, moving the cutoff up to it.
+     *
+     * @param agenda the agenda of the same list, to count the deadlines the cutoff passes.
+     * @param now    the current date-time.
+     * @return the number of overdue deadlines.
+     */
+    public int countOverdue(Agenda agenda, LocalDateTime now) {
+        if (now.isBefore(cutoff)) {
+            overdue = agenda.findOverdue(now).size(); // The clock went back, so count again
+        } else {
+            overdue += agenda.countDeadlines(cutoff, now);
+        }
+        cutoff = now;
+        return overdue;
+    }
+
+
+    /**
+     * Adjusts every count a task takes part in.
+     *
+     * @param task  the task.
+     * @param delta 1 to count the task, or -1 to stop counting it.
+     */
+    private void update(Task task, int delta) {
+        byType[Database.sectionOf(task)][task.getDone() ? 1 : 0] += delta;
+        if (task.getDone() || task.isRecurring() || !(task instanceof Deadline || task instanceof Event)) {
+            return; // Only pending tasks that happen once are due
+        }
+
+        LocalDateTime due = Agenda.dueOf(task);
+        long week = weekOf(due.toLocalDate());
+        int[] counts = dueByWeek.get(week);
+        if (counts == null) {
+            counts = new int[1];
+            dueByWeek.put(week, counts);
+        }
+        counts[0] += delta;
+        if (counts[0] == 0) {
+            dueByWeek.remove(week); // Keep only the weeks something is due in
+        }
+
+        if (task instanceof Deadline && due.isBefore(cutoff)) {
+            overdue += delta;
+        }
+    }
+
+
+    private static long weekOf(LocalDate day) {
+        return day.with(DayOfWeek.MONDAY).toEpochDay();
+    }
+}
@@ -0,0 +1,185 @@
+package amadeus.workspace;
+
+import amadeus.brain.Database;
+import amadeus.perception.DateConverter;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+
+/**
+ * A hash index from each day to the Deadlines and Events falling on it, for lookups of a single date.
+ * <p>
+ * Days are keyed by their epoch day in a {@link LongMap}. A deadline falls on the day it is due, and an
+ * event on every day from its start to its end, so an event spanning several days is in the bucket of
+ * each of them. Finding the tasks of a day then takes one hash lookup plus the tasks found, however
+ * many tasks the list holds.
+ * </p>
+ * <p>
+ * Events longer than {@value #MAX_BUCKETED_DAYS} days are kept in a separate list instead, so a single
+ * long event cannot fill thousands of buckets. That list is checked on every lookup and is expected to
+ * stay short. Repeating tasks are not indexed, as their occurrences are expanded on demand: the
+ * counts of a whole month expand the occurrences of {@link TaskList#getRecurring()} within that month only.
+ * </p>
+ */
+public class DayIndex {
+    /**
+     * The longest span in days for which a task is put in the bucket of every day it falls on.
+     */
+    public static final int MAX_BUCKETED_DAYS = 62;
+
+    private static final Comparator<Task> LIST_ORDER = Comparator.comparingInt(Database::sectionOf)
+            .thenComparingLong(Task::getId);
+
+    private final LongMap<ArrayList<Task>> byDay = new LongMap<>();
+    private final ArrayList<Task> longTasks = new ArrayList<>(); // Tasks spanning too many days to bucket
+
+
+    /**
+     * Adds a task to the bucket of every day it falls on. Tasks without a single date span are ignored.
+     *
+     * @param task the task to add; must not be {@code null}.
+     */
+    public void add(Task task) {
+        long[] days = daysOf(task);
+        if (days == null) {
+            return;
+        } else if (days[1] - days[0] >= MAX_BUCKETED_DAYS) {
+            longTasks.add(task);
+            return;
+        }
+
+        for (long day = days[0]; day <= days[1]; day++) {
+            ArrayList<Task> bucket = byDay.get(day);
+            if (bucket == null) {
+                bucket = new ArrayList<>(2);
+                byDay.put(day, bucket);
+            }
+            bucket.add(task);
+        }
+    }
+
+
+    /**
+     * Removes a task from the index. Tasks that are not in the index are ignored.
+     *
+     * @param task the task to remove; must not be {@code null}.
+     */
+    public void remove(Task task) {
+        long[] days = daysOf(task);
+        if (days == null) {
+            return;
+        } else if (days[1] - days[0] >= MAX_BUCKETED_DAYS) {
+            longTasks.remove(task);
+            return;
+        }
+
+        for (long day = days[0]; day <= days[1]; day++) {
+            ArrayList<Task> bucket = byDay.get(day);
+            if (bucket != null && bucket.remove(task) && bucket.isEmpty()) {
+                byDay.remove(day); // Keep only the days something falls on
+            }
+        }
+    }
+
+
+    /**
+     * Returns every task falling on a day.
+     *
+     * @param date the day.
+     * @return the tasks, in task list order; never {@code null}.
+     */
+    public ArrayList<Task> findOn(LocalDate date) {
+        long day = date.toEpochDay();
+        ArrayList<Task> bucket = byDay.get(day);
+        ArrayList<Task> tasks = bucket != null ? new ArrayList<>(bucket) : new ArrayList<>();
+        for (Task task : longTasks) {
+            long[] days = daysOf(task);
+            if (days[0] <= day && day <= days[1]) {
+                tasks.add(task);
+            }
+        }
+        tasks.sort(LIST_ORDER);
+        return tasks;
+    }
+
+
+    /**
+     * Counts the tasks falling on a day, without listing them.
+     *
+     * @param date the day.
+     * @return the number of tasks.
+     */
+    public int countOn(LocalDate date) {
+        long day = date.toEpochDay();
+        ArrayList<Task> bucket = byDay.get(day);
+        int count = bucket != null ? bucket.size() : 0;
+        for (Task task : longTasks) {
+            long[] days = daysOf(task);
+            if (days[0] <= day && day <= days[1]) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+
+    /**
+     * Counts the tasks falling on each day of a month, including the occurrences of repeating tasks.
+     *
+     * @param month the month.
+     * @return the number of tasks of each day, the first day of the month at index 0.
+     */
+    public int[] countMonth(YearMonth month) {
+        int[] counts = new int[month.lengthOfMonth()];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = countOn(month.atDay(i + 1));
+        }
+
+        // Expand the repeating tasks within the month only
+        long first = month.atDay(1).toEpochDay();
+        long last = month.atEndOfMonth().toEpochDay();
+        for (Task task : TaskList.getRecurring()) {
+            for (Task occurrence : Recurrence.expand(task, month.atDay(1).atStartOfDay(),
+                    month.atEndOfMonth().atTime(LocalTime.MAX))) {
+                long[] days = spanOf(occurrence);
+                for (long day = Math.max(first, days[0]); day <= Math.min(last, days[1]); day++) {
+                    counts[(int) (day - first)]++;
+                }
+            }
+        }
+        return counts;
+    }
+
+
+    /**
+     * Returns the first and last epoch day a task falls on.
+     *
+     * @param task the task.
+     * @return the first and last day, or {@code null} if the task has no single date span.
+     */
+    private static long[] daysOf(Task task) {
+        return task.isRecurring() ? null : spanOf(task); // Repeating tasks have no single span
+    }
+
+
+    /**
+     * Returns the first and last epoch day a deadline or event falls on, ignoring any repetition.
+     *
+     * @param task the task.
+     * @return the first and last day, or {@code null} if the task has no date.
+     */
+    private static long[] spanOf(Task task) {
+        if (task instanceof Deadline) {
+            long by = DateConverter.toDateTime(((Deadline) task).getBy()).toLocalDate().toEpochDay();
+            return new long[] {by, by};
+        } else if (task instanceof Event) {
+            long from = DateConverter.toDateTime(((Event) task).getFrom()).toLocalDate().toEpochDay();
+            long to = DateConverter.toDateTime(((Event) task).getTo()).toLocalDate().toEpochDay();
+            return new long[] {from, Math.max(from, to)};
+        }
+        return null; // ToDo tasks have no date
+    }
+}
@@ -44,6 +44,19 @@ public class Deadline extends Task {
     }
 
 
+    /**
+     * Constructs a copy of a {@code Deadline} task with an already pooled name.
+     *
+     * @param name the pooled name of the task.
+     * @param done a boolean indicating whether the task is completed (true) or not (false).
+     * @param by   the deadline by which the task must be completed.
+     */
+    private Deadline(Name name, boolean done, Object by) {
+        super(name, done);
+        this.by = by;
+    }
+
+
     /**
      * Returns the due date/time of the deadline task.
      *
@@ -54,6 +67,24 @@ public class Deadline extends Task {
     }
 
 
+    /**
+     * Returns occurrence {@code n} of a repeating deadline, due {@code n} periods after the first one.
+     *
+     * @param n the occurrence number, starting at 0.
+     * @return the occurrence, or this deadline if it happens once.
+     */
+    @Override
+    public Task occurrence(long n) {
+        if (recurrence == null || n == 0) {
+            return this;
+        }
+        Deadline occurrence = new Deadline(name, isDone, recurrence.shift(by, n));
+        occurrence.setId(id);
+        occurrence.setRecurrence(recurrence);
+        return occurrence;
+    }
+
+
     /**
      * Returns the details of the {@code Deadline} task, including the due date/time.
      *
@@ -61,7 +92,7 @@ public class Deadline extends Task {
      */
     @Override
     public String getDetails() {
-        return " ⏰ \033[31;1mDue by:\033[0m【" + DateConverter.formatDate(by) + "】";
+        return " ⏰ \033[31;1mDue by:\033[0m【" + DateConverter.formatDate(by) + "】" + recurrenceLabel();
     }
 
 
@@ -72,14 +103,14 @@ public class Deadline extends Task {
      */
     @Override
     public String toString() {
-        return name + " ⏰ \033[31;1mDue by:\033[0m【" + DateConverter.formatDate(by) + "】";
+        return name + " ⏰ \033[31;1mDue by:\033[0m【" + DateConverter.formatDate(by) + "】" + recurrenceLabel();
     }
 
 
     /**
      * Converts the {@code Deadline} task to a file-friendly format.
      * <p>
-     * The format is: {@code D | <isDone> | <description> | <by>}.
+     * The format is: {@code D | <isDone> | <description> | <by>}, followed by {@code | every <rule>} if it repeats.
      * </p>
      *
      * @return a string representation of the {@code Deadline} task in a format suitable for saving to a file.
@@ -87,7 +118,7 @@ public class Deadline extends Task {
     @Override
     public String toFileFormat() {
         String byFormatted = dateFileFormat(by);
-        return "D | " + (isDone ? "1" : "0") + " | " + name + " | " + byFormatted;
+        return "D | " + (isDone ? "1" : "0") + " | " + name + " | " + byFormatted + recurrenceFileFormat();
     }
 
 
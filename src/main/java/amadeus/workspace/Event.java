@@ -53,6 +53,21 @@ public class Event extends Task {
     }
 
 
+    /**
+     * Constructs a copy of an {@code Event} task with an already pooled name.
+     *
+     * @param name the pooled name of the task.
+     * @param done a boolean indicating whether the task is completed (true) or not (false).
+     * @param from the start date/time of the event.
+     * @param to   the end date/time of the event.
+     */
+    private Event(Name name, boolean done, Object from, Object to) {
+        super(name, done);
+        this.from = from;
+        this.to = to;
+    }
+
+
     /**
      * Returns the start date/time of the event.
      *
@@ -63,6 +78,54 @@ public class Event extends Task {
     }
 
 
+    /**
+     * Returns the end date/time of the event.
+     *
+     * @return The end date/time of the event.
+     */
+    public Object getTo() {
+        return to;
+    }
+
+
+    /**
+     * Returns the start of the event as a date-time, taking a date-only start at the start of its day.
+     *
+     * @return The start date-time of the event.
+     */
+    public LocalDateTime getStart() {
+        return DateConverter.toDateTime(from);
+    }
+
+
+    /**
+     * Returns the end of the event as a date-time, taking a date-only end at the start of its day.
+     *
+     * @return The end date-time of the event.
+     */
+    public LocalDateTime getEnd() {
+        return DateConverter.toDateTime(to);
+    }
+
+
+    /**
+     * Returns occurrence {@code n} of a repeating event, starting and ending {@code n} periods after the first one.
+     *
+     * @param n the occurrence number, starting at 0.
+     * @return the occurrence, or this event if it happens once.
+     */
+    @Override
+    public Task occurrence(long n) {
+        if (recurrence == null || n == 0) {
+            return this;
+        }
+        Event occurrence = new Event(name, isDone, recurrence.shift(from, n), recurrence.shift(to, n));
+        occurrence.setId(id);
+        occurrence.setRecurrence(recurrence);
+        return occurrence;
+    }
+
+
     /**
      * Returns the details of the {@code Event} task, including the start and end times.
      *
@@ -71,7 +134,7 @@ public class Event extends Task {
     @Override
     public String getDetails() {
         return "\uD83D\uDE80 \033[31;1mFrom:\033[0m【" + DateConverter.formatDate(from) +
-                "】 \uD83D\uDEA9 \033[31;1mTo:\033[0m【" + DateConverter.formatDate(to) + "】";
+                "】 \uD83D\uDEA9 \033[31;1mTo:\033[0m【" + DateConverter.formatDate(to) + "】" + recurrenceLabel();
     }
 
 
@@ -83,14 +146,15 @@ public class Event extends Task {
     @Override
     public String toString() {
         return name + " \uD83D\uDE80 \033[31;1mFrom:\033[0m【" + DateConverter.formatDate(from) +
-                "】 \uD83D\uDEA9 \033[31;1mTo:\033[0m【" + DateConverter.formatDate(to) + "】";
+                "】 \uD83D\uDEA9 \033[31;1mTo:\033[0m【" + DateConverter.formatDate(to) + "】" + recurrenceLabel();
     }
 
 
     /**
      * Converts the {@code Event} task to a file-friendly format.
      * <p>
-     * The format is: {@code E | <isDone> | <description> | <from> | <to>}.
+     * The format is: {@code E | <isDone> | <description> | <from> | <to>}, followed by {@code | every <rule>}
+     * if it repeats.
      * </p>
      *
      * @return a string representation of the {@code Event} task in a format suitable for saving to a file.
@@ -99,7 +163,8 @@ public class Event extends Task {
     public String toFileFormat() {
         String fromFormatted = dateFileFormat(from);
         String toFormatted = dateFileFormat(to);
-        return "E | " + (isDone ? "1" : "0") + " | " + name + " | " + fromFormatted + " | " + toFormatted;
+        return "E | " + (isDone ? "1" : "0") + " | " + name + " | " + fromFormatted + " | " + toFormatted
+                + recurrenceFileFormat();
     }
 
 
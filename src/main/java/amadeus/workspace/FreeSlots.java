@@ -0,0 +1,156 @@
+package amadeus.workspace;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Finds the free time between {@link Event} tasks.
+ * <p>
+ * The events overlapping the search window are read in order of start time from the
+ * {@link IntervalTree} kept by {@link TaskList}, and merged on the fly: a cursor tracks the latest
+ * end seen so far, and every gap between the cursor and the next start that is long enough is a
+ * free slot. Slots are produced lazily, so the first one is available after reading only the
+ * events before it, however large the calendar is. {@link Deadline} tasks are due at an instant
+ * and take up no time, so they never split a slot. Date-only bounds are taken at the start of
+ * their day.
+ * </p>
+ * <p>
+ * Repeating events are not in the tree; their occurrences within the window are expanded by
+ * {@link Recurrence} up front and merged with the events read from the tree in order of start.
+ * </p>
+ */
+public class FreeSlots {
+    /**
+     * Returns a lazy stream of the free slots of at least the given length within a window.
+     *
+     * @param from      the start of the window.
+     * @param to        the end of the window.
+     * @param minLength the shortest slot to report; must be positive.
+     * @return the free slots as {@code [start, end]} pairs, in order of start; never {@code null}.
+     */
+    public static Stream<LocalDateTime[]> find(LocalDateTime from, LocalDateTime to, Duration minLength) {
+        Iterator<Task> spans = merge(TaskList.getSpans().iterator(from, to), expandRecurring(from, to));
+
+        Iterator<LocalDateTime[]> slots = new Iterator<>() {
+            private LocalDateTime cursor = from; // Everything before the cursor is busy or already reported
+            private LocalDateTime[] next = advance();
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public LocalDateTime[] next() {
+                if (next == null) {
+                    throw new NoSuchElementException();
+                }
+                LocalDateTime[] slot = next;
+                next = advance();
+                return slot;
+            }
+
+            // Merges events until the next gap of at least minLength, or the end of the window
+            private LocalDateTime[] advance() {
+                while (spans.hasNext()) {
+                    Task task = spans.next();
+                    if (!(task instanceof Event)) {
+                        continue; // Deadlines take up no time
+                    }
+
+                    Event event = (Event) task;
+                    LocalDateTime start = event.getStart();
+                    LocalDateTime gapStart = cursor;
+                    if (event.getEnd().isAfter(cursor)) {
+                        cursor = event.getEnd();
+                    }
+                    if (isLongEnough(gapStart, start)) {
+                        return new LocalDateTime[] {gapStart, start};
+                    }
+                }
+
+                // The rest of the window after the last event
+                if (cursor.isBefore(to) && isLongEnough(cursor, to)) {
+                    LocalDateTime[] last = {cursor, to};
+                    cursor = to;
+                    return last;
+                }
+                return null;
+            }
+
+            private boolean isLongEnough(LocalDateTime start, LocalDateTime end) {
+                return Duration.between(start, end).compareTo(minLength) >= 0;
+            }
+        };
+
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(slots,
+                Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+
+    /**
+     * Returns the occurrences of the repeating events that overlap a window, in order of start.
+     *
+     * @param from the start of the window.
+     * @param to   the end of the window.
+     * @return the occurrences; never {@code null}.
+     */
+    private static ArrayList<Event> expandRecurring(LocalDateTime from, LocalDateTime to) {
+        ArrayList<Event> occurrences = new ArrayList<>();
+        for (Task task : TaskList.getRecurring()) {
+            if (task instanceof Event) {
+                for (Task occurrence : Recurrence.expand(task, from, to)) {
+                    occurrences.add((Event) occurrence);
+                }
+            }
+        }
+        occurrences.sort(Comparator.comparing(Event::getStart));
+        return occurrences;
+    }
+
+
+    /**
+     * Merges the tasks read from the tree with the occurrences of repeating events, in order of start.
+     *
+     * @param spans       the tasks read from the tree, in order of start.
+     * @param occurrences the occurrences of repeating events, in order of start.
+     * @return the lazy merged iterator.
+     */
+    private static Iterator<Task> merge(Iterator<Task> spans, ArrayList<Event> occurrences) {
+        if (occurrences.isEmpty()) {
+            return spans;
+        }
+
+        return new Iterator<>() {
+            private Task head = spans.hasNext() ? spans.next() : null; // Next task from the tree
+            private int i;
+
+            @Override
+            public boolean hasNext() {
+                return head != null || i < occurrences.size();
+            }
+
+            @Override
+            public Task next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                if (i < occurrences.size()
+                        && (head == null || occurrences.get(i).getStart().isBefore(Recurrence.startOf(head)))) {
+                    return occurrences.get(i++);
+                }
+                Task task = head;
+                head = spans.hasNext() ? spans.next() : null;
+                return task;
+            }
+        };
+    }
+}
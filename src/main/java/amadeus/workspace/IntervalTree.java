@@ -0,0 +1,397 @@
+package amadeus.workspace;
+
+import amadeus.perception.DateConverter;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An augmented interval tree over the date spans of {@link Deadline} and {@link Event} tasks.
+ * <p>
+ * Every {@link Event} is indexed by its closed span {@code [from, to]} and every {@link Deadline}
+ * by the single point {@code [by, by]}. Date-only values are taken at the start of their day,
+ * as in {@link DateConverter#toDateTime(Object)}. {@link ToDo} tasks carry no date and are ignored,
+ * and repeating tasks are kept apart by {@link TaskList} and expanded by {@link Recurrence} instead.
+ * </p>
+ * <p>
+ * The tree is an AVL tree ordered by span start (ties broken by task identifier), where every node
+ * also stores the latest span end within its subtree. Queries skip whole subtrees that end too early
+ * or start too late, so finding the {@code k} tasks overlapping a range takes
+ * {@code O(log n + k)} time, and inserting or removing a task takes {@code O(log n)}.
+ * </p>
+ */
+public class IntervalTree {
+    private Node root;
+    private int size;
+
+    /**
+     * A node of the tree, holding one task and its span in epoch seconds.
+     */
+    private static class Node {
+        final Task task;
+        final long start;
+        final long end;
+        long maxEnd; // Latest end within this subtree
+        int height = 1;
+        Node left;
+        Node right;
+
+        Node(Task task, long start, long end) {
+            this.task = task;
+            this.start = start;
+            this.end = end;
+            this.maxEnd = end;
+        }
+    }
+
+
+    /**
+     * Returns the number of tasks in the tree.
+     *
+     * @return the number of indexed tasks.
+     */
+    public int size() {
+        return size;
+    }
+
+
+    /**
+     * Adds a task to the tree. Tasks without a date are ignored.
+     *
+     * @param task the task to add; must not be {@code null}.
+     */
+    public void add(Task task) {
+        long[] span = spanOf(task);
+        if (span != null) {
+            root = insert(root, new Node(task, span[0], span[1]));
+            size++;
+        }
+    }
+
+
+    /**
+     * Removes a task from the tree. Tasks that are not in the tree are ignored.
+     *
+     * @param task the task to remove; must not be {@code null}.
+     */
+    public void remove(Task task) {
+        long[] span = spanOf(task);
+        if (span != null) {
+            root = delete(root, span[0], task.getId());
+        }
+    }
+
+
+    //region Queries
+
+    /**
+     * Returns every task whose span overlaps the closed range {@code [from, to]}.
+     *
+     * @param from the start of the range.
+     * @param to   the end of the range.
+     * @return the overlapping tasks, in task list order; never {@code null}.
+     */
+    public ArrayList<Task> findOverlapping(LocalDateTime from, LocalDateTime to) {
+        return query(toSeconds(from), toSeconds(to));
+    }
+
+
+    /**
+     * Returns a lazy iterator over every task whose span overlaps the closed range {@code [from, to]},
+     * in order of span start.
+     * <p>
+     * Each call to {@code next()} walks only as far into the tree as needed to find the next match,
+     * so taking the first few matches costs {@code O(log n)} regardless of how many follow.
+     * The tree must not be changed while the iterator is in use.
+     * </p>
+     *
+     * @param from the start of the range.
+     * @param to   the end of the range.
+     * @return the iterator over the overlapping tasks.
+     */
+    public Iterator<Task> iterator(LocalDateTime from, LocalDateTime to) {
+        long lo = toSeconds(from);
+        long hi = toSeconds(to);
+
+        return new Iterator<>() {
+            private final ArrayDeque<Node> path = new ArrayDeque<>(); // Nodes whose left side is done
+            private Node next;
+
+            {
+                descend(root);
+                advance();
+            }
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public Task next() {
+                if (next == null) {
+                    throw new NoSuchElementException();
+                }
+                Task task = next.task;
+                advance();
+                return task;
+            }
+
+            // Pushes the leftmost path of a subtree, skipping subtrees that end before the range
+            private void descend(Node node) {
+                while (node != null && node.maxEnd >= lo) {
+                    path.push(node);
+                    node = node.left;
+                }
+            }
+
+            // Moves to the next overlapping node in order of span start
+            private void advance() {
+                next = null;
+                while (!path.isEmpty()) {
+                    Node node = path.pop();
+                    if (node.start > hi) {
+                        path.clear(); // Everything left starts after the range
+                        return;
+                    }
+                    descend(node.right);
+                    if (node.end >= lo) {
+                        next = node;
+                        return;
+                    }
+                }
+            }
+        };
+    }
+
+
+    /**
+     * Collects every task whose span overlaps {@code [lo, hi]} and sorts them into task list order.
+     *
+     * @param lo the start of the range in epoch seconds.
+     * @param hi the end of the range in epoch seconds.
+     * @return the overlapping tasks.
+     */
+    private ArrayList<Task> query(long lo, long hi) {
+        ArrayList<Task> matches = new ArrayList<>();
+        collect(root, lo, hi, matches);
+
+        // Deadlines come before Events in the task list, each section ordered by identifier
+        matches.sort(Comparator.comparingInt((Task task) -> task instanceof Deadline ? 0 : 1)
+                .thenComparingLong(Task::getId));
+        return matches;
+    }
+
+
+    /**
+     * Recursively collects the overlapping tasks of a subtree.
+     *
+     * @param node    the root of the subtree.
+     * @param lo      the start of the range in epoch seconds.
+     * @param hi      the end of the range in epoch seconds.
+     * @param matches the list to add matches to.
+     */
+    private static void collect(Node node, long lo, long hi, ArrayList<Task> matches) {
+        if (node == null || node.maxEnd < lo) {
+            return; // Everything in this subtree ends before the range
+        }
+        collect(node.left, lo, hi, matches);
+        if (node.start > hi) {
+            return; // This node and everything to its right starts after the range
+        }
+        if (node.end >= lo) {
+            matches.add(node.task);
+        }
+        collect(node.right, lo, hi, matches);
+    }
+    //endregion
+
+
+    //region Balancing
+
+    /**
+     * Inserts a node into a subtree and rebalances it.
+     *
+     * @param node  the root of the subtree.
+     * @param added the node to insert.
+     * @return the new root of the subtree.
+     */
+    private static Node insert(Node node, Node added) {
+        if (node == null) {
+            return added;
+        }
+        if (compare(added.start, added.task.getId(), node) < 0) {
+            node.left = insert(node.left, added);
+        } else {
+            node.right = insert(node.right, added);
+        }
+        return rebalance(node);
+    }
+
+
+    /**
+     * Deletes the node with the given key from a subtree and rebalances it.
+     *
+     * @param node  the root of the subtree.
+     * @param start the span start of the task in epoch seconds.
+     * @param id    the identifier of the task.
+     * @return the new root of the subtree.
+     */
+    private Node delete(Node node, long start, long id) {
+        if (node == null) {
+            return null; // Not indexed
+        }
+
+        int order = compare(start, id, node);
+        if (order < 0) {
+            node.left = delete(node.left, start, id);
+        } else if (order > 0) {
+            node.right = delete(node.right, start, id);
+        } else {
+            size--;
+            if (node.left == null) {
+                return node.right;
+            } else if (node.right == null) {
+                return node.left;
+            }
+
+            // Replace the node with its in-order successor
+            Node successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            Node replacement = new Node(successor.task, successor.start, successor.end);
+            replacement.right = deleteMin(node.right);
+            replacement.left = node.left;
+            return rebalance(replacement);
+        }
+        return rebalance(node);
+    }
+
+
+    /**
+     * Deletes the leftmost node of a subtree and rebalances it.
+     *
+     * @param node the root of the subtree; must not be {@code null}.
+     * @return the new root of the subtree.
+     */
+    private static Node deleteMin(Node node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        node.left = deleteMin(node.left);
+        return rebalance(node);
+    }
+
+
+    /**
+     * Restores the AVL balance and the augmented values of a node after one of its subtrees changed.
+     *
+     * @param node the node to rebalance.
+     * @return the new root of the subtree.
+     */
+    private static Node rebalance(Node node) {
+        update(node);
+        int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        } else if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+
+    private static Node rotateLeft(Node node) {
+        Node pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+
+    private static Node rotateRight(Node node) {
+        Node pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+
+    /**
+     * Recomputes the height and latest span end of a node from its children.
+     *
+     * @param node the node to update.
+     */
+    private static void update(Node node) {
+        node.height = 1 + Math.max(height(node.left), height(node.right));
+        node.maxEnd = node.end;
+        if (node.left != null) {
+            node.maxEnd = Math.max(node.maxEnd, node.left.maxEnd);
+        }
+        if (node.right != null) {
+            node.maxEnd = Math.max(node.maxEnd, node.right.maxEnd);
+        }
+    }
+
+
+    private static int height(Node node) {
+        return node == null ? 0 : node.height;
+    }
+    //endregion
+
+
+    /**
+     * Compares a span start and task identifier with the key of a node.
+     *
+     * @param start the span start in epoch seconds.
+     * @param id    the task identifier.
+     * @param node  the node to compare with.
+     * @return a negative, zero or positive number as the key is before, equal to or after the node.
+     */
+    private static int compare(long start, long id, Node node) {
+        int order = Long.compare(start, node.start);
+        return order != 0 ? order : Long.compare(id, node.task.getId());
+    }
+
+
+    /**
+     * Returns the span of a task in epoch seconds.
+     *
+     * @param task the task.
+     * @return the start and end of the span, or {@code null} if the task has no single span.
+     */
+    private static long[] spanOf(Task task) {
+        if (task.isRecurring()) {
+            return null; // Repeating tasks have no single span
+        } else if (task instanceof Deadline) {
+            long by = toSeconds(DateConverter.toDateTime(((Deadline) task).getBy()));
+            return new long[] {by, by};
+        } else if (task instanceof Event) {
+            long from = toSeconds(DateConverter.toDateTime(((Event) task).getFrom()));
+            long to = toSeconds(DateConverter.toDateTime(((Event) task).getTo()));
+            return new long[] {from, Math.max(from, to)};
+        }
+        return null; // ToDo tasks have no date
+    }
+
+
+    private static long toSeconds(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,141 @@
+package amadeus.workspace;
+
+/**
+ * A hash map from {@code long} keys to values, used to find tasks by their identifiers.
+ * <p>
+ * Keys are kept in a primitive array, so looking one up neither boxes it into a {@link Long} nor
+ * follows a pointer to an entry object. The table uses open addressing with linear probing and is
+ * kept at most half full, so a lookup usually inspects one or two slots. Removing a key shifts the
+ * following keys of its probe run back, so no tombstones build up however many tasks are deleted.
+ * </p>
+ *
+ * @param <V> the type of the values.
+ */
+public class LongMap<V> {
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] keys = new long[MIN_CAPACITY];
+    private Object[] values = new Object[MIN_CAPACITY]; // null marks an empty slot
+    private int size;
+
+
+    /**
+     * Returns the number of keys in the map.
+     *
+     * @return the number of entries.
+     */
+    public int size() {
+        return size;
+    }
+
+
+    /**
+     * Returns the value of a key.
+     *
+     * @param key the key to look up.
+     * @return the value, or {@code null} if the key is not in the map.
+     */
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+        int mask = keys.length - 1;
+        for (int slot = slotOf(key, mask); values[slot] != null; slot = (slot + 1) & mask) {
+            if (keys[slot] == key) {
+                return (V) values[slot];
+            }
+        }
+        return null;
+    }
+
+
+    /**
+     * Sets the value of a key, replacing any previous value.
+     *
+     * @param key   the key.
+     * @param value the value; must not be {@code null}.
+     */
+    public void put(long key, V value) {
+        if (2 * (size + 1) > keys.length) {
+            resize(2 * keys.length);
+        }
+
+        int mask = keys.length - 1;
+        int slot = slotOf(key, mask);
+        while (values[slot] != null && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        if (values[slot] == null) {
+            size++;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+    }
+
+
+    /**
+     * Removes a key from the map. Keys that are not in the map are ignored.
+     *
+     * @param key the key to remove.
+     */
+    public void remove(long key) {
+        int mask = keys.length - 1;
+        int slot = slotOf(key, mask);
+        while (values[slot] != null && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        if (values[slot] == null) {
+            return; // Not in the map
+        }
+        size--;
+
+        // Shift back every following key of the run that may no longer reach its slot
+        int hole = slot;
+        for (int next = (hole + 1) & mask; values[next] != null; next = (next + 1) & mask) {
+            int home = slotOf(keys[next], mask);
+            // The key may fill the hole unless its home lies cyclically in (hole, next]
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                keys[hole] = keys[next];
+                values[hole] = values[next];
+                hole = next;
+            }
+        }
+        values[hole] = null;
+    }
+
+
+    /**
+     * Moves every entry into a table of the given capacity.
+     *
+     * @param capacity the new number of slots, a power of two.
+     */
+    private void resize(int capacity) {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        keys = new long[capacity];
+        values = new Object[capacity];
+
+        int mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldValues[i] != null) {
+                int slot = slotOf(oldKeys[i], mask);
+                while (values[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+
+    /**
+     * Returns the home slot of a key. The key is mixed first, as task identifiers are consecutive.
+     *
+     * @param key  the key.
+     * @param mask the number of slots minus one.
+     * @return the first slot to probe.
+     */
+    private static int slotOf(long key, int mask) {
+        long hash = key * 0x9E3779B97F4A7C15L; // Fibonacci hashing spreads consecutive keys
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+}
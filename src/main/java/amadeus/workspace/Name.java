@@ -0,0 +1,251 @@
+package amadeus.workspace;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+
+/**
+ * The name of a task, stored as compact bytes together with its case-folded form for searching.
+ * <p>
+ * Names made only of Latin-1 characters take one byte per character; other names are stored as UTF-8.
+ * The case-folded form is computed once, when the name is first seen by {@link NamePool}, so a
+ * keyword search compares bytes directly instead of lower-casing every name on every search. Sorting
+ * by name and splitting a name into words work on the case-folded bytes too, so only displaying or
+ * saving a name decodes it into a string. Names are immutable, and identical names share one instance
+ * through {@link NamePool#intern(String)}.
+ * </p>
+ */
+public final class Name {
+    private final byte[] bytes;
+    private final boolean isLatin1; // Whether bytes holds Latin-1 rather than UTF-8
+    private final byte[] folded; // Case-folded bytes, the same array as bytes if already folded
+    private final boolean isFoldedLatin1;
+    private final int hash;
+
+    /**
+     * A search keyword, case-folded and encoded once so it can be compared with the bytes of many names.
+     */
+    public static final class Keyword {
+        private final byte[] latin1; // null if the keyword is not Latin-1
+        private final byte[] utf8;
+
+        private Keyword(String text) {
+            String foldedText = fold(text);
+            this.latin1 = isLatin1(foldedText) ? foldedText.getBytes(StandardCharsets.ISO_8859_1) : null;
+            this.utf8 = foldedText.getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+
+    private Name(byte[] bytes, boolean isLatin1, byte[] folded, boolean isFoldedLatin1) {
+        this.bytes = bytes;
+        this.isLatin1 = isLatin1;
+        this.folded = folded;
+        this.isFoldedLatin1 = isFoldedLatin1;
+        this.hash = Arrays.hashCode(bytes);
+    }
+
+
+    /**
+     * Encodes a name without its case-folded form, only to look up an equal name in the pool.
+     *
+     * @param text the text of the name; must not be {@code null}.
+     * @return the name, which must not be searched.
+     */
+    static Name probe(String text) {
+        boolean isLatin1 = isLatin1(text);
+        return new Name(text.getBytes(isLatin1 ? StandardCharsets.ISO_8859_1 : StandardCharsets.UTF_8), isLatin1,
+                null, false);
+    }
+
+
+    /**
+     * Completes a probe with its case-folded form, reusing its encoded bytes.
+     *
+     * @param text the text the probe was made from.
+     * @return the complete name.
+     */
+    Name withFolding(String text) {
+        String foldedText = fold(text);
+        if (foldedText.equals(text)) {
+            return new Name(bytes, isLatin1, bytes, isLatin1); // Share the array when folding changes nothing
+        }
+        boolean isFoldedLatin1 = isLatin1(foldedText);
+        return new Name(bytes, isLatin1,
+                foldedText.getBytes(isFoldedLatin1 ? StandardCharsets.ISO_8859_1 : StandardCharsets.UTF_8),
+                isFoldedLatin1);
+    }
+
+
+    /**
+     * Prepares a keyword for {@link #contains(Keyword)}.
+     *
+     * @param text the keyword; must not be {@code null}.
+     * @return the prepared keyword.
+     */
+    public static Keyword keyword(String text) {
+        return new Keyword(text);
+    }
+
+
+    /**
+     * Checks whether the name contains a keyword, ignoring case.
+     * <p>
+     * The case-folded bytes are searched directly, without creating any objects.
+     * </p>
+     *
+     * @param keyword the prepared keyword.
+     * @return {@code true} if the case-folded name contains the case-folded keyword.
+     */
+    public boolean contains(Keyword keyword) {
+        byte[] needle = isFoldedLatin1 ? keyword.latin1 : keyword.utf8;
+        if (needle == null) {
+            return false; // A keyword beyond Latin-1 cannot occur in a Latin-1 name
+        }
+
+        // UTF-8 is self-synchronising, so a byte match is always a match of whole characters
+        outer:
+        for (int start = 0; start <= folded.length - needle.length; start++) {
+            for (int i = 0; i < needle.length; i++) {
+                if (folded[start + i] != needle[i]) {
+                    continue outer;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+
+    /**
+     * Compares two names ignoring case, by the code points of their case-folded forms.
+     * <p>
+     * Unsigned byte order is code point order in both Latin-1 and UTF-8, so names of the same encoding
+     * are compared byte by byte, and others code point by code point, without creating any objects.
+     * </p>
+     *
+     * @param other the name to compare with.
+     * @return a negative number, zero or a positive number as this name sorts before, with or after it.
+     */
+    public int compareIgnoreCase(Name other) {
+        if (isFoldedLatin1 == other.isFoldedLatin1) {
+            return Arrays.compareUnsigned(folded, other.folded);
+        }
+
+        int i = 0;
+        int j = 0;
+        while (i < folded.length && j < other.folded.length) {
+            int a = codePointAt(i);
+            int b = other.codePointAt(j);
+            if (a != b) {
+                return Integer.compare(a, b);
+            }
+            i += widthAt(i);
+            j += other.widthAt(j);
+        }
+        return (i < folded.length ? 1 : 0) - (j < other.folded.length ? 1 : 0);
+    }
+
+
+    /**
+     * Returns the distinct words of the case-folded name, split as {@link BkTree#tokenize(String)} splits
+     * text: at every character other than a letter or digit. Only the words are decoded, not the name.
+     *
+     * @return the distinct words, in order of first appearance.
+     */
+    public LinkedHashSet<String> words() {
+        LinkedHashSet<String> words = new LinkedHashSet<>();
+        int start = -1; // Start of the current word, or -1 between words
+        for (int i = 0; i <= folded.length; i += i < folded.length ? widthAt(i) : 1) {
+            int codePoint = i < folded.length ? codePointAt(i) : -1;
+
+            // Characters beyond the Basic Multilingual Plane split words, as their surrogates do in a string
+            boolean isWordChar = codePoint >= 0 && codePoint <= 0xFFFF && Character.isLetterOrDigit(codePoint);
+            if (isWordChar && start < 0) {
+                start = i;
+            } else if (!isWordChar && start >= 0) {
+                words.add(new String(folded, start, i - start,
+                        isFoldedLatin1 ? StandardCharsets.ISO_8859_1 : StandardCharsets.UTF_8));
+                start = -1;
+            }
+        }
+        return words;
+    }
+
+
+    /**
+     * Returns the code point starting at a position of the case-folded bytes.
+     *
+     * @param index the position of the first byte of the character.
+     * @return the code point.
+     */
+    private int codePointAt(int index) {
+        int lead = folded[index] & 0xFF;
+        if (isFoldedLatin1 || lead < 0x80) {
+            return lead;
+        } else if (lead < 0xE0) {
+            return (lead & 0x1F) << 6 | (folded[index + 1] & 0x3F);
+        } else if (lead < 0xF0) {
+            return (lead & 0x0F) << 12 | (folded[index + 1] & 0x3F) << 6 | (folded[index + 2] & 0x3F);
+        }
+        return (lead & 0x07) << 18 | (folded[index + 1] & 0x3F) << 12 | (folded[index + 2] & 0x3F) << 6
+                | (folded[index + 3] & 0x3F);
+    }
+
+
+    /**
+     * Returns the number of bytes of the character starting at a position of the case-folded bytes.
+     *
+     * @param index the position of the first byte of the character.
+     * @return the number of bytes of the character.
+     */
+    private int widthAt(int index) {
+        int lead = folded[index] & 0xFF;
+        if (isFoldedLatin1 || lead < 0x80) {
+            return 1;
+        }
+        return lead < 0xE0 ? 2 : lead < 0xF0 ? 3 : 4;
+    }
+
+
+    /**
+     * Returns the text of the name. A new string is decoded on every call, so it is only meant for
+     * displaying or saving the name; sorting and splitting use {@link #compareIgnoreCase(Name)} and
+     * {@link #words()} instead.
+     *
+     * @return the text of the name.
+     */
+    @Override
+    public String toString() {
+        return new String(bytes, isLatin1 ? StandardCharsets.ISO_8859_1 : StandardCharsets.UTF_8);
+    }
+
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof Name && ((Name) other).isLatin1 == isLatin1
+                && Arrays.equals(((Name) other).bytes, bytes);
+    }
+
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+
+    private static String fold(String text) {
+        return text.toLowerCase(Locale.ROOT);
+    }
+
+
+    private static boolean isLatin1(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) > 0xFF) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
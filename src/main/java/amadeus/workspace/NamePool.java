@@ -0,0 +1,52 @@
+package amadeus.workspace;
+
+import java.lang.ref.WeakReference;
+import java.util.WeakHashMap;
+
+/**
+ * Shares one {@link Name} among all tasks with identical names.
+ * <p>
+ * Many tasks repeat the same description, such as a daily "Standup", so every task name passes through
+ * {@link #intern(String)}, which returns the pooled instance if one exists. The pool only holds its names
+ * weakly, so a name is dropped once no task uses it. Looking up a name that is already pooled only
+ * encodes its bytes; the case-folded form is computed for new names only.
+ * </p>
+ * <p>
+ * The pool is thread-safe, as tasks are created while shards are loaded in parallel.
+ * </p>
+ */
+public class NamePool {
+    private static final WeakHashMap<Name, WeakReference<Name>> pool = new WeakHashMap<>();
+
+
+    /**
+     * Returns the pooled name with the given text, adding it to the pool if needed.
+     *
+     * @param text the text of the name; must not be {@code null}.
+     * @return the shared name.
+     */
+    public static Name intern(String text) {
+        Name probe = Name.probe(text);
+        synchronized (pool) {
+            WeakReference<Name> pooled = pool.get(probe);
+            Name name = pooled == null ? null : pooled.get();
+            if (name == null) {
+                name = probe.withFolding(text);
+                pool.put(name, new WeakReference<>(name));
+            }
+            return name;
+        }
+    }
+
+
+    /**
+     * Returns the number of distinct names in the pool.
+     *
+     * @return the number of pooled names, including any not yet dropped after their last use.
+     */
+    public static int size() {
+        synchronized (pool) {
+            return pool.size();
+        }
+    }
+}
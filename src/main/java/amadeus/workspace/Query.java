@@ -0,0 +1,456 @@
+package amadeus.workspace;
+
+import amadeus.brain.AmadeusException;
+import amadeus.brain.Database;
+import amadeus.perception.DateConverter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Predicate;
+
+/**
+ * A query over the current task list: a conjunction of conditions, each on one key of a task.
+ * <p>
+ * A query such as {@code type:deadline done:no name:report before:1/1/2026} is parsed once into its
+ * conditions, and every run starts with a small planner choosing how to reach the candidate tasks. Each
+ * access path is costed by the number of tasks, or words, it would examine:
+ * </p>
+ * <ul>
+ *   <li><b>Full scan</b>: every task in the list, always available.</li>
+ *   <li><b>Type section</b>: the tasks of one type, a contiguous section of the sorted list found by
+ *       binary search.</li>
+ *   <li><b>Word scan</b>: the tasks with a word containing a name keyword, found by scanning every
+ *       distinct word of the list in the {@link BkTree} of {@link TaskList}, costed by the words scanned
+ *       and the tasks found. Only keywords made of letters and digits can use it, and only once a fuzzy
+ *       search has built the tree, as building it would cost more than a full scan.</li>
+ *   <li><b>Date index</b>: the tasks overlapping the date range, from the {@link IntervalTree} of
+ *       {@link TaskList}, together with the repeating tasks, which it does not hold. Its tasks are only
+ *       counted up to the cost of the cheapest path so far, so a wide range costs little to reject.</li>
+ * </ul>
+ * <p>
+ * The cheapest path is taken, and its tasks are filtered by the remaining conditions. The condition
+ * answered exactly by the path is not checked again.
+ * </p>
+ */
+public class Query {
+    /**
+     * Key of a condition on the type of a task: {@code deadline}, {@code event} or {@code todo}.
+     */
+    public static final String TYPE_KEY = "type";
+
+    /**
+     * Key of a condition on the completion status of a task: {@code yes} or {@code no}.
+     */
+    public static final String DONE_KEY = "done";
+
+    /**
+     * Key of a condition on a keyword the name of a task contains, ignoring case.
+     */
+    public static final String NAME_KEY = "name";
+
+    /**
+     * Key of a condition on a date/time before which a task starts.
+     */
+    public static final String BEFORE_KEY = "before";
+
+    /**
+     * Key of a condition on a date/time after which a task ends.
+     */
+    public static final String AFTER_KEY = "after";
+
+    private static final List<String> KEYS = List.of(TYPE_KEY, DONE_KEY, NAME_KEY, BEFORE_KEY, AFTER_KEY);
+    private static final List<String> TYPES = List.of("deadline", "event", "todo"); // In section order
+    private static final Comparator<Task> LIST_ORDER = Comparator.comparingInt(Database::sectionOf)
+            .thenComparingLong(Task::getId);
+
+    private final ArrayList<Condition> conditions = new ArrayList<>();
+    private Condition byType; // The first type condition, which the type section can answer
+    private int section;
+    private Condition byName; // The first name condition the word scan can answer
+    private String word;
+    private LocalDateTime before; // The earliest before condition, or null
+    private LocalDateTime after; // The latest after condition, or null
+
+    /**
+     * A condition on one key of a task.
+     */
+    private static class Condition {
+        final String key;
+        final String value;
+        final Predicate<Task> test;
+
+        Condition(String key, String value, Predicate<Task> test) {
+            this.key = key;
+            this.value = value;
+            this.test = test;
+        }
+
+        @Override
+        public String toString() {
+            return key + ":" + value;
+        }
+    }
+
+    /**
+     * The plan chosen for one run of a query, with the tasks it found.
+     */
+    public static class Plan {
+        private final ArrayList<String> considered = new ArrayList<>();
+        private final ArrayList<String> filters = new ArrayList<>();
+        private final ArrayList<Task> matches = new ArrayList<>();
+        private String access;
+        private int examined;
+
+        /**
+         * Returns every access path the planner costed, with the number of tasks or words it would examine.
+         *
+         * @return the access paths, in the order they were costed.
+         */
+        public ArrayList<String> getConsidered() {
+            return considered;
+        }
+
+        /**
+         * Returns the access path taken.
+         *
+         * @return the description of the access path.
+         */
+        public String getAccess() {
+            return access;
+        }
+
+        /**
+         * Returns the conditions checked on every task reached by the access path.
+         *
+         * @return the conditions, as written in the query.
+         */
+        public ArrayList<String> getFilters() {
+            return filters;
+        }
+
+        /**
+         * Returns the number of tasks the access path reached and the filters examined.
+         *
+         * @return the number of tasks examined.
+         */
+        public int getExamined() {
+            return examined;
+        }
+
+        /**
+         * Returns the tasks matching every condition of the query.
+         *
+         * @return the matching tasks, in task list order.
+         */
+        public ArrayList<Task> getMatches() {
+            return matches;
+        }
+    }
+
+
+    private Query() {
+    }
+
+
+    /**
+     * Parses a query made of {@code key:value} conditions separated by spaces.
+     * <p>
+     * A value runs until the next condition, so dates with times such as {@code before:1/1/2026 6pm}
+     * and keywords with spaces such as {@code name:team meeting} need no quotes.
+     * </p>
+     *
+     * @param text the query; must not be {@code null}.
+     * @return the parsed query.
+     * @throws AmadeusException if the query has no conditions, an unknown key or an invalid value.
+     */
+    public static Query parse(String text) throws AmadeusException {
+        Query query = new Query();
+        String key = null;
+        StringBuilder value = new StringBuilder();
+
+        for (String token : text.trim().split("\\s+")) {
+            int colon = token.indexOf(':');
+            String prefix = colon > 0 ? token.substring(0, colon).toLowerCase(Locale.ROOT) : "";
+            if (KEYS.contains(prefix)) {
+                // A new condition starts, completing the previous one
+                if (key != null) {
+                    query.add(key, value.toString().trim());
+                }
+                key = prefix;
+                value.setLength(0);
+                value.append(token.substring(colon + 1));
+            } else if (key != null) {
+                value.append(' ').append(token); // The value goes on, e.g. the time of a date
+            } else {
+                // Invalid Query Exception: text before the first condition
+                throw AmadeusException.invalidQuery();
+            }
+        }
+
+        if (key == null) {
+            // Invalid Query Exception: no conditions
+            throw AmadeusException.invalidQuery();
+        }
+        query.add(key, value.toString().trim());
+        return query;
+    }
+
+
+    /**
+     * Adds a condition to the query, noting which access paths it makes available.
+     *
+     * @param key   the key of the condition.
+     * @param value the value of the condition.
+     * @throws AmadeusException if the value is invalid for the key.
+     */
+    private void add(String key, String value) throws AmadeusException {
+        if (value.isEmpty()) {
+            throw AmadeusException.invalidQuery();
+        }
+
+        String lower = value.toLowerCase(Locale.ROOT);
+        Condition condition = switch (key) {
+        case TYPE_KEY -> {
+            int type = TYPES.indexOf(lower);
+            if (type < 0) {
+                throw AmadeusException.invalidQuery();
+            }
+            yield new Condition(key, lower, task -> Database.sectionOf(task) == type);
+        }
+        case DONE_KEY -> {
+            if (!lower.equals("yes") && !lower.equals("no")) {
+                throw AmadeusException.invalidQuery();
+            }
+            boolean isDone = lower.equals("yes");
+            yield new Condition(key, lower, task -> task.getDone() == isDone);
+        }
+        case NAME_KEY -> {
+            Name.Keyword keyword = Name.keyword(lower);
+            yield new Condition(key, lower, task -> task.nameContains(keyword));
+        }
+        default -> {
+            // Before and after conditions, with date-only values at the start of their day
+            Object date = DateConverter.parseDate(value);
+            LocalDateTime dateTime = (date instanceof LocalDate)
+                    ? ((LocalDate) date).atStartOfDay()
+                    : (LocalDateTime) date;
+            boolean isBefore = key.equals(BEFORE_KEY);
+            if (isBefore && (before == null || dateTime.isBefore(before))) {
+                before = dateTime;
+            } else if (!isBefore && (after == null || dateTime.isAfter(after))) {
+                after = dateTime;
+            }
+            yield new Condition(key, value, task -> isBefore ? startsBefore(task, dateTime)
+                    : endsAfter(task, dateTime));
+        }
+        };
+
+        if (key.equals(TYPE_KEY) && byType == null) {
+            byType = condition;
+            section = TYPES.indexOf(condition.value);
+        } else if (key.equals(NAME_KEY) && byName == null && isWord(condition.value)) {
+            byName = condition;
+            word = condition.value;
+        }
+        conditions.add(condition);
+    }
+
+
+    /**
+     * Plans and runs the query against the current task list.
+     *
+     * @return the plan taken, with the matching tasks.
+     */
+    public Plan run() {
+        Plan plan = new Plan();
+        ArrayList<Task> tasks = TaskList.getTaskList();
+
+        // A full scan is always possible
+        Collection<Task> rows = tasks;
+        Condition answered = null; // The condition every row is known to satisfy
+        boolean isOrdered = true; // Whether the rows are in task list order
+        plan.access = "full scan";
+        plan.considered.add("full scan → " + tasks.size());
+
+        // The tasks of one type form a contiguous section of the sorted list
+        if (byType != null) {
+            int from = firstOfSection(tasks, section);
+            int to = firstOfSection(tasks, section + 1);
+            plan.considered.add("type section (" + byType + ") → " + (to - from));
+            if (to - from < rows.size()) {
+                rows = tasks.subList(from, to);
+                answered = byType;
+                plan.access = "type section (" + byType + ")";
+            }
+        }
+
+        // A keyword of letters and digits can only occur within one word of a name, so the distinct words
+        // can be scanned instead of the names, once a fuzzy search has collected them
+        if (byName != null) {
+            BkTree words = TaskList.getWordsIfBuilt();
+            if (words == null) {
+                plan.considered.add("word scan (" + byName + ") → not built");
+            } else if (words.scanSize() >= rows.size()) {
+                plan.considered.add("word scan (" + byName + ") → " + words.scanSize() + " words");
+            } else {
+                Collection<Task> found = words.findContaining(word);
+                int cost = words.scanSize() + found.size();
+                plan.considered.add("word scan (" + byName + ") → " + words.scanSize() + " words + "
+                        + found.size());
+                if (cost < rows.size()) {
+                    rows = found;
+                    answered = byName;
+                    isOrdered = false;
+                    plan.access = "word scan (" + byName + ")";
+                }
+            }
+        }
+
+        // Count the tasks in the date range only as far as needed to beat the cheapest path so far
+        if (before != null || after != null) {
+            LocalDateTime from = after != null ? after : LocalDateTime.MIN;
+            LocalDateTime to = before != null ? before : LocalDateTime.MAX;
+            int count = TaskList.getRecurring().size();
+            Iterator<Task> overlapping = TaskList.getSpans().iterator(from, to);
+            while (count < rows.size() && overlapping.hasNext()) {
+                overlapping.next();
+                count++;
+            }
+            plan.considered.add("date index (" + rangeOf() + ") → " + (overlapping.hasNext() ? "over " : "") + count);
+            if (!overlapping.hasNext() && count < rows.size()) {
+                ArrayList<Task> found = TaskList.getSpans().findOverlapping(from, to);
+                found.addAll(TaskList.getRecurring());
+                rows = found;
+                answered = null; // The range is closed and holds every repeating task, so check it again
+                isOrdered = false;
+                plan.access = "date index (" + rangeOf() + ")";
+            }
+        }
+
+        // Filter the rows by every condition the access path did not answer
+        ArrayList<Condition> filters = new ArrayList<>(conditions);
+        filters.remove(answered);
+        filters.forEach(filter -> plan.filters.add(filter.toString()));
+        for (Task task : rows) {
+            if (matchesAll(task, filters)) {
+                plan.matches.add(task);
+            }
+        }
+        plan.examined = rows.size();
+        if (!isOrdered) {
+            plan.matches.sort(LIST_ORDER);
+        }
+        return plan;
+    }
+
+
+    /**
+     * Returns the query as its conditions, in the order they were written.
+     *
+     * @return the query text.
+     */
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder();
+        for (Condition condition : conditions) {
+            text.append(text.length() > 0 ? " " : "").append(condition);
+        }
+        return text.toString();
+    }
+
+
+    private static boolean matchesAll(Task task, List<Condition> filters) {
+        for (Condition filter : filters) {
+            if (!filter.test.test(task)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+
+    /**
+     * Returns the date conditions that bound the date index, as written in the query.
+     *
+     * @return the before and after conditions.
+     */
+    private String rangeOf() {
+        StringBuilder range = new StringBuilder();
+        for (Condition condition : conditions) {
+            if (condition.key.equals(BEFORE_KEY) || condition.key.equals(AFTER_KEY)) {
+                range.append(range.length() > 0 ? " " : "").append(condition);
+            }
+        }
+        return range.toString();
+    }
+
+
+    /**
+     * Finds where a section starts in the task list by binary search.
+     *
+     * @param tasks   the task list, sorted by section.
+     * @param section the section.
+     * @return the index of the first task in the section or a later one, or the size of the list.
+     */
+    private static int firstOfSection(ArrayList<Task> tasks, int section) {
+        int low = 0;
+        int high = tasks.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (Database.sectionOf(tasks.get(middle)) < section) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+
+    /**
+     * Checks whether a task starts before a date/time. A repeating task starts with its first occurrence.
+     *
+     * @param task     the task.
+     * @param dateTime the date/time.
+     * @return {@code true} if the task is a deadline or event starting strictly before the date/time.
+     */
+    private static boolean startsBefore(Task task, LocalDateTime dateTime) {
+        if (!(task instanceof Deadline || task instanceof Event)) {
+            return false; // ToDo tasks have no date
+        }
+        return Recurrence.startOf(task).isBefore(dateTime);
+    }
+
+
+    /**
+     * Checks whether a task ends after a date/time. A repeating task ends with its last occurrence.
+     *
+     * @param task     the task.
+     * @param dateTime the date/time.
+     * @return {@code true} if the task is a deadline or event ending strictly after the date/time.
+     */
+    private static boolean endsAfter(Task task, LocalDateTime dateTime) {
+        if (!(task instanceof Deadline || task instanceof Event)) {
+            return false; // ToDo tasks have no date
+        } else if (task.isRecurring()) {
+            return Recurrence.firstEndingAfter(task, dateTime) != null;
+        }
+        return Recurrence.endOf(task).isAfter(dateTime);
+    }
+
+
+    private static boolean isWord(String keyword) {
+        for (int i = 0; i < keyword.length(); i++) {
+            if (!Character.isLetterOrDigit(keyword.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,359 @@
+package amadeus.workspace;
+
+import amadeus.brain.AmadeusException;
+import amadeus.perception.DateConverter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Locale;
+
+/**
+ * A rule repeating a {@link Deadline} or {@link Event} daily, weekly or monthly, optionally until a date.
+ * <p>
+ * A recurring task is stored once, as its first occurrence and its rule. Occurrence {@code n} is the
+ * first occurrence moved {@code n} days, weeks or months ahead; a monthly occurrence keeps the
+ * day of month of the first one where the month allows. Occurrences are never stored: they are
+ * created on demand, and only for the window a query asks about, so storage and scanning cost
+ * depend on the number of rules rather than the number of occurrences.
+ * </p>
+ * <p>
+ * The last occurrence is the last one starting on or before the {@code until} date. A rule without
+ * {@code until} repeats forever; queries without a window of their own look at most
+ * {@value #HORIZON_YEARS} year ahead for such rules.
+ * </p>
+ */
+public class Recurrence {
+    /**
+     * Number of years ahead of now that open-ended rules are expanded to when a query has no window.
+     */
+    public static final int HORIZON_YEARS = 1;
+
+    private static final DateTimeFormatter FILE_DATE_FORMAT = DateTimeFormatter.ofPattern("d/M/yyyy");
+
+    /**
+     * How often a task repeats.
+     */
+    public enum Frequency {
+        DAILY(ChronoUnit.DAYS),
+        WEEKLY(ChronoUnit.WEEKS),
+        MONTHLY(ChronoUnit.MONTHS);
+
+        private final ChronoUnit unit;
+
+        Frequency(ChronoUnit unit) {
+            this.unit = unit;
+        }
+    }
+
+    private final Frequency frequency;
+    private final LocalDate until; // Last day an occurrence may start on, or null to repeat forever
+
+
+    /**
+     * Constructs a rule.
+     *
+     * @param frequency how often the task repeats; must not be {@code null}.
+     * @param until     the last day an occurrence may start on, or {@code null} to repeat forever.
+     */
+    public Recurrence(Frequency frequency, LocalDate until) {
+        this.frequency = frequency;
+        this.until = until;
+    }
+
+
+    /**
+     * Parses a rule as entered after {@code /every}, e.g. {@code week} or {@code month /until 31/12/2026}.
+     *
+     * @param spec the rule to parse; must not be {@code null}.
+     * @return the parsed rule.
+     * @throws AmadeusException if the frequency or the end date is invalid.
+     */
+    public static Recurrence parse(String spec) throws AmadeusException {
+        String[] parts = spec.trim().split("\\s*/until\\s*", 2);
+        Frequency frequency = switch (parts[0].trim().toLowerCase()) {
+        case "day", "daily" -> Frequency.DAILY;
+        case "week", "weekly" -> Frequency.WEEKLY;
+        case "month", "monthly" -> Frequency.MONTHLY;
+        default -> throw AmadeusException.invalidRecurrence();
+        };
+
+        LocalDate until = null;
+        if (parts.length > 1) {
+            Object date = DateConverter.parseDate(parts[1].trim());
+            until = DateConverter.toDateTime(date).toLocalDate();
+        }
+        return new Recurrence(frequency, until);
+    }
+
+
+    /**
+     * Parses a rule written by {@link #toFileFormat()}, e.g. {@code every WEEKLY until 31/12/2026}.
+     *
+     * @param field the saved rule; must not be {@code null}.
+     * @return the parsed rule.
+     * @throws IllegalArgumentException if the field is not a saved rule.
+     */
+    public static Recurrence parseFileFormat(String field) {
+        String[] words = field.trim().split(" ");
+        if (words.length < 2 || !words[0].equals("every")) {
+            throw new IllegalArgumentException(field);
+        }
+        LocalDate until = words.length > 3 ? LocalDate.parse(words[3], FILE_DATE_FORMAT) : null;
+        return new Recurrence(Frequency.valueOf(words[1]), until);
+    }
+
+
+    /**
+     * Returns how often the task repeats.
+     *
+     * @return the frequency.
+     */
+    public Frequency getFrequency() {
+        return frequency;
+    }
+
+
+    /**
+     * Returns the last day an occurrence may start on.
+     *
+     * @return the end date, or {@code null} if the rule repeats forever.
+     */
+    public LocalDate getUntil() {
+        return until;
+    }
+
+
+    /**
+     * Moves a date or date-time of the first occurrence to occurrence {@code n}.
+     *
+     * @param date the {@link LocalDate} or {@link LocalDateTime} of the first occurrence.
+     * @param n    the occurrence number, starting at 0.
+     * @return the date or date-time of occurrence {@code n}, of the same type as {@code date}.
+     */
+    public Object shift(Object date, long n) {
+        if (date instanceof LocalDate) {
+            return ((LocalDate) date).plus(n, frequency.unit);
+        }
+        return ((LocalDateTime) date).plus(n, frequency.unit);
+    }
+
+
+    /**
+     * Converts the rule to the format saved in the task files.
+     *
+     * @return the saved rule, e.g. {@code every WEEKLY until 31/12/2026}.
+     */
+    public String toFileFormat() {
+        return "every " + frequency + (until == null ? "" : " until " + until.format(FILE_DATE_FORMAT));
+    }
+
+
+    /**
+     * Converts the rule to the format accepted by {@link #parse(String)}.
+     *
+     * @return the rule as entered after {@code /every}, e.g. {@code weekly /until 31/12/2026}.
+     */
+    public String toInputFormat() {
+        return frequency.toString().toLowerCase(Locale.ROOT)
+                + (until == null ? "" : " /until " + DateConverter.formatInput(until));
+    }
+
+
+    /**
+     * Returns a short label of the rule for display, e.g. {@code 🔁 weekly until 31 Dec 2026}.
+     *
+     * @return the label of the rule.
+     */
+    @Override
+    public String toString() {
+        return "\uD83D\uDD01 " + frequency.toString().toLowerCase(Locale.ROOT)
+                + (until == null ? "" : " until " + DateConverter.formatDate(until));
+    }
+
+
+    //region Expansion
+
+    /**
+     * Returns the occurrences of a recurring task whose span overlaps the closed range {@code [from, to]}.
+     * <p>
+     * The first candidate occurrence is computed directly from the distance between the first
+     * occurrence and {@code from}, so only the occurrences in the range are created.
+     * </p>
+     *
+     * @param task the recurring deadline or event.
+     * @param from the start of the range.
+     * @param to   the end of the range.
+     * @return the overlapping occurrences, in order; never {@code null}.
+     */
+    public static ArrayList<Task> expand(Task task, LocalDateTime from, LocalDateTime to) {
+        ArrayList<Task> occurrences = new ArrayList<>();
+        Recurrence rule = task.getRecurrence();
+        LocalDateTime first = startOf(task);
+        long length = ChronoUnit.SECONDS.between(first, endOf(task));
+
+        // Start just before the first occurrence that can still be running at the start of the range
+        long n = Math.max(0, rule.frequency.unit.between(first, from.minusSeconds(length)) - 1);
+        for (; ; n++) {
+            Task occurrence = task.occurrence(n);
+            LocalDateTime start = startOf(occurrence);
+            if (start.isAfter(to) || !rule.allows(start)) {
+                return occurrences;
+            }
+            if (!endOf(occurrence).isBefore(from)) {
+                occurrences.add(occurrence);
+            }
+        }
+    }
+
+
+    /**
+     * Returns the first occurrence of a recurring task that is due at or after the given date-time.
+     * A deadline is due at its {@code by} date/time and an event when it starts, as in
+     * {@link Agenda#dueOf(Task)}.
+     *
+     * @param task the recurring deadline or event.
+     * @param now  the date-time to look ahead from.
+     * @return the next occurrence, or {@code null} if the rule has ended.
+     */
+    public static Task nextDue(Task task, LocalDateTime now) {
+        Recurrence rule = task.getRecurrence();
+        LocalDateTime first = Agenda.dueOf(task);
+        long n = Math.max(0, rule.frequency.unit.between(first, now) - 1);
+        for (; ; n++) {
+            Task occurrence = task.occurrence(n);
+            if (!rule.allows(startOf(occurrence))) {
+                return null;
+            }
+            if (!Agenda.dueOf(occurrence).isBefore(now)) {
+                return occurrence;
+            }
+        }
+    }
+
+
+    /**
+     * Returns the last occurrence of a recurring task that starts strictly before the given date-time.
+     *
+     * @param task     the recurring deadline or event.
+     * @param dateTime the date-time to look back from.
+     * @return the occurrence, or {@code null} if the first occurrence starts at or after {@code dateTime}.
+     */
+    public static Task lastStartingBefore(Task task, LocalDateTime dateTime) {
+        Recurrence rule = task.getRecurrence();
+        LocalDateTime first = startOf(task);
+
+        // No occurrence may start after the until date
+        LocalDateTime limit = dateTime;
+        if (rule.until != null && rule.until.plusDays(1).atStartOfDay().isBefore(limit)) {
+            limit = rule.until.plusDays(1).atStartOfDay();
+        }
+        if (!first.isBefore(limit)) {
+            return null;
+        }
+
+        long n = Math.max(0, rule.frequency.unit.between(first, limit) - 1);
+        Task last = task.occurrence(n);
+        for (n++; ; n++) {
+            Task occurrence = task.occurrence(n);
+            if (!startOf(occurrence).isBefore(limit)) {
+                return last;
+            }
+            last = occurrence;
+        }
+    }
+
+
+    /**
+     * Returns the first occurrence of a recurring task that ends strictly after the given date-time.
+     *
+     * @param task     the recurring deadline or event.
+     * @param dateTime the date-time to look ahead from.
+     * @return the occurrence, or {@code null} if the rule ends before then.
+     */
+    public static Task firstEndingAfter(Task task, LocalDateTime dateTime) {
+        Recurrence rule = task.getRecurrence();
+        LocalDateTime first = startOf(task);
+        long length = ChronoUnit.SECONDS.between(first, endOf(task));
+        long n = Math.max(0, rule.frequency.unit.between(first, dateTime.minusSeconds(length)) - 1);
+        for (; ; n++) {
+            Task occurrence = task.occurrence(n);
+            if (!rule.allows(startOf(occurrence))) {
+                return null;
+            }
+            if (endOf(occurrence).isAfter(dateTime)) {
+                return occurrence;
+            }
+        }
+    }
+
+
+    /**
+     * Returns the latest end of any occurrence of a recurring task, for indexing its whole series.
+     *
+     * @param task the recurring deadline or event.
+     * @return the end of the last occurrence, or {@link LocalDateTime#MAX} if the rule repeats forever.
+     */
+    public static LocalDateTime seriesEnd(Task task) {
+        Recurrence rule = task.getRecurrence();
+        if (rule.until == null) {
+            return LocalDateTime.MAX;
+        }
+        Task last = lastStartingBefore(task, rule.until.plusDays(1).atStartOfDay());
+        return last == null ? endOf(task) : endOf(last);
+    }
+
+
+    /**
+     * Returns the end of the window that open-ended queries expand recurring tasks to.
+     *
+     * @param now the current date-time.
+     * @return the date-time {@value #HORIZON_YEARS} year after {@code now}.
+     */
+    public static LocalDateTime horizon(LocalDateTime now) {
+        return now.plusYears(HORIZON_YEARS);
+    }
+
+
+    /**
+     * Checks whether the rule allows an occurrence starting at the given date-time.
+     *
+     * @param start the start of the occurrence.
+     * @return {@code true} if the occurrence starts on or before the {@code until} date.
+     */
+    private boolean allows(LocalDateTime start) {
+        return until == null || !start.toLocalDate().isAfter(until);
+    }
+
+
+    /**
+     * Returns the start of a deadline or event, with date-only values at the start of their day.
+     *
+     * @param task the deadline or event.
+     * @return the start date-time.
+     */
+    static LocalDateTime startOf(Task task) {
+        if (task instanceof Deadline) {
+            return DateConverter.toDateTime(((Deadline) task).getBy());
+        }
+        return ((Event) task).getStart();
+    }
+
+
+    /**
+     * Returns the end of a deadline or event, with date-only values at the start of their day.
+     *
+     * @param task the deadline or event.
+     * @return the end date-time.
+     */
+    static LocalDateTime endOf(Task task) {
+        if (task instanceof Deadline) {
+            return DateConverter.toDateTime(((Deadline) task).getBy());
+        }
+        LocalDateTime end = ((Event) task).getEnd();
+        return end.isBefore(startOf(task)) ? startOf(task) : end;
+    }
+    //endregion
+}
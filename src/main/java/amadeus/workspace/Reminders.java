@@ -0,0 +1,275 @@
+package amadeus.workspace;
+
+import amadeus.personality.Speech;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Reminds the user of pending deadlines and events shortly before they are due.
+ * <p>
+ * Every pending {@link Deadline} and {@link Event} in the task list has one reminder, set
+ * {@link #LEAD_PROPERTY} minutes (by default {@value #DEFAULT_LEAD_MINUTES}) before it is due, as
+ * defined by {@link Agenda#dueOf(Task)}. Reminders are held in a {@link TimerWheel} with a resolution
+ * of one minute, so arming or cancelling one is {@code O(1)} however many are pending. A single
+ * daemon thread wakes once a minute, advances the wheel and prints the reminders that came due,
+ * so the cost of waiting does not grow with the number of tasks.
+ * </p>
+ * <p>
+ * {@link TaskList} arms a reminder when a task is added or unmarked and cancels it when the task is
+ * marked or deleted. Tasks that were already due when they were armed are not reminded of. A repeating
+ * task is reminded of its next occurrence, and armed for the following one once that reminder fires.
+ * Setting the {@link #ENABLED_PROPERTY} system property to {@code false} keeps the thread from starting.
+ * </p>
+ * <p>
+ * Every loaded list has its own {@link Schedule}, kept in its state, and reminders are armed and
+ * cancelled in the schedule of the current list. A list that is reset or evicted only has its schedule
+ * {@link #deactivate(Schedule) deactivated}, and a reset that is undone gets it back whole, so neither
+ * walks the tasks of the list. The reminders that came due while a schedule was inactive are skipped.
+ * </p>
+ * <p>
+ * Arming, cancelling and delivering reminders all take one lock, which the command loop also
+ * {@link #hold() holds} while a command runs, so a reminder never sees a task half changed nor prints
+ * in the middle of the output of a command; it is delivered once the command is done.
+ * </p>
+ */
+public class Reminders {
+    /**
+     * System property holding how many minutes before a task is due to remind the user.
+     */
+    public static final String LEAD_PROPERTY = "amadeus.reminders.lead";
+
+    /**
+     * System property that disables the reminder thread when set to {@code false}.
+     */
+    public static final String ENABLED_PROPERTY = "amadeus.reminders";
+
+    /**
+     * Number of minutes before a task is due that the user is reminded by default.
+     */
+    public static final int DEFAULT_LEAD_MINUTES = 15;
+
+    private static final Duration LEAD = Duration.ofMinutes(Long.getLong(LEAD_PROPERTY, DEFAULT_LEAD_MINUTES));
+    private static final Set<Schedule> active = Collections.newSetFromMap(new IdentityHashMap<>());
+    private static final ReentrantLock lock = new ReentrantLock();
+    private static final Hold HOLD = new Hold();
+    private static Schedule current = new Schedule();
+    private static Thread thread;
+
+    /**
+     * The reminders of one task list, delivered while the schedule is active.
+     */
+    public static class Schedule {
+        private final TimerWheel<Task> wheel = new TimerWheel<>(toTick(LocalDateTime.now()));
+        private final IdentityHashMap<Task, TimerWheel.Timer<Task>> timers = new IdentityHashMap<>();
+    }
+
+    /**
+     * A hold on the reminders, keeping them from being delivered until it is closed.
+     */
+    public static class Hold implements AutoCloseable {
+        private Hold() {
+        }
+
+        /**
+         * Releases the hold, letting reminders be delivered again once every hold is released.
+         */
+        @Override
+        public void close() {
+            lock.unlock();
+        }
+    }
+
+
+    /**
+     * Starts the reminder thread, unless it is already running or disabled.
+     */
+    public static synchronized void start() {
+        if (thread != null || !Boolean.parseBoolean(System.getProperty(ENABLED_PROPERTY, "true"))) {
+            return;
+        }
+
+        thread = new Thread(Reminders::run, "amadeus-reminders");
+        thread.setDaemon(true); // Never keeps the application alive on exit
+        thread.start();
+    }
+
+
+    /**
+     * Holds the reminders while the task lists change, waiting for any reminder being delivered.
+     * Holds are re-entrant, and the thread that took a hold must close it.
+     *
+     * @return the hold, to be closed when done.
+     */
+    public static Hold hold() {
+        lock.lock();
+        return HOLD;
+    }
+
+
+    /**
+     * Makes a schedule the one reminders are armed and cancelled in, activating it if needed.
+     * The reminders that came due while it was inactive are skipped, and repeating tasks are armed
+     * for their next occurrence instead.
+     *
+     * @param schedule the schedule of the current list; must not be {@code null}.
+     */
+    public static void use(Schedule schedule) {
+        lock.lock();
+        try {
+            current = schedule;
+            if (active.add(schedule)) {
+                LocalDateTime now = LocalDateTime.now();
+                schedule.wheel.advanceTo(toTick(now), task -> {
+                    schedule.timers.remove(task);
+                    if (task.isRecurring()) {
+                        armAfter(schedule, task, now);
+                    }
+                });
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+
+    /**
+     * Stops delivering the reminders of a schedule, keeping them armed in case it is used again.
+     *
+     * @param schedule the schedule of a list that was reset or evicted.
+     */
+    public static void deactivate(Schedule schedule) {
+        lock.lock();
+        try {
+            active.remove(schedule);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+
+    /**
+     * Arms the reminder of a task if it is a pending deadline or event that is not yet due.
+     * Any reminder already armed for the task is replaced.
+     *
+     * @param task the task of the current list to remind the user of; must not be {@code null}.
+     */
+    public static void arm(Task task) {
+        lock.lock();
+        try {
+            armAfter(current, task, LocalDateTime.now());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+
+    /**
+     * Arms the reminder of a task for its first occurrence due at or after the given date-time.
+     *
+     * @param schedule the schedule of the list of the task.
+     * @param task     the task to remind the user of; must not be {@code null}.
+     * @param after    the date-time the occurrence must be due at or after.
+     */
+    private static void armAfter(Schedule schedule, Task task, LocalDateTime after) {
+        cancel(schedule, task);
+        if (!(task instanceof Deadline || task instanceof Event) || task.getDone()) {
+            return;
+        }
+
+        Task occurrence = task.isRecurring() ? Recurrence.nextDue(task, after) : task;
+        if (occurrence == null) {
+            return; // The rule has ended
+        }
+        long dueTick = toTick(Agenda.dueOf(occurrence));
+        if (dueTick <= schedule.wheel.getCurrentTick()) {
+            return; // Already due; overdue tasks are listed by the overdue command instead
+        }
+        schedule.timers.put(task, schedule.wheel.schedule(dueTick - LEAD.toMinutes(), task));
+    }
+
+
+    /**
+     * Cancels the reminder of a task, if one is armed.
+     *
+     * @param task the task of the current list to stop reminding the user of; must not be {@code null}.
+     */
+    public static void cancel(Task task) {
+        lock.lock();
+        try {
+            cancel(current, task);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+
+    /**
+     * Cancels the reminder of a task in a schedule, if one is armed.
+     *
+     * @param schedule the schedule of the list of the task.
+     * @param task     the task to stop reminding the user of.
+     */
+    private static void cancel(Schedule schedule, Task task) {
+        TimerWheel.Timer<Task> timer = schedule.timers.remove(task);
+        if (timer != null) {
+            schedule.wheel.cancel(timer);
+        }
+    }
+
+
+    /**
+     * Sleeps until the start of each minute and delivers the reminders that came due.
+     */
+    private static void run() {
+        while (true) {
+            try {
+                long now = System.currentTimeMillis();
+                Thread.sleep(60_000 - now % 60_000); // Wake at the start of the next minute
+            } catch (InterruptedException e) {
+                return;
+            }
+
+            // Wait for the running command, if any, so its changes and output are complete
+            lock.lock();
+            try {
+                LocalDateTime now = LocalDateTime.now();
+                for (Schedule schedule : active) {
+                    schedule.wheel.advanceTo(toTick(now), task -> {
+                        schedule.timers.remove(task);
+                        if (!task.isRecurring()) {
+                            Speech.sayReminder(task, Agenda.dueOf(task));
+                            return;
+                        }
+
+                        // Remind of the coming occurrence, then arm the one after it
+                        Task occurrence = Recurrence.nextDue(task, now);
+                        if (occurrence != null) {
+                            LocalDateTime due = Agenda.dueOf(occurrence);
+                            Speech.sayReminder(occurrence, due);
+                            armAfter(schedule, task, due.plusSeconds(1));
+                        }
+                    });
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+
+    /**
+     * Converts a date-time to a wheel tick, counted in whole minutes.
+     *
+     * @param dateTime the date-time to convert.
+     * @return the number of minutes since the epoch.
+     */
+    private static long toTick(LocalDateTime dateTime) {
+        return Math.floorDiv(dateTime.toEpochSecond(ZoneOffset.UTC), 60);
+    }
+}
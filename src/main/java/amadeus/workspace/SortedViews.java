@@ -0,0 +1,158 @@
+package amadeus.workspace;
+
+import amadeus.brain.Database;
+
+import java.lang.ref.SoftReference;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sorted views of a task list, one per sort key, kept in step with every change while they are in use.
+ * <p>
+ * A view is built by sorting the list the first time it is asked for. From then on, every added task is
+ * inserted at the place a binary search finds for it, and every removed task is found the same way, so
+ * listing a sorted view costs no more than listing the list itself. Every order ends with the task list
+ * order, so each task has exactly one place in a view.
+ * </p>
+ * <p>
+ * Views are held through {@link SoftReference}s: under memory pressure the garbage collector may drop
+ * them, after which changes skip them, and they are rebuilt the next time they are asked for.
+ * </p>
+ */
+public class SortedViews {
+    /**
+     * Prefix of the sort key in a command, e.g. {@code sort:due}.
+     */
+    public static final String SORT_PREFIX = "sort:";
+
+    private static final Comparator<Task> LIST_ORDER = Comparator.comparingInt(Database::sectionOf)
+            .thenComparingLong(Task::getId);
+
+    private final EnumMap<Key, SoftReference<ArrayList<Task>>> views = new EnumMap<>(Key.class);
+
+    /**
+     * The keys a task list can be sorted by.
+     */
+    public enum Key {
+        /**
+         * Deadlines and events by due date-time, soonest first, then ToDos. A deadline without a time is
+         * due by the end of its day, and a repeating task is due with its first occurrence.
+         */
+        DUE(Comparator.comparing(Key::dueOf, Comparator.nullsLast(Comparator.naturalOrder()))),
+
+        /**
+         * Tasks by name, ignoring case.
+         */
+        NAME((a, b) -> a.name.compareIgnoreCase(b.name)),
+
+        /**
+         * Pending tasks first, then completed ones.
+         */
+        STATUS(Comparator.comparing(Task::getDone));
+
+        private final Comparator<Task> order;
+
+        Key(Comparator<Task> order) {
+            this.order = order.thenComparing(LIST_ORDER);
+        }
+
+        /**
+         * Returns the key with the given name.
+         *
+         * @param name the name of the key, e.g. {@code due}.
+         * @return the key, or {@code null} if there is none with that name.
+         */
+        public static Key of(String name) {
+            for (Key key : values()) {
+                if (key.toString().equals(name)) {
+                    return key;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Returns the order of the key, ending with the task list order.
+         *
+         * @return the comparator.
+         */
+        public Comparator<Task> order() {
+            return order;
+        }
+
+        @Override
+        public String toString() {
+            return name().toLowerCase();
+        }
+
+        private static LocalDateTime dueOf(Task task) {
+            return task instanceof Deadline || task instanceof Event ? Agenda.dueOf(task) : null;
+        }
+    }
+
+
+    /**
+     * Returns the view of a list sorted by a key, building it if it is not in use or was dropped.
+     *
+     * @param key   the sort key.
+     * @param tasks the list the views are kept for.
+     * @return a read-only view of the sorted tasks, valid until the list next changes.
+     */
+    public List<Task> get(Key key, List<Task> tasks) {
+        ArrayList<Task> view = liveView(key);
+        if (view == null) {
+            view = new ArrayList<>(tasks);
+            view.sort(key.order);
+            views.put(key, new SoftReference<>(view));
+        }
+        return Collections.unmodifiableList(view);
+    }
+
+
+    /**
+     * Inserts a task into every view in use.
+     *
+     * @param task the task added to the list.
+     */
+    public void add(Task task) {
+        for (Map.Entry<Key, SoftReference<ArrayList<Task>>> entry : views.entrySet()) {
+            ArrayList<Task> view = entry.getValue().get();
+            if (view != null) {
+                int position = Collections.binarySearch(view, task, entry.getKey().order);
+                if (position < 0) {
+                    view.add(-position - 1, task);
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Removes a task from every view in use. It must still have the values it was inserted with,
+     * so a task is removed before its completion status changes and added again afterwards.
+     *
+     * @param task the task removed from the list.
+     */
+    public void remove(Task task) {
+        for (Map.Entry<Key, SoftReference<ArrayList<Task>>> entry : views.entrySet()) {
+            ArrayList<Task> view = entry.getValue().get();
+            if (view != null) {
+                int position = Collections.binarySearch(view, task, entry.getKey().order);
+                if (position >= 0) {
+                    view.remove(position);
+                }
+            }
+        }
+    }
+
+
+    private ArrayList<Task> liveView(Key key) {
+        SoftReference<ArrayList<Task>> reference = views.get(key);
+        return reference != null ? reference.get() : null;
+    }
+}
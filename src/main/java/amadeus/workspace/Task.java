@@ -1,5 +1,7 @@
 package amadeus.workspace;
 
+import java.util.LinkedHashSet;
+
 /**
  * Abstract base class representing a generic task.
  * <p>
@@ -10,13 +12,23 @@ package amadeus.workspace;
  */
 public abstract class Task {
     /**
-     * The name or description of the task.
+     * The name or description of the task, shared with every task of the same name through {@link NamePool}.
      */
-    protected String name;
+    protected Name name;
     /**
      * The completion status of the task (true if complete, false if incomplete).
      */
     protected boolean isDone;
+    /**
+     * The identifier of the task, assigned in insertion order by {@link TaskList} (0 if unassigned).
+     * It is persisted so that tasks stored in separate shards can be restored to their list order.
+     */
+    protected long id;
+    /**
+     * The rule repeating the task, or {@code null} if it happens once.
+     * Only {@link Deadline} and {@link Event} tasks can repeat.
+     */
+    protected Recurrence recurrence;
 
 
     /**
@@ -26,7 +38,7 @@ public abstract class Task {
      * @param input the name or description of the task; must not be {@code null}.
      */
     public Task(String input) {
-        this.name = input;
+        this.name = NamePool.intern(input);
         this.isDone = false;
     }
 
@@ -38,18 +50,53 @@ public abstract class Task {
      * @param done  a boolean indicating whether the task is completed (true) or not (false).
      */
     public Task(String input, boolean done) {
-        this.name = input;
+        this.name = NamePool.intern(input);
         this.isDone = done;
     }
 
 
     /**
-     * Returns the name or description of the task.
+     * Initializes a new {@code Task} with an already pooled name, such as a copy of another task.
+     *
+     * @param name the pooled name of the task; must not be {@code null}.
+     * @param done a boolean indicating whether the task is completed (true) or not (false).
+     */
+    protected Task(Name name, boolean done) {
+        this.name = name;
+        this.isDone = done;
+    }
+
+
+    /**
+     * Returns the name or description of the task, decoded from its compact form on every call.
      *
      * @return the name or description of the task.
      */
     public String getName() {
-        return name;
+        return name.toString();
+    }
+
+
+    /**
+     * Returns the distinct lower-case words of the name of the task, as {@link BkTree#tokenize(String)}
+     * splits them, without decoding the whole name.
+     *
+     * @return the distinct words, in order of first appearance.
+     */
+    public LinkedHashSet<String> getWords() {
+        return name.words();
+    }
+
+
+    /**
+     * Checks whether the name of the task contains a keyword, ignoring case.
+     * Unlike lower-casing {@link #getName()}, this creates no objects.
+     *
+     * @param keyword the keyword, prepared by {@link Name#keyword(String)}.
+     * @return {@code true} if the name contains the keyword.
+     */
+    public boolean nameContains(Name.Keyword keyword) {
+        return name.contains(keyword);
     }
 
 
@@ -63,6 +110,90 @@ public abstract class Task {
     }
 
 
+    /**
+     * Returns the identifier of the task.
+     *
+     * @return the identifier of the task, or 0 if none has been assigned yet.
+     */
+    public long getId() {
+        return id;
+    }
+
+
+    /**
+     * Assigns the identifier of the task.
+     *
+     * @param id the identifier to assign; must be positive.
+     */
+    public void setId(long id) {
+        this.id = id;
+    }
+
+
+    /**
+     * Returns the rule repeating the task.
+     *
+     * @return the rule, or {@code null} if the task happens once.
+     */
+    public Recurrence getRecurrence() {
+        return recurrence;
+    }
+
+
+    /**
+     * Sets the rule repeating the task.
+     *
+     * @param recurrence the rule, or {@code null} if the task happens once.
+     */
+    public void setRecurrence(Recurrence recurrence) {
+        this.recurrence = recurrence;
+    }
+
+
+    /**
+     * Checks whether the task repeats.
+     *
+     * @return {@code true} if the task has a {@link Recurrence}.
+     */
+    public boolean isRecurring() {
+        return recurrence != null;
+    }
+
+
+    /**
+     * Returns occurrence {@code n} of a repeating task, as a separate task that is not in the list.
+     * <p>
+     * Tasks that happen once only have occurrence 0, which is the task itself.
+     * </p>
+     *
+     * @param n the occurrence number, starting at 0.
+     * @return the occurrence.
+     */
+    public Task occurrence(long n) {
+        return this;
+    }
+
+
+    /**
+     * Returns the label of the rule repeating the task, for appending to its details.
+     *
+     * @return the label preceded by a space, or an empty string if the task happens once.
+     */
+    protected String recurrenceLabel() {
+        return recurrence == null ? "" : " " + recurrence;
+    }
+
+
+    /**
+     * Returns the rule repeating the task in the format saved in the task files.
+     *
+     * @return the saved rule preceded by the field separator, or an empty string if the task happens once.
+     */
+    protected String recurrenceFileFormat() {
+        return recurrence == null ? "" : " | " + recurrence.toFileFormat();
+    }
+
+
     /**
      * Returns the details of the task.
      * <p>
@@ -90,7 +221,7 @@ public abstract class Task {
      * @return The name or description of the task as a String.
      */
     public String toString() {
-        return this.name;
+        return this.name.toString();
     }
 
 
@@ -1,10 +1,18 @@
 package amadeus.workspace;
 
 import amadeus.brain.AmadeusException;
+import amadeus.brain.Archive;
 import amadeus.brain.Database;
 import amadeus.personality.Speech;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Manages the list of tasks in the Amadeus application.
@@ -12,6 +20,15 @@ import java.util.ArrayList;
  * This class provides methods to add, mark, delete, and reset tasks, ensuring
  * that changes are saved to the database and communicated to the user via speech.
  * </p>
+ * <p>
+ * The methods work on the current list. The state of every loaded list is held in a {@link State},
+ * which {@link Workspaces} swaps in when the user switches lists.
+ * </p>
+ * <p>
+ * Every change is recorded in the {@link UndoLog} of the list, so the latest changes can be undone
+ * and redone without keeping copies of the list, and published on the {@link Changes} feed for
+ * subscribers to follow on their own threads.
+ * </p>
  */
 public class TaskList {
     /**
@@ -20,12 +37,93 @@ public class TaskList {
      */
     public static ArrayList<Task> taskList;
 
+    /**
+     * The identifier to assign to the next task added to the list.
+     */
+    private static long nextId;
+
+    /**
+     * Index of the date spans of every Deadline and Event in the list, kept in step with every change.
+     */
+    private static IntervalTree spans;
+
+    /**
+     * Index of the Deadlines and Events by every day they fall on, kept in step with every change.
+     */
+    private static DayIndex days;
+
+    /**
+     * Index of the pending Deadlines and Events by due time, kept in step with every change.
+     */
+    private static Agenda agenda;
 
-    // Loads tasks from the database when the program starts.
+    /**
+     * The repeating Deadlines and Events in the list, whose occurrences are expanded on demand.
+     */
+    private static LinkedHashSet<Task> recurring;
+
+    /**
+     * Every task in the list by its identifier, kept in step with every change.
+     */
+    private static LongMap<Task> byId;
+
+    /**
+     * Index of the words in every task name, for fuzzy search, kept in step with every change once built.
+     * It is only built by the first fuzzy search, so startup does not pay for it.
+     */
+    private static BkTree words;
+
+    /**
+     * The views of the list sorted by each key, kept in step with every change while they are in use.
+     */
+    private static SortedViews views;
+
+    /**
+     * The counts of tasks by type, status and due week, kept in step with every change.
+     */
+    private static Counters counters;
+
+    /**
+     * The latest changes to the list, for undoing and redoing them.
+     */
+    private static UndoLog log;
+
+    /**
+     * The state of the current list, which the fields above mirror.
+     */
+    private static State current;
+
+    /**
+     * The tasks, indexes, reminders and store of one loaded list.
+     */
+    static class State {
+        final String name;
+        final Database.Store store;
+        final ArrayList<Task> tasks = new ArrayList<>();
+        final IntervalTree spans = new IntervalTree();
+        final DayIndex days = new DayIndex();
+        final Agenda agenda = new Agenda();
+        final LinkedHashSet<Task> recurring = new LinkedHashSet<>();
+        final LongMap<Task> byId = new LongMap<>();
+        final SortedViews views = new SortedViews();
+        final Counters counters = new Counters();
+        final Reminders.Schedule reminders = new Reminders.Schedule();
+        UndoLog log = new UndoLog(); // Handed on to the state replacing this one on a reset
+        long nextId = 1;
+        BkTree words;
+
+        State(String name, Database.Store store) {
+            this.name = name;
+            this.store = store;
+        }
+    }
+
+
+    // Loads the default list from the database when the program starts.
     // If an error occurs during loading, a runtime exception is thrown.
     static {
         try {
-            taskList = Database.load();
+            Workspaces.use(Workspaces.DEFAULT_LIST);
 
         } catch (AmadeusException e) {
             throw new RuntimeException(e);
@@ -43,6 +141,149 @@ public class TaskList {
     }
 
 
+    /**
+     * Returns the task with the given identifier.
+     *
+     * @param id the identifier of the task.
+     * @return the task, or {@code null} if no task in the list has this identifier.
+     */
+    public static Task getById(long id) {
+        return byId.get(id);
+    }
+
+
+    /**
+     * Returns the position of the task with the given identifier.
+     * <p>
+     * The task is found through the identifier map, and its position by a binary search, as every
+     * section of the list is ordered by identifier.
+     * </p>
+     *
+     * @param id the identifier of the task.
+     * @return the 1-based index of the task, or -1 if no task in the list has this identifier.
+     */
+    public static int indexOf(long id) {
+        Task task = byId.get(id);
+        if (task == null) {
+            return -1;
+        }
+
+        int low = 0;
+        int high = taskList.size() - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            Task other = taskList.get(middle);
+            int order = Database.sectionOf(other) != Database.sectionOf(task)
+                    ? Integer.compare(Database.sectionOf(other), Database.sectionOf(task))
+                    : Long.compare(other.getId(), id);
+            if (order < 0) {
+                low = middle + 1;
+            } else if (order > 0) {
+                high = middle - 1;
+            } else {
+                return middle + 1;
+            }
+        }
+        return -1;
+    }
+
+
+    /**
+     * Returns the name of the current list.
+     *
+     * @return the name of the list that commands work on.
+     */
+    public static String getName() {
+        return current.name;
+    }
+
+
+    /**
+     * Returns the index of the date spans of every Deadline and Event in the list.
+     *
+     * @return the interval tree over the task list.
+     */
+    public static IntervalTree getSpans() {
+        return spans;
+    }
+
+
+    /**
+     * Returns the index of the Deadlines and Events by every day they fall on.
+     *
+     * @return the day index over the task list.
+     */
+    public static DayIndex getDays() {
+        return days;
+    }
+
+
+    /**
+     * Returns the index of the pending Deadlines and Events by due time.
+     *
+     * @return the agenda over the task list.
+     */
+    public static Agenda getAgenda() {
+        return agenda;
+    }
+
+
+    /**
+     * Returns the index of the words in every task name, building it on first use.
+     *
+     * @return the BK-tree over the task list.
+     */
+    public static BkTree getWords() {
+        if (words == null) {
+            words = new BkTree();
+            taskList.forEach(words::add);
+        }
+        return words;
+    }
+
+
+    /**
+     * Returns the index of the words in every task name if it was already built, without building it.
+     *
+     * @return the BK-tree over the task list, or {@code null} if no fuzzy search has built it yet.
+     */
+    public static BkTree getWordsIfBuilt() {
+        return words;
+    }
+
+
+    /**
+     * Returns the list sorted by a key, from a view kept in step with every change once built.
+     *
+     * @param key the sort key.
+     * @return a read-only view of the sorted tasks, valid until the list next changes.
+     */
+    public static List<Task> getSorted(SortedViews.Key key) {
+        return views.get(key, taskList);
+    }
+
+
+    /**
+     * Returns the running counts over the list, for summaries that must not scan it.
+     *
+     * @return the counters of the current list.
+     */
+    public static Counters getCounters() {
+        return counters;
+    }
+
+
+    /**
+     * Returns the repeating Deadlines and Events in the list, in the order they were added.
+     * These are not in the span or agenda indexes, as their occurrences are expanded on demand.
+     *
+     * @return a read-only view of the repeating tasks.
+     */
+    public static Set<Task> getRecurring() {
+        return Collections.unmodifiableSet(recurring);
+    }
+
+
     //region Add Tasks to List
 
     /**
@@ -61,9 +302,14 @@ public class TaskList {
         while (index < taskList.size() && taskList.get(index) instanceof Deadline) {
             index++;
         }
+        d.setId(newId());
         taskList.add(index, d);
+        index(d);
+        Changes.publish(Changes.Kind.ADDED, d);
+        log.recordAdd(new Task[] {d}, new int[] {index});
 
         // Save the updated list to the database
+        Database.markDirty(d);
         Database.save(taskList);
 
         // Notify the user via speech
@@ -88,9 +334,14 @@ public class TaskList {
                 taskList.get(index) instanceof Event)) {
             index++;
         }
+        e.setId(newId());
         taskList.add(index, e);
+        index(e);
+        Changes.publish(Changes.Kind.ADDED, e);
+        log.recordAdd(new Task[] {e}, new int[] {index});
 
         // Save the updated list to the database
+        Database.markDirty(e);
         Database.save(taskList);
 
         // Notify the user via speech
@@ -115,14 +366,32 @@ public class TaskList {
                 taskList.get(index) instanceof Event || taskList.get(index) instanceof ToDo)) {
             index++;
         }
+        td.setId(newId());
         taskList.add(index, td);
+        index(td);
+        Changes.publish(Changes.Kind.ADDED, td);
+        log.recordAdd(new Task[] {td}, new int[] {index});
 
         // Save the updated list to the database
+        Database.markDirty(td);
         Database.save(taskList);
 
         // Notify the user via speech
         Speech.sayTaskAdded(td, "TODO");
     }
+
+
+    /**
+     * Hands out the identifier of a new task, reserving it in the store so it is never handed out again,
+     * even once the task is deleted.
+     *
+     * @return the identifier of the new task.
+     */
+    private static long newId() {
+        long id = nextId++;
+        Database.reserveIds(nextId);
+        return id;
+    }
     //endregion
 
 
@@ -139,9 +408,12 @@ public class TaskList {
     public static void markDone(int index, boolean status) throws AmadeusException {
         try {
             // Update the task's completion status
-            taskList.get(index - 1).updateDone(status);
+            Task task = taskList.get(index - 1);
+            log.recordMark(new Task[] {task}, new boolean[] {task.getDone()}, status);
+            setDone(task, status);
 
             // Save the updated list to the database
+            Database.markDirty(taskList.get(index - 1));
             Database.save(taskList);
 
             // Notify the user via speech
@@ -170,8 +442,12 @@ public class TaskList {
         try {
             // Remove the task at the specified index
             Task removedTask = taskList.remove(index - 1);
+            unindex(removedTask);
+            Changes.publish(Changes.Kind.DELETED, removedTask);
+            log.recordDelete(new Task[] {removedTask}, new int[] {index - 1});
 
             // Save the updated list to the database
+            Database.markDirty(removedTask);
             Database.save(taskList);
 
             // Notify the user via speech
@@ -187,23 +463,516 @@ public class TaskList {
     }
 
 
+    //region Bulk Operations
+
+    /**
+     * Adds many tasks to the task list in a single pass.
+     * <p>
+     * The new tasks keep their relative order, and are numbered and appended at the end of their sections.
+     * The list is rebuilt section by section in one sweep, instead of shifting the later sections once
+     * per task, and the updated list is saved to the database once.
+     * </p>
+     *
+     * @param tasks the tasks to add; must not be {@code null}.
+     * @throws AmadeusException if an error occurs while saving the updated list to the database.
+     */
+    public static void addTasks(List<Task> tasks) throws AmadeusException {
+        ArrayList<Task> merged = new ArrayList<>(taskList.size() + tasks.size());
+        int[] positions = new int[tasks.size()];
+        int count = 0; // Number of new tasks placed so far
+        for (int section = 0; section < 3; section++) {
+            for (Task task : taskList) {
+                if (Database.sectionOf(task) == section) {
+                    merged.add(task);
+                }
+            }
+            for (Task task : tasks) {
+                if (Database.sectionOf(task) == section) {
+                    task.setId(newId());
+                    positions[count++] = merged.size();
+                    merged.add(task);
+                    index(task);
+                    Changes.publish(Changes.Kind.ADDED, task);
+                    Database.markDirty(task);
+                }
+            }
+        }
+
+        // Swap in the rebuilt list, keeping the same list object
+        taskList.clear();
+        taskList.addAll(merged);
+        Task[] added = new Task[positions.length];
+        for (int i = 0; i < positions.length; i++) {
+            added[i] = taskList.get(positions[i]);
+        }
+        log.recordAdd(added, positions);
+
+        // Save the updated list to the database once
+        Database.save(taskList);
+    }
+
+
+    /**
+     * Marks several tasks as complete or incomplete in a single pass.
+     * <p>
+     * All indices are validated before any task is updated, and the updated list is saved
+     * to the database once. The user is notified with a single summary message.
+     * </p>
+     *
+     * @param indices the indices of the tasks to update (1-based, ascending, without duplicates).
+     * @param status  the new completion status (true for complete, false for incomplete).
+     * @throws AmadeusException if the selection is empty, an index is invalid,
+     *                          or an error occurs while saving the updated list.
+     */
+    public static void markDone(int[] indices, boolean status) throws AmadeusException {
+        checkSelection(indices);
+
+        // Update every selected task's completion status
+        Task[] tasks = new Task[indices.length];
+        boolean[] before = new boolean[indices.length];
+        for (int i = 0; i < indices.length; i++) {
+            tasks[i] = taskList.get(indices[i] - 1);
+            before[i] = tasks[i].getDone();
+            setDone(tasks[i], status);
+            Database.markDirty(tasks[i]);
+        }
+        log.recordMark(tasks, before, status);
+
+        // Save the updated list to the database once
+        Database.save(taskList);
+
+        // Notify the user via speech
+        Speech.sayTasksMarked(indices.length, status);
+    }
+
+
+    /**
+     * Deletes several tasks from the task list in a single pass.
+     * <p>
+     * All indices are validated before any task is removed. The remaining tasks are compacted
+     * towards the front of the list in one sweep, instead of shifting the tail once per removal,
+     * and the updated list is saved to the database once.
+     * </p>
+     *
+     * @param indices the indices of the tasks to delete (1-based, ascending, without duplicates).
+     * @throws AmadeusException if the selection is empty, an index is invalid,
+     *                          or an error occurs while saving the updated list.
+     */
+    public static void deleteTasks(int[] indices) throws AmadeusException {
+        checkSelection(indices);
+
+        int[] positions = new int[indices.length];
+        for (int i = 0; i < indices.length; i++) {
+            positions[i] = indices[i] - 1;
+        }
+        log.recordDelete(removeAt(positions), positions);
+
+        // Save the updated list to the database once
+        Database.save(taskList);
+
+        // Notify the user via speech
+        Speech.sayTasksDeleted(indices.length);
+    }
+
+
+    /**
+     * Removes the tasks at several positions from the list and every index, marking them dirty.
+     * <p>
+     * The remaining tasks are compacted towards the front of the list in one sweep, instead of
+     * shifting the tail once per removal.
+     * </p>
+     *
+     * @param positions the 0-based positions of the tasks to remove (ascending, without duplicates).
+     * @return the removed tasks, in list order.
+     */
+    private static Task[] removeAt(int[] positions) {
+        Task[] removed = new Task[positions.length];
+        int write = 0;
+        int next = 0; // Position in positions of the next task to remove
+        for (int read = 0; read < taskList.size(); read++) {
+            if (next < positions.length && positions[next] == read) {
+                Task task = taskList.get(read); // Skip the removed task
+                removed[next++] = task;
+                Database.markDirty(task);
+                unindex(task);
+                Changes.publish(Changes.Kind.DELETED, task);
+            } else {
+                taskList.set(write++, taskList.get(read));
+            }
+        }
+        // Drop the leftover tail in one operation
+        taskList.subList(write, taskList.size()).clear();
+        return removed;
+    }
+
+
+    /**
+     * Inserts tasks at several positions of the list and into every index, marking them dirty.
+     * <p>
+     * The list grows once and the tasks after each insertion point are moved back in one sweep
+     * from the end, instead of shifting the tail once per insertion.
+     * </p>
+     *
+     * @param tasks     the tasks to insert.
+     * @param positions the 0-based positions of the tasks in the list after inserting them (ascending).
+     */
+    private static void insertAt(Task[] tasks, int[] positions) {
+        int read = taskList.size() - 1;
+        taskList.addAll(Collections.nCopies(tasks.length, null));
+        int write = taskList.size() - 1;
+        for (int i = tasks.length - 1; i >= 0; i--) {
+            while (write > positions[i]) {
+                taskList.set(write--, taskList.get(read--));
+            }
+            taskList.set(write--, tasks[i]);
+        }
+
+        for (Task task : tasks) {
+            index(task);
+            Changes.publish(Changes.Kind.ADDED, task);
+            Database.markDirty(task);
+        }
+    }
+
+
+    /**
+     * Validates a bulk selection of task indices against the current task list.
+     *
+     * @param indices the indices to validate (1-based, ascending).
+     * @throws AmadeusException if the selection is empty or any index is out of bounds.
+     */
+    private static void checkSelection(int[] indices) throws AmadeusException {
+        if (indices.length == 0) {
+            // No Tasks Matched the Selection Exception
+            throw AmadeusException.emptySelection();
+        }
+        if (indices[0] < 1 || indices[indices.length - 1] > taskList.size()) {
+            // Out of Bounds Index Number Exception
+            throw AmadeusException.invalidIndex();
+        }
+    }
+    //endregion
+
+
     /**
      * Resets the task list by clearing all tasks.
      * <p>
      * This method removes all tasks from the task list, saves the updated (empty) list to the database,
      * and notifies the user via speech that the task list has been reset.
      * </p>
+     * <p>
+     * The list starts over with a new, empty state, and the previous state is kept whole in the
+     * {@link UndoLog} so the reset can be undone without copying or indexing the tasks again.
+     * </p>
      *
      * @throws AmadeusException if an error occurs while saving the updated list to the database.
      */
     public static void resetList() throws AmadeusException {
-        // Clear all tasks from the list
-        taskList.clear();
+        // Start over with an empty list, keeping the reminders of other loaded lists
+        log.recordReset(current);
+        swapState(new State(current.name, current.store));
+        Changes.publish(Changes.Kind.RESET, null);
 
         // Save the updated list to the database
+        Database.markAllDirty();
         Database.save(taskList);
 
         // Notify the user via speech
         Speech.sayTaskReset();
     }
+
+
+    //region Lists
+
+    /**
+     * Loads a list from its store and makes it the current list.
+     * <p>
+     * Stale completed tasks are moved to the archive, any archived removals or legacy migration are
+     * written back, and the remaining tasks are indexed and their reminders armed. If the write fails,
+     * the archived tasks are taken back out of the archive and kept in the list.
+     * </p>
+     *
+     * @param state the empty state of the list to load.
+     * @throws AmadeusException if an error occurs while loading the list.
+     */
+    static void load(State state) throws AmadeusException {
+        Database.Store previous = Database.getStore();
+        Database.setStore(state.store);
+        try {
+            state.tasks.addAll(Database.load());
+        } catch (AmadeusException e) {
+            Database.setStore(previous); // Stay on the current list
+            throw e;
+        }
+        attach(state);
+
+        // Continue numbering after the highest identifier ever handed out, or at least loaded
+        nextId = Math.max(nextId, Database.getNextId());
+        for (Task task : taskList) {
+            nextId = Math.max(nextId, task.getId() + 1);
+        }
+        Database.reserveIds(nextId);
+
+        // Move stale completed tasks into cold storage so only active work stays in memory
+        ArrayList<Task> archived = new ArrayList<>();
+        try {
+            archived = Archive.archiveStale(taskList, LocalDateTime.now());
+        } catch (AmadeusException e) {
+            // Archiving is best-effort; keep every task in the active list on failure
+            System.out.println(e.getMessage());
+        }
+
+        // Write any archived removals or legacy migration to the shards
+        try {
+            if (Database.hasPendingChanges()) {
+                Database.save(taskList);
+            }
+        } catch (AmadeusException e) {
+            System.out.println(e.getMessage());
+            try {
+                // The shards still hold the archived tasks, so take them back out of the archive
+                Archive.rollback(taskList, archived);
+            } catch (AmadeusException rollbackError) {
+                System.out.println(rollbackError.getMessage());
+            }
+        }
+
+        // Index the remaining tasks
+        taskList.forEach(TaskList::index);
+    }
+
+
+    /**
+     * Brings the current list up to date with changes that other processes saved to its store.
+     * <p>
+     * Only the tasks of the shards that changed are replaced, and only they are unindexed and indexed
+     * again, so the cost follows the size of the change rather than the size of the list. The changes
+     * recorded for undoing are forgotten, as the list no longer matches them.
+     * </p>
+     *
+     * @throws AmadeusException if an error occurs while reading the changed shards.
+     */
+    public static void refresh() throws AmadeusException {
+        Map<String, ArrayList<Task>> changed = Database.reload();
+        if (changed == null || changed.isEmpty()) {
+            return;
+        }
+
+        // Drop the tasks of the changed shards
+        taskList.removeIf(task -> {
+            if (!changed.containsKey(Database.shardKey(task))) {
+                return false;
+            }
+            unindex(task);
+            return true;
+        });
+
+        // Add their current tasks back in list order
+        for (ArrayList<Task> tasks : changed.values()) {
+            for (Task task : tasks) {
+                taskList.add(task);
+                index(task);
+                nextId = Math.max(nextId, task.getId() + 1);
+            }
+        }
+        taskList.sort(Comparator.comparingInt(Database::sectionOf).thenComparingLong(Task::getId));
+        nextId = Math.max(nextId, Database.getNextId()); // Including tasks added and deleted meanwhile
+
+        // The recorded positions no longer match the list
+        log.clear();
+    }
+
+
+    /**
+     * Makes a loaded list the current list, keeping the state of the previous one.
+     *
+     * @param state the state of the list.
+     */
+    static void attach(State state) {
+        if (current != null) {
+            // Keep the fields that are replaced rather than changed in place
+            current.nextId = nextId;
+            current.words = words;
+        }
+
+        current = state;
+        taskList = state.tasks;
+        nextId = state.nextId;
+        spans = state.spans;
+        days = state.days;
+        agenda = state.agenda;
+        recurring = state.recurring;
+        byId = state.byId;
+        words = state.words;
+        views = state.views;
+        counters = state.counters;
+        log = state.log;
+        Reminders.use(state.reminders);
+        Database.setStore(state.store);
+    }
+
+
+    /**
+     * Replaces the state of the current list, handing on its undo log and identifier numbering.
+     * The reminders of the replaced state stop, and those of the new state start where they left off.
+     *
+     * @param state the new state of the list, loaded or not.
+     */
+    private static void swapState(State state) {
+        long next = nextId;
+        state.log = log;
+        Reminders.deactivate(current.reminders);
+        Workspaces.replace(state);
+        attach(state);
+        nextId = Math.max(nextId, next); // Never hand out an identifier twice
+    }
+    //endregion
+
+
+    //region Undo and Redo
+
+    /**
+     * Undoes the latest change to the list that has not been undone.
+     * <p>
+     * The change is inverted from what the {@link UndoLog} recorded: added tasks are removed from their
+     * positions, deleted tasks are put back at theirs, marked tasks get their previous status back, and
+     * a reset list gets its previous state back. The updated list is saved to the database.
+     * </p>
+     *
+     * @return a description of the change undone, or {@code null} if there is nothing to undo.
+     * @throws AmadeusException if an error occurs while saving the updated list to the database.
+     */
+    public static String undo() throws AmadeusException {
+        UndoLog.Operation operation = log.undo();
+        if (operation == null) {
+            return null;
+        }
+
+        switch (operation.kind) {
+        case ADD -> removeAt(operation.positions);
+        case DELETE -> insertAt(operation.tasks, operation.positions);
+        case MARK -> {
+            for (int i = 0; i < operation.tasks.length; i++) {
+                setDone(operation.tasks[i], operation.before[i]);
+                Database.markDirty(operation.tasks[i]);
+            }
+        }
+        case RESET -> {
+            // Swap the previous state back in, with its tasks, indexes and reminders as they were
+            swapState(operation.previous);
+            taskList.forEach(task -> Changes.publish(Changes.Kind.ADDED, task));
+            Database.markAllDirty();
+        }
+        }
+
+        // Save the updated list to the database
+        Database.save(taskList);
+        return operation.toString();
+    }
+
+
+    /**
+     * Redoes the latest change to the list that was undone.
+     * <p>
+     * The change is made again from what the {@link UndoLog} recorded, and the updated list is saved
+     * to the database.
+     * </p>
+     *
+     * @return a description of the change redone, or {@code null} if there is nothing to redo.
+     * @throws AmadeusException if an error occurs while saving the updated list to the database.
+     */
+    public static String redo() throws AmadeusException {
+        UndoLog.Operation operation = log.redo();
+        if (operation == null) {
+            return null;
+        }
+
+        switch (operation.kind) {
+        case ADD -> insertAt(operation.tasks, operation.positions);
+        case DELETE -> removeAt(operation.positions);
+        case MARK -> {
+            for (Task task : operation.tasks) {
+                setDone(task, operation.status);
+                Database.markDirty(task);
+            }
+        }
+        case RESET -> {
+            // Keep the current state for undoing again, and start over with an empty one
+            operation.previous = current;
+            swapState(new State(current.name, current.store));
+            Changes.publish(Changes.Kind.RESET, null);
+            Database.markAllDirty();
+        }
+        }
+
+        // Save the updated list to the database
+        Database.save(taskList);
+        return operation.toString();
+    }
+    //endregion
+
+
+    //region Indexes
+
+    /**
+     * Adds a task to every index over the task list.
+     *
+     * @param task the task added to the list.
+     */
+    private static void index(Task task) {
+        byId.put(task.getId(), task);
+        if (task.isRecurring()) {
+            recurring.add(task);
+        } else {
+            spans.add(task);
+            days.add(task);
+            agenda.add(task);
+        }
+        if (words != null) {
+            words.add(task);
+        }
+        views.add(task);
+        counters.add(task);
+        Reminders.arm(task);
+    }
+
+
+    /**
+     * Changes the completion status of a task, moving it in every index that depends on it.
+     * The task leaves the sorted views and counters under its old status and comes back under the new one.
+     *
+     * @param task   the task in the list.
+     * @param status the new completion status.
+     */
+    private static void setDone(Task task, boolean status) {
+        views.remove(task);
+        counters.remove(task);
+        task.updateDone(status);
+        views.add(task);
+        counters.add(task);
+        agenda.update(task);
+        Reminders.arm(task);
+        Changes.publish(status ? Changes.Kind.MARKED : Changes.Kind.UNMARKED, task);
+    }
+
+
+    /**
+     * Removes a task from every index over the task list.
+     *
+     * @param task the task removed from the list.
+     */
+    private static void unindex(Task task) {
+        byId.remove(task.getId());
+        recurring.remove(task);
+        spans.remove(task);
+        days.remove(task);
+        agenda.remove(task);
+        if (words != null) {
+            words.remove(task);
+        }
+        views.remove(task);
+        counters.remove(task);
+        Reminders.cancel(task);
+    }
+    //endregion
 }
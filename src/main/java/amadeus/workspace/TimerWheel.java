@@ -0,0 +1,236 @@
+package amadeus.workspace;
+
+import java.util.function.Consumer;
+
+/**
+ * A hierarchical timer wheel holding very many timers at a fixed tick resolution.
+ * <p>
+ * The wheel has {@value #LEVELS} levels of {@value #SLOTS} slots each. A slot of level {@code L}
+ * spans {@code 64^L} ticks, so the levels together cover {@code 64^4} ticks ahead of the current
+ * tick. Each timer is placed in the coarsest slot that still separates it from the current tick,
+ * and is moved down one or more levels when the wheel reaches the start of its slot. Timers further
+ * ahead than the wheel covers wait in the last slot of the top level and are placed again each time
+ * that slot is reached.
+ * </p>
+ * <p>
+ * Every slot is a doubly linked list, so scheduling and cancelling a timer take {@code O(1)} time
+ * regardless of how many timers are pending, and advancing by one tick only touches the timers that
+ * are due or need to move down a level. The wheel is not thread-safe; callers must synchronize.
+ * </p>
+ *
+ * @param <T> the type of the value carried by each timer.
+ */
+public class TimerWheel<T> {
+    /**
+     * Number of bits of the tick consumed by each level.
+     */
+    private static final int BITS = 6;
+
+    /**
+     * Number of slots per level.
+     */
+    private static final int SLOTS = 1 << BITS;
+
+    /**
+     * Number of levels.
+     */
+    private static final int LEVELS = 4;
+
+    private final Timer<T>[][] wheel; // Sentinel of each slot's circular list
+    private long currentTick;
+    private int size;
+
+    /**
+     * A pending timer, linked into one slot of the wheel.
+     *
+     * @param <T> the type of the value carried by the timer.
+     */
+    public static class Timer<T> {
+        private final long dueTick;
+        private final T value;
+        private Timer<T> prev;
+        private Timer<T> next;
+
+        private Timer(long dueTick, T value) {
+            this.dueTick = dueTick;
+            this.value = value;
+        }
+
+        /**
+         * Returns the tick at which the timer fires.
+         *
+         * @return the due tick.
+         */
+        public long getDueTick() {
+            return dueTick;
+        }
+
+        /**
+         * Returns the value carried by the timer.
+         *
+         * @return the value.
+         */
+        public T getValue() {
+            return value;
+        }
+
+        private boolean isLinked() {
+            return next != null;
+        }
+    }
+
+
+    /**
+     * Constructs an empty wheel starting at the given tick.
+     *
+     * @param startTick the current tick.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"}) // Arrays of a generic type can only be created raw
+    public TimerWheel(long startTick) {
+        this.currentTick = startTick;
+        this.wheel = new Timer[LEVELS][SLOTS];
+        for (Timer<T>[] level : wheel) {
+            for (int slot = 0; slot < SLOTS; slot++) {
+                Timer<T> sentinel = new Timer<>(0, null);
+                sentinel.prev = sentinel;
+                sentinel.next = sentinel;
+                level[slot] = sentinel;
+            }
+        }
+    }
+
+
+    /**
+     * Returns the current tick of the wheel.
+     *
+     * @return the last tick the wheel advanced to.
+     */
+    public long getCurrentTick() {
+        return currentTick;
+    }
+
+
+    /**
+     * Returns the number of pending timers.
+     *
+     * @return the number of timers that have neither fired nor been cancelled.
+     */
+    public int size() {
+        return size;
+    }
+
+
+    /**
+     * Schedules a timer. A timer due at or before the current tick fires on the next tick.
+     *
+     * @param dueTick the tick at which the timer fires.
+     * @param value   the value carried by the timer.
+     * @return the timer, which can be passed to {@link #cancel(Timer)}.
+     */
+    public Timer<T> schedule(long dueTick, T value) {
+        Timer<T> timer = new Timer<>(Math.max(dueTick, currentTick + 1), value);
+        place(timer);
+        size++;
+        return timer;
+    }
+
+
+    /**
+     * Cancels a pending timer. Timers that already fired or were cancelled are ignored.
+     *
+     * @param timer the timer to cancel; must not be {@code null}.
+     */
+    public void cancel(Timer<T> timer) {
+        if (timer.isLinked()) {
+            unlink(timer);
+            size--;
+        }
+    }
+
+
+    /**
+     * Advances the wheel tick by tick up to the given tick, firing every timer that comes due.
+     *
+     * @param tick the tick to advance to; ticks at or before the current tick are ignored.
+     * @param fire receives the value of every timer that fires, in order of due tick.
+     */
+    public void advanceTo(long tick, Consumer<T> fire) {
+        while (currentTick < tick) {
+            currentTick++;
+
+            // Move the timers of every higher slot starting at this tick down towards level 0
+            for (int level = LEVELS - 1; level > 0; level--) {
+                if ((currentTick & ((1L << (BITS * level)) - 1)) == 0) {
+                    cascade(wheel[level][indexOf(currentTick, level)]);
+                }
+            }
+
+            // Fire the timers due at this tick
+            Timer<T> sentinel = wheel[0][indexOf(currentTick, 0)];
+            while (sentinel.next != sentinel) {
+                Timer<T> timer = sentinel.next;
+                unlink(timer);
+                size--;
+                fire.accept(timer.value);
+            }
+        }
+    }
+
+
+    /**
+     * Places every timer of a slot again, relative to the current tick.
+     *
+     * @param sentinel the sentinel of the slot to empty.
+     */
+    private void cascade(Timer<T> sentinel) {
+        Timer<T> timer = sentinel.next;
+        sentinel.next = sentinel;
+        sentinel.prev = sentinel;
+        while (timer != sentinel) {
+            Timer<T> next = timer.next;
+            place(timer);
+            timer = next;
+        }
+    }
+
+
+    /**
+     * Links a timer into the coarsest slot that still separates it from the current tick.
+     *
+     * @param timer the timer to place; its due tick must be after the current tick.
+     */
+    private void place(Timer<T> timer) {
+        long delta = timer.dueTick - currentTick;
+        for (int level = 0; level < LEVELS; level++) {
+            if (delta < (1L << (BITS * (level + 1)))) {
+                link(wheel[level][indexOf(timer.dueTick, level)], timer);
+                return;
+            }
+        }
+
+        // Beyond the wheel: wait in the furthest top-level slot and be placed again from there
+        long top = BITS * (LEVELS - 1);
+        link(wheel[LEVELS - 1][(int) (((currentTick >>> top) + SLOTS - 1) & (SLOTS - 1))], timer);
+    }
+
+
+    private static int indexOf(long tick, int level) {
+        return (int) ((tick >>> (BITS * level)) & (SLOTS - 1));
+    }
+
+
+    private static <T> void link(Timer<T> sentinel, Timer<T> timer) {
+        timer.prev = sentinel.prev;
+        timer.next = sentinel;
+        sentinel.prev.next = timer;
+        sentinel.prev = timer;
+    }
+
+
+    private static <T> void unlink(Timer<T> timer) {
+        timer.prev.next = timer.next;
+        timer.next.prev = timer.prev;
+        timer.prev = null;
+        timer.next = null;
+    }
+}
@@ -0,0 +1,162 @@
+package amadeus.workspace;
+
+import java.util.ArrayDeque;
+
+/**
+ * A bounded log of the changes made to a task list, so the latest ones can be undone and redone.
+ * <p>
+ * Each change is recorded as an {@link Operation} holding just what it takes to invert it: the tasks
+ * added or deleted with their positions in the list, the tasks marked with their previous status, or,
+ * for a reset, a reference to the state of the list before it. Nothing is copied, so undoing or redoing
+ * a change costs about as much as making it, however long the list is.
+ * </p>
+ * <p>
+ * Only the latest {@value #CAPACITY} changes are kept; older ones are dropped and can no longer be
+ * undone. Making a new change drops the changes that were undone, as they can no longer be redone.
+ * Positions are only valid while the list changes through this log, so the log is cleared when the
+ * list is reloaded from changes made by another process.
+ * </p>
+ */
+public class UndoLog {
+    /**
+     * The number of latest changes kept for undoing.
+     */
+    public static final int CAPACITY = 100;
+
+    private final ArrayDeque<Operation> done = new ArrayDeque<>(); // Changes that can be undone, latest first
+    private final ArrayDeque<Operation> undone = new ArrayDeque<>(); // Changes that can be redone, latest first
+
+    /**
+     * The kinds of change to a task list.
+     */
+    enum Kind {
+        ADD("adding"), DELETE("deleting"), MARK("marking"), RESET("resetting");
+
+        private final String verb;
+
+        Kind(String verb) {
+            this.verb = verb;
+        }
+    }
+
+    /**
+     * A change to a task list, with what it takes to invert it.
+     */
+    static class Operation {
+        final Kind kind;
+        final Task[] tasks; // The tasks changed
+        final int[] positions; // Ascending 0-based positions of added or deleted tasks in the list with them
+        final boolean[] before; // The previous status of each marked task
+        final boolean status; // The new status of the marked tasks
+        TaskList.State previous; // The state of the list before a reset
+
+        private Operation(Kind kind, Task[] tasks, int[] positions, boolean[] before, boolean status) {
+            this.kind = kind;
+            this.tasks = tasks;
+            this.positions = positions;
+            this.before = before;
+            this.status = status;
+        }
+
+        @Override
+        public String toString() {
+            if (kind == Kind.RESET) {
+                return kind.verb + " the list";
+            }
+            String verb = kind == Kind.MARK && !status ? "unmarking" : kind.verb;
+            return verb + " " + tasks.length + (tasks.length == 1 ? " task" : " tasks");
+        }
+    }
+
+
+    /**
+     * Records tasks added to the list.
+     *
+     * @param tasks     the tasks added.
+     * @param positions the ascending 0-based positions of the tasks in the list after adding them.
+     */
+    void recordAdd(Task[] tasks, int[] positions) {
+        record(new Operation(Kind.ADD, tasks, positions, null, false));
+    }
+
+
+    /**
+     * Records tasks deleted from the list.
+     *
+     * @param tasks     the tasks deleted.
+     * @param positions the ascending 0-based positions of the tasks in the list before deleting them.
+     */
+    void recordDelete(Task[] tasks, int[] positions) {
+        record(new Operation(Kind.DELETE, tasks, positions, null, false));
+    }
+
+
+    /**
+     * Records tasks marked as complete or incomplete.
+     *
+     * @param tasks  the tasks marked.
+     * @param before the status of each task before marking it.
+     * @param status the new status of the tasks.
+     */
+    void recordMark(Task[] tasks, boolean[] before, boolean status) {
+        record(new Operation(Kind.MARK, tasks, null, before, status));
+    }
+
+
+    /**
+     * Records a reset of the list.
+     *
+     * @param previous the state of the list before the reset, kept as it is rather than copied.
+     */
+    void recordReset(TaskList.State previous) {
+        Operation operation = new Operation(Kind.RESET, new Task[0], null, null, false);
+        operation.previous = previous;
+        record(operation);
+    }
+
+
+    /**
+     * Takes the latest change to undo, moving it to the changes that can be redone.
+     *
+     * @return the change, or {@code null} if there is nothing to undo.
+     */
+    Operation undo() {
+        Operation operation = done.pollFirst();
+        if (operation != null) {
+            undone.addFirst(operation);
+        }
+        return operation;
+    }
+
+
+    /**
+     * Takes the latest undone change to redo, moving it back to the changes that can be undone.
+     *
+     * @return the change, or {@code null} if there is nothing to redo.
+     */
+    Operation redo() {
+        Operation operation = undone.pollFirst();
+        if (operation != null) {
+            done.addFirst(operation);
+        }
+        return operation;
+    }
+
+
+    /**
+     * Forgets every change, so none can be undone or redone.
+     */
+    void clear() {
+        done.clear();
+        undone.clear();
+    }
+
+
+    private void record(Operation operation) {
+        undone.clear(); // A new change ends the changes that were undone
+        done.addFirst(operation);
+        if (done.size() > CAPACITY) {
+            done.removeLast();
+        }
+    }
+}
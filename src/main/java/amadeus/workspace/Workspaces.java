@@ -0,0 +1,207 @@
+package amadeus.workspace;
+
+import amadeus.brain.AmadeusException;
+import amadeus.brain.Database;
+import amadeus.brain.StoreGuard;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+
+/**
+ * Manages the named task lists, keeping the most recently used ones loaded.
+ * <p>
+ * The default list {@value #DEFAULT_LIST} is stored in {@link Database#STORE_PATH}, and every other
+ * list in its own directory inside {@link #LISTS_PATH}. At most {@link #CAPACITY_PROPERTY} lists
+ * (by default {@value #DEFAULT_CAPACITY}) stay loaded, in an access-ordered map, so switching back
+ * to a recent list only swaps references, while memory stays bounded however many lists exist on disk.
+ * </p>
+ * <p>
+ * When another list has to be loaded and the cache is full, the least recently used list is evicted:
+ * any unsaved changes are written back to its shards, a snapshot is written so that it loads quickly
+ * next time, and its reminders stop. The current list is never evicted. Every list keeps its
+ * own archive in its folder.
+ * </p>
+ */
+public class Workspaces {
+    /**
+     * The name of the list used when the application starts.
+     */
+    public static final String DEFAULT_LIST = "main";
+
+    /**
+     * The directory holding the directories of every list other than the default one.
+     */
+    public static final String LISTS_PATH = "lists";
+
+    /**
+     * System property holding how many lists stay loaded at once.
+     */
+    public static final String CAPACITY_PROPERTY = "amadeus.lists.loaded";
+
+    /**
+     * Number of lists that stay loaded at once by default.
+     */
+    public static final int DEFAULT_CAPACITY = 4;
+
+    private static final int CAPACITY = Math.max(1, Integer.getInteger(CAPACITY_PROPERTY, DEFAULT_CAPACITY));
+    private static final Pattern VALID_NAME = Pattern.compile("[a-z0-9][a-z0-9_-]{0,31}");
+
+    /**
+     * The loaded lists by name, least recently used first.
+     */
+    private static final LinkedHashMap<String, TaskList.State> loaded = new LinkedHashMap<>(16, 0.75f, true);
+
+
+    /**
+     * Makes a list the current list, loading it if needed. A list that does not exist yet is created
+     * empty, and stored once a task is added to it.
+     *
+     * @param name the name of the list, in lower case.
+     * @return {@code true} if the list already existed.
+     * @throws AmadeusException if the name is invalid or an error occurs while loading the list.
+     */
+    public static boolean use(String name) throws AmadeusException {
+        if (!VALID_NAME.matcher(name).matches()) {
+            // Invalid List Name Exception
+            throw AmadeusException.invalidListName();
+        }
+
+        // Touching the task list first loads the default list, if this is the first use
+        TaskList.getTaskList();
+
+        // Switch to a loaded list by swapping references
+        TaskList.State state = loaded.get(name);
+        if (state != null) {
+            TaskList.attach(state);
+            return true;
+        }
+
+        boolean isExisting = exists(name);
+        state = new TaskList.State(name, new Database.Store(pathOf(name)));
+        TaskList.load(state);
+        loaded.put(name, state);
+        evict();
+        return isExisting;
+    }
+
+
+    /**
+     * Replaces the state of a loaded list, such as when the list is reset or the reset is undone.
+     *
+     * @param state the new state of the list.
+     */
+    static void replace(TaskList.State state) {
+        loaded.put(state.name, state);
+    }
+
+
+    /**
+     * Returns the names of every list, on disk or loaded, in alphabetical order.
+     *
+     * @return the list names.
+     */
+    public static TreeSet<String> getNames() {
+        TreeSet<String> names = new TreeSet<>(loaded.keySet());
+        names.add(DEFAULT_LIST);
+        File[] directories = new File(LISTS_PATH).listFiles(File::isDirectory);
+        if (directories != null) {
+            for (File directory : directories) {
+                if (VALID_NAME.matcher(directory.getName()).matches()) {
+                    names.add(directory.getName());
+                }
+            }
+        }
+        return names;
+    }
+
+
+    /**
+     * Checks whether a list is loaded.
+     *
+     * @param name the name of the list.
+     * @return {@code true} if the list is in the cache.
+     */
+    public static boolean isLoaded(String name) {
+        return loaded.containsKey(name);
+    }
+
+
+    /**
+     * Returns the number of tasks in a list. Loaded lists are counted directly, and other lists
+     * from their manifest without loading them.
+     *
+     * @param name the name of the list.
+     * @return the number of tasks in the list.
+     */
+    public static int countTasks(String name) {
+        TaskList.State state = loaded.get(name);
+        return state != null ? state.tasks.size() : Database.countTasks(pathOf(name));
+    }
+
+
+    /**
+     * Writes a snapshot of every loaded list, so each of them loads quickly next time.
+     *
+     * @throws AmadeusException if an error occurs while writing a snapshot.
+     */
+    public static void saveAll() throws AmadeusException {
+        for (TaskList.State state : new ArrayList<>(loaded.values())) {
+            writeBack(state);
+        }
+    }
+
+
+    /**
+     * Evicts the least recently used lists until the cache is within its capacity.
+     *
+     * @throws AmadeusException if an error occurs while writing back an evicted list.
+     */
+    private static void evict() throws AmadeusException {
+        Iterator<Map.Entry<String, TaskList.State>> eldest = loaded.entrySet().iterator();
+        while (loaded.size() > CAPACITY && eldest.hasNext()) {
+            TaskList.State state = eldest.next().getValue();
+            if (state.name.equals(TaskList.getName())) {
+                continue; // Never evict the current list
+            }
+            eldest.remove();
+            Reminders.deactivate(state.reminders);
+            writeBack(state);
+            StoreGuard.unwatch(state.store);
+        }
+    }
+
+
+    /**
+     * Writes any unsaved changes of a list to its shards, followed by a snapshot.
+     *
+     * @param state the list to write back.
+     * @throws AmadeusException if an error occurs while writing the list.
+     */
+    private static void writeBack(TaskList.State state) throws AmadeusException {
+        Database.Store active = Database.getStore();
+        Database.setStore(state.store);
+        try {
+            if (Database.hasPendingChanges()) {
+                Database.save(state.tasks);
+            }
+            Database.saveSnapshot(state.tasks);
+        } finally {
+            Database.setStore(active);
+        }
+    }
+
+
+    private static boolean exists(String name) {
+        return name.equals(DEFAULT_LIST) || new File(pathOf(name)).isDirectory();
+    }
+
+
+    private static String pathOf(String name) {
+        return name.equals(DEFAULT_LIST) ? Database.STORE_PATH : LISTS_PATH + File.separator + name;
+    }
+}
@@ -12,9 +12,27 @@
  *   <li>{@link amadeus.workspace.Task}: Abstract base class representing a generic task.</li>
  *   <li>{@link amadeus.workspace.TaskList}: Manages the list of tasks and provides methods to
  *       add, mark, delete, and reset tasks.</li>
+ *   <li>{@link amadeus.workspace.Workspaces}: Keeps the most recently used named task lists loaded.</li>
  *   <li>{@link amadeus.workspace.ToDo}: Represents a simple task with no specific date or time constraints.</li>
  *   <li>{@link amadeus.workspace.Deadline}: Represents a task with a specific deadline.</li>
  *   <li>{@link amadeus.workspace.Event}: Represents a scheduled event task with a start and end time.</li>
+ *   <li>{@link amadeus.workspace.Name}: Stores a task name as compact bytes with its case-folded form.</li>
+ *   <li>{@link amadeus.workspace.NamePool}: Shares one name among all tasks with identical names.</li>
+ *   <li>{@link amadeus.workspace.Recurrence}: Repeats a deadline or event, expanding occurrences on demand.</li>
+ *   <li>{@link amadeus.workspace.Agenda}: Orders the pending deadlines and events by due time.</li>
+ *   <li>{@link amadeus.workspace.Conflicts}: Detects overlapping events with a sweep over their start times.</li>
+ *   <li>{@link amadeus.workspace.FreeSlots}: Streams the free time between events.</li>
+ *   <li>{@link amadeus.workspace.Reminders}: Reminds the user of pending tasks shortly before they are due.</li>
+ *   <li>{@link amadeus.workspace.TimerWheel}: Holds the reminder timers with constant-time arming and cancelling.</li>
+ *   <li>{@link amadeus.workspace.BkTree}: Indexes the words of task names for searches that allow typos.</li>
+ *   <li>{@link amadeus.workspace.IntervalTree}: Indexes the date spans of deadlines and events for date queries.</li>
+ *   <li>{@link amadeus.workspace.LongMap}: Finds tasks by identifier without boxing the keys.</li>
+ *   <li>{@link amadeus.workspace.Query}: Plans and runs queries combining conditions over the indexes above.</li>
+ *   <li>{@link amadeus.workspace.Counters}: Counts tasks by type, status and due week without scanning the list.</li>
+ *   <li>{@link amadeus.workspace.DayIndex}: Indexes deadlines and events by every day they fall on.</li>
+ *   <li>{@link amadeus.workspace.UndoLog}: Records the latest changes to a list as operations that invert them.</li>
+ *   <li>{@link amadeus.workspace.Changes}: Publishes every change to a list on a feed read off the command thread.</li>
+ *   <li>{@link amadeus.workspace.SortedViews}: Keeps the task list sorted by due date, name and status on demand.</li>
  * </ul>
  *
  * <h2>Usage Example</h2>
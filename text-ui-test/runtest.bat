@@ -15,9 +15,20 @@ IF ERRORLEVEL 1 (
 )
 REM no error here, errorlevel == 0
 
+REM delete the lists saved by the previous run, so every run starts from Memory.txt alone
+if exist memory rmdir /S /Q memory
+if exist memory.lock del memory.lock
+if exist lists rmdir /S /Q lists
+
+REM restore the legacy task file if an interrupted run left it migrated
+if exist Memory.txt.migrated move /Y Memory.txt.migrated Memory.txt > NUL
+
 REM run the program, feed commands from input.txt file and redirect the output to the FULL_OUTPUT.TXT
 java -Dfile.encoding=UTF-8 -classpath ..\bin amadeus.Amadeus < input.txt > FULL_OUTPUT.TXT
 
+REM restore the legacy task file, which the run renames once it is migrated
+if exist Memory.txt.migrated move /Y Memory.txt.migrated Memory.txt > NUL
+
 REM Skips the Amadeus Introduction for comparison
 REM powershell -Command "Get-Content FULL_OUTPUT.TXT | Select-Object -Skip 46 | Set-Content SKIP_INTRO.TXT"
 
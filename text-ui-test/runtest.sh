@@ -0,0 +1,44 @@
+#!/usr/bin/env bash
+
+# create bin directory if it doesn't exist
+mkdir -p ../bin
+
+# delete output from previous run
+rm -f FULL_OUTPUT.TXT
+
+# compile the code into the bin folder, terminates if error occurred
+if ! javac -encoding UTF-8 -cp ../src/main/java -Xlint:none -d ../bin ../src/main/java/amadeus/*.java
+then
+    echo "********** BUILD FAILURE **********"
+    exit 1
+fi
+
+# delete the lists saved by the previous run, so every run starts from Memory.txt alone
+rm -rf memory memory.lock lists
+
+# restore the legacy task file if an interrupted run left it migrated
+if [ -e Memory.txt.migrated ]
+then
+    mv -f Memory.txt.migrated Memory.txt
+fi
+
+# run the program, feed commands from input.txt file and redirect the output to the FULL_OUTPUT.TXT
+java -Dfile.encoding=UTF-8 -classpath ../bin amadeus.Amadeus < input.txt > FULL_OUTPUT.TXT
+
+# restore the legacy task file, which the run renames once it is migrated
+if [ -e Memory.txt.migrated ]
+then
+    mv -f Memory.txt.migrated Memory.txt
+fi
+
+# compare the output to the expected output, ignoring line endings and trailing spaces
+if diff -Z <(tr -d '\r' < FULL_OUTPUT.TXT) <(tr -d '\r' < EXPECTED.TXT)
+then
+    echo "********** TEST PASSED **********"
+    echo "The contents of FULL_OUTPUT.TXT and EXPECTED.TXT match."
+    exit 0
+else
+    echo "********** TEST FAILED **********"
+    echo "The contents of FULL_OUTPUT.TXT and EXPECTED.TXT do not match."
+    exit 1
+fi